@@ -15,11 +15,15 @@ public final class GuiceAnnotations {
   public static final String JAKARTA_INJECT = "jakarta.inject.Inject";
   public static final String PROVIDES = "com.google.inject.Provides";
   public static final String BINDING_ANNOTATION = "com.google.inject.BindingAnnotation";
+  public static final String JAVAX_QUALIFIER = "javax.inject.Qualifier";
+  public static final String JAKARTA_QUALIFIER = "jakarta.inject.Qualifier";
   public static final String PROVIDED_BY = "com.google.inject.ProvidedBy";
   public static final String IMPLEMENTED_BY = "com.google.inject.ImplementedBy";
   public static final String TRANSACTIONAL = "com.google.inject.persist.Transactional";
 
   public static final String NAMED = "com.google.inject.name.Named";
+  public static final String JAVAX_NAMED = "javax.inject.Named";
+  public static final String JAKARTA_NAMED = "jakarta.inject.Named";
   public static final String ASSISTED = "com.google.inject.assistedinject.Assisted";
   public static final String ASSISTED_INJECT = "com.google.inject.assistedinject.AssistedInject";
 
@@ -27,10 +31,19 @@ public final class GuiceAnnotations {
   public static final String ENDPOINT = "com.guicedee.rest.client.annotations.Endpoint";
   public static final String CONFIG_PROPERTY = "org.eclipse.microprofile.config.inject.ConfigProperty";
 
+  // JAX-RS resources
+  public static final String JAKARTA_PATH = "jakarta.ws.rs.Path";
+  public static final String JAVAX_PATH = "javax.ws.rs.Path";
+
   // Scope annotations
   public static final String SINGLETON = "com.google.inject.Singleton";
+  public static final String JAVAX_SINGLETON = "javax.inject.Singleton";
+  public static final String JAKARTA_SINGLETON = "jakarta.inject.Singleton";
   public static final String SESSION_SCOPED = "com.google.inject.servlet.SessionScoped";
   public static final String REQUEST_SCOPED = "com.google.inject.servlet.RequestScoped";
+  public static final String SCOPE_ANNOTATION = "com.google.inject.ScopeAnnotation";
+  public static final String JAVAX_SCOPE = "javax.inject.Scope";
+  public static final String JAKARTA_SCOPE = "jakarta.inject.Scope";
   public static final String REQUEST_PARAMETERS = "com.google.inject.servlet.RequestParameters";
 
   /**
@@ -40,4 +53,32 @@ public final class GuiceAnnotations {
   public static final Collection<String> INJECTS = List.of(
     INJECT, JAVAX_INJECT, JAKARTA_INJECT, ENDPOINT, CONFIG_PROPERTY
   );
+
+  /**
+   * {@code @Named} variants Guice treats as the same binding annotation.
+   */
+  public static final Collection<String> NAMED_ANNOTATIONS = List.of(
+    NAMED, JAVAX_NAMED, JAKARTA_NAMED
+  );
+
+  /**
+   * JAX-RS {@code @Path} variants marking REST resources.
+   */
+  public static final Collection<String> PATHS = List.of(
+    JAKARTA_PATH, JAVAX_PATH
+  );
+
+  /**
+   * Meta-annotations that make an annotation a binding annotation; Guice accepts JSR-330 qualifiers as well.
+   */
+  public static final Collection<String> BINDING_META_ANNOTATIONS = List.of(
+    BINDING_ANNOTATION, JAVAX_QUALIFIER, JAKARTA_QUALIFIER
+  );
+
+  /**
+   * Meta-annotations that make an annotation a scope annotation.
+   */
+  public static final Collection<String> SCOPE_META_ANNOTATIONS = List.of(
+    SCOPE_ANNOTATION, JAVAX_SCOPE, JAKARTA_SCOPE
+  );
 }
@@ -1,21 +1,52 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.constants;
 
+import java.util.Collection;
+import java.util.List;
+
 public final class GuiceClasses {
 
   private GuiceClasses() {
   }
 
+  public static final String MODULE = "com.google.inject.Module";
   public static final String ABSTRACT_MODULE = "com.google.inject.AbstractModule";
 
   public static final String PROVIDER = "com.google.inject.Provider";
+  public static final String JAVAX_PROVIDER = "javax.inject.Provider";
+  public static final String JAKARTA_PROVIDER = "jakarta.inject.Provider";
+  public static final String INJECTOR = "com.google.inject.Injector";
+  public static final String MEMBERS_INJECTOR = "com.google.inject.MembersInjector";
   public static final String SCOPED_BINDING_BUILDER = "com.google.inject.binder.ScopedBindingBuilder";
   public static final String LINKED_BINDING_BUILDER = "com.google.inject.binder.LinkedBindingBuilder";
 
   // GuicedEE IGuiceModule SPI — implementations extend AbstractModule and implement this interface
   public static final String GUICEDEE_ABSTRACT_MODULE = "com.guicedee.client.services.lifecycle.IGuiceModule";
 
+  public static final String GUICE_CONTEXT = "com.guicedee.client.IGuiceContext";
+  public static final String GUICE_PRE_STARTUP = "com.guicedee.client.services.lifecycle.IGuicePreStartup";
+  public static final String GUICE_POST_STARTUP = "com.guicedee.client.services.lifecycle.IGuicePostStartup";
+  public static final String DATABASE_MODULE = "com.guicedee.persistence.DatabaseModule";
+
+  public static final String KAFKA_TOPIC_CONSUMER = "com.guicedee.kafka.KafkaTopicConsumer";
+  public static final String RABBIT_QUEUE_CONSUMER = "com.guicedee.rabbit.QueueConsumer";
+  public static final String IBMMQ_CONSUMER = "com.guicedee.ibmmq.IBMMQConsumer";
+
   public static final String MATCHERS = "com.google.inject.matcher.Matchers";
   public static final String SCOPES = "com.google.inject.Scopes";
   public static final String SERVLET_SCOPES = "com.google.inject.servlet.ServletScopes";
+
+  /**
+   * {@code Provider} variants Guice injects for any bound type.
+   */
+  public static final Collection<String> PROVIDERS = List.of(
+    PROVIDER, JAVAX_PROVIDER, JAKARTA_PROVIDER
+  );
+
+  /**
+   * GuicedEE message consumer interfaces.
+   */
+  public static final Collection<String> MESSAGE_CONSUMERS = List.of(
+    KAFKA_TOPIC_CONSUMER, RABBIT_QUEUE_CONSUMER, IBMMQ_CONSUMER
+  );
 }
@@ -0,0 +1,245 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Indexes every {@code bind(X).annotatedWith(..).to/toInstance/toProvider/toConstructor(..).in(..)} chain,
+ * keyed by the short name of the bound type {@code X}.
+ * <p>
+ * The index is purely syntactic; {@link #findCall(PsiFile, Binding)} restores the anchor call so callers can
+ * resolve and verify the bound type against its fully qualified name.
+ */
+public final class GuiceBindingIndex extends FileBasedIndexExtension<String, List<GuiceBindingIndex.Binding>> {
+  public static final ID<String, List<Binding>> NAME = ID.create("com.guicedee.guice.bindings");
+
+  public enum Kind {
+    TO("to"),
+    TO_INSTANCE("toInstance"),
+    TO_PROVIDER("toProvider"),
+    TO_CONSTRUCTOR("toConstructor"),
+    /**
+     * {@code bind(X)} or {@code bind(X).in(..)} without a linked target; anchored on the outermost call of the chain.
+     */
+    UNTARGETTED(null);
+
+    private final @Nullable String myMethodName;
+
+    Kind(@Nullable String methodName) {
+      myMethodName = methodName;
+    }
+
+    public @Nullable String getMethodName() {
+      return myMethodName;
+    }
+
+    static @Nullable Kind forMethodName(@Nullable String methodName) {
+      for (Kind kind : values()) {
+        if (kind.myMethodName != null && kind.myMethodName.equals(methodName)) return kind;
+      }
+      return null;
+    }
+  }
+
+  /**
+   * A single indexed binding chain.
+   * <p>
+   * Only the anchor is stored: the graph restores every chain of a changed file anyway, and the qualifier, target and
+   * scope written in the chain are resolved from the restored call.
+   */
+  public static final class Binding {
+    private final int myOffset;
+    private final @NotNull Kind myKind;
+
+    public Binding(int offset, @NotNull Kind kind) {
+      myOffset = offset;
+      myKind = kind;
+    }
+
+    /**
+     * Start offset of the anchor call's method name identifier, e.g. {@code to} in {@code bind(A.class).to(B.class)}.
+     */
+    public int getOffset() {
+      return myOffset;
+    }
+
+    public @NotNull Kind getKind() {
+      return myKind;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Binding binding)) return false;
+      return myOffset == binding.myOffset && myKind == binding.myKind;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(myOffset, myKind);
+    }
+  }
+
+  @Override
+  public @NotNull ID<String, List<Binding>> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, List<Binding>, FileContent> getIndexer() {
+    return inputData -> {
+      if (StringUtil.indexOf(inputData.getContentAsText(), "bind") < 0) return Collections.emptyMap();
+
+      Map<String, List<Binding>> result = new HashMap<>();
+      inputData.getPsiFile().accept(new JavaRecursiveElementWalkingVisitor() {
+        @Override
+        public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+          super.visitMethodCallExpression(expression);
+          if (!"bind".equals(expression.getMethodExpression().getReferenceName())) return;
+
+          final PsiExpression[] args = expression.getArgumentList().getExpressions();
+          if (args.length != 1) return;
+          final String boundType = GuiceIndexUtil.getShortTypeName(args[0]);
+          if (boundType == null) return;
+
+          final Binding binding = createBinding(expression);
+          if (binding != null) {
+            result.computeIfAbsent(boundType, k -> new ArrayList<>()).add(binding);
+          }
+        }
+      });
+      return result;
+    };
+  }
+
+  private static @Nullable Binding createBinding(@NotNull PsiMethodCallExpression bindCall) {
+    Kind kind = Kind.UNTARGETTED;
+    PsiMethodCallExpression anchor = null;
+
+    PsiMethodCallExpression call = bindCall;
+    while (call.getParent() instanceof PsiReferenceExpression reference &&
+           reference.getParent() instanceof PsiMethodCallExpression next &&
+           next.getMethodExpression() == reference) {
+      call = next;
+      if (anchor == null && next.getArgumentList().getExpressionCount() == 1) {
+        final Kind linkedKind = Kind.forMethodName(reference.getReferenceName());
+        if (linkedKind != null) {
+          kind = linkedKind;
+          anchor = next;
+        }
+      }
+    }
+
+    final PsiElement nameElement = (anchor != null ? anchor : call).getMethodExpression().getReferenceNameElement();
+    if (nameElement == null) return null;
+    return new Binding(nameElement.getTextRange().getStartOffset(), kind);
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<List<Binding>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<Binding> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (Binding binding : value) {
+          DataInputOutputUtil.writeINT(out, binding.getOffset());
+          out.writeByte(binding.getKind().ordinal());
+        }
+      }
+
+      @Override
+      public List<Binding> read(@NotNull DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        List<Binding> bindings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          final int offset = DataInputOutputUtil.readINT(in);
+          final Kind kind = Kind.values()[in.readByte()];
+          bindings.add(new Binding(offset, kind));
+        }
+        return bindings;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Returns all bindings declared in the given file, keyed by the short name of the bound type.
+   */
+  public static @NotNull Map<String, List<Binding>> getFileBindings(@NotNull Project project, @NotNull VirtualFile file) {
+    return FileBasedIndex.getInstance().getFileData(NAME, file, project);
+  }
+
+  /**
+   * Returns the files within {@code scope} that declare at least one binding.
+   */
+  public static @NotNull Set<VirtualFile> getFilesWithBindings(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+    final FileBasedIndex index = FileBasedIndex.getInstance();
+    Set<VirtualFile> files = new HashSet<>();
+    index.processAllKeys(NAME, key -> {
+      files.addAll(index.getContainingFiles(NAME, key, scope));
+      return true;
+    }, scope, null);
+    return files;
+  }
+
+  /**
+   * Processes the bindings of the type with the given short name declared within {@code scope}.
+   */
+  public static boolean processBindings(@NotNull String boundTypeShortName,
+                                        @NotNull GlobalSearchScope scope,
+                                        @NotNull FileBasedIndex.ValueProcessor<? super List<Binding>> processor) {
+    return FileBasedIndex.getInstance().processValues(NAME, boundTypeShortName, null, processor, scope);
+  }
+
+  /**
+   * Restores the anchor call of an indexed binding, or {@code null} if the file changed in an incompatible way.
+   */
+  public static @Nullable PsiMethodCallExpression findCall(@NotNull PsiFile file, @NotNull Binding binding) {
+    final PsiElement element = file.findElementAt(binding.getOffset());
+    if (element instanceof PsiIdentifier &&
+        element.getParent() instanceof PsiReferenceExpression reference &&
+        reference.getParent() instanceof PsiMethodCallExpression call) {
+      final String expected = binding.getKind().getMethodName();
+      if (expected == null || expected.equals(reference.getReferenceName())) {
+        return call;
+      }
+    }
+    return null;
+  }
+}
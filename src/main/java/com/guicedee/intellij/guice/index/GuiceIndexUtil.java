@@ -0,0 +1,122 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.index;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Syntactic helpers shared by the Guice file based indexes.
+ * <p>
+ * Indexers must not resolve references, so every name produced here is the name <i>as written</i> in source.
+ * Index keys are the short (unqualified, erased) type names; consumers verify the resolved type on lookup.
+ */
+public final class GuiceIndexUtil {
+  static final String NAMED = "Named";
+  private static final String NAMED_PREFIX = NAMED + ":";
+
+  private GuiceIndexUtil() { }
+
+  /**
+   * Returns the short erased name of the type referenced by a {@code bind(..)}/{@code to(..)} style argument:
+   * {@code Foo.class}, {@code new TypeLiteral<Foo<Bar>>() {}} or {@code Key.get(Foo.class, ..)}.
+   */
+  public static @Nullable String getShortTypeName(@Nullable PsiExpression expression) {
+    expression = PsiUtil.skipParenthesizedExprDown(expression);
+    if (expression instanceof PsiClassObjectAccessExpression classObject) {
+      return getShortTypeName(classObject.getOperand());
+    }
+    if (expression instanceof PsiNewExpression newExpression) {
+      final PsiJavaCodeReferenceElement reference = newExpression.getClassOrAnonymousClassReference();
+      if (reference != null && "TypeLiteral".equals(reference.getReferenceName())) {
+        final PsiReferenceParameterList parameterList = reference.getParameterList();
+        if (parameterList != null) {
+          final PsiTypeElement[] typeArguments = parameterList.getTypeParameterElements();
+          if (typeArguments.length == 1) {
+            return getShortTypeName(typeArguments[0]);
+          }
+        }
+      }
+      return null;
+    }
+    if (expression instanceof PsiMethodCallExpression call) {
+      final PsiReferenceExpression methodExpression = call.getMethodExpression();
+      final PsiExpression qualifier = methodExpression.getQualifierExpression();
+      if ("get".equals(methodExpression.getReferenceName()) &&
+          qualifier instanceof PsiReferenceExpression && "Key".equals(((PsiReferenceExpression)qualifier).getReferenceName())) {
+        final PsiExpression[] args = call.getArgumentList().getExpressions();
+        return args.length > 0 ? getShortTypeName(args[0]) : null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the short erased name of a type element, e.g. {@code Provider} for {@code com.google.inject.Provider<Foo>}.
+   */
+  public static @Nullable String getShortTypeName(@Nullable PsiTypeElement typeElement) {
+    if (typeElement == null) return null;
+    final PsiJavaCodeReferenceElement reference = typeElement.getInnermostComponentReferenceElement();
+    if (reference != null) {
+      return reference.getReferenceName();
+    }
+    final String text = typeElement.getText();
+    return StringUtil.isEmptyOrSpaces(text) ? null : text.trim();
+  }
+
+  /**
+   * Returns the erased short name for a fully qualified (or nested binary) class name.
+   */
+  public static @NotNull String getShortName(@NotNull String qualifiedName) {
+    return StringUtil.getShortName(StringUtil.getShortName(qualifiedName), '$');
+  }
+
+  /**
+   * Returns the {@code @Named} qualifier written on a modifier list: {@code Named:x} for {@code @Named("x")}, {@code Named}
+   * when the value is not a literal, and {@code null} without a {@code @Named} annotation. {@code @Named} is the only binding
+   * annotation that can be recognized without resolving, so other qualifiers are not indexed.
+   */
+  public static @Nullable String getNamedQualifier(@Nullable PsiModifierList modifierList) {
+    if (modifierList == null) return null;
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      final PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+      if (reference == null || !isNamedReference(reference.getText())) continue;
+
+      final PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue(null);
+      if (value instanceof PsiLiteralExpression literal && literal.getValue() instanceof String named) {
+        return NAMED_PREFIX + named;
+      }
+      return NAMED;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the {@code @Named} qualifier of a compiled annotation, see {@link #getNamedQualifier(PsiModifierList)}.
+   */
+  public static @NotNull String getNamedQualifier(@Nullable String value) {
+    return value != null ? NAMED_PREFIX + value : NAMED;
+  }
+
+  public static boolean isNamedAnnotation(@NotNull String qualifiedName) {
+    return GuiceAnnotations.NAMED_ANNOTATIONS.contains(qualifiedName);
+  }
+
+  private static boolean isNamedReference(@NotNull String referenceText) {
+    final String text = StringUtil.replace(referenceText, " ", "");
+    return NAMED.equals(text) || isNamedAnnotation(text);
+  }
+
+  /**
+   * Returns {@code false} if an indexed element with the {@code indexed} {@code @Named} qualifier can not satisfy a key whose
+   * {@code @Named} qualifier is {@code requested}; both are in the format of {@link #getNamedQualifier(PsiModifierList)}.
+   * A key with another qualifier or none at all is {@code null}, and is only satisfied by elements without {@code @Named}.
+   */
+  public static boolean mayMatchNamedQualifier(@Nullable String indexed, @Nullable String requested) {
+    if (requested == null || indexed == null) return requested == null && indexed == null;
+    return NAMED.equals(requested) || NAMED.equals(indexed) || requested.equals(indexed);
+  }
+}
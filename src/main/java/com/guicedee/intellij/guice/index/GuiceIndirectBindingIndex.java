@@ -0,0 +1,156 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indexes keys bound without a {@code bind(..)} call, which {@link GuiceBindingIndex} does not see:
+ * <ul>
+ *   <li>{@code new FactoryModuleBuilder()..build(Factory.class)} and {@code ..implement(Product.class, ..)}, keyed by
+ *   {@link #getFactoryKey(String)} of the short erased name of the argument;</li>
+ *   <li>{@code bindConstant().annotatedWith(Names.named("x"))}, keyed by {@link #getConstantKey(String)} of its {@code @Named}
+ *   qualifier, see {@link GuiceIndexUtil#getNamedQualifier(PsiModifierList)};</li>
+ *   <li>{@code bindConstant().annotatedWith(..)} with any other qualifier and {@code Names.bindProperties(..)}, whose keys can
+ *   not be told without resolving or reading the properties, under {@link #ANY_CONSTANT}.</li>
+ * </ul>
+ * Only the existence of a binding is recorded.
+ */
+public final class GuiceIndirectBindingIndex extends ScalarIndexExtension<String> {
+  public static final ID<String, Void> NAME = ID.create("com.guicedee.guice.indirectBindings");
+
+  private static final String FACTORY_MODULE_BUILDER = "FactoryModuleBuilder";
+  private static final String ANY_CONSTANT = "CONSTANT";
+
+  @Override
+  public @NotNull ID<String, Void> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
+    return inputData -> {
+      final CharSequence text = inputData.getContentAsText();
+      if (StringUtil.indexOf(text, FACTORY_MODULE_BUILDER) < 0 &&
+          StringUtil.indexOf(text, "bindConstant") < 0 &&
+          StringUtil.indexOf(text, "bindProperties") < 0) {
+        return Map.of();
+      }
+
+      Map<String, Void> result = new HashMap<>();
+      inputData.getPsiFile().accept(new JavaRecursiveElementWalkingVisitor() {
+        @Override
+        public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+          super.visitMethodCallExpression(expression);
+          final String name = expression.getMethodExpression().getReferenceName();
+          final PsiExpression[] args = expression.getArgumentList().getExpressions();
+          if (("build".equals(name) || "implement".equals(name)) && args.length > 0 && isFactoryModuleBuilderChain(expression)) {
+            final String factoryType = GuiceIndexUtil.getShortTypeName(args[0]);
+            if (factoryType != null) {
+              result.put(getFactoryKey(factoryType), null);
+            }
+          }
+          else if ("annotatedWith".equals(name) && args.length == 1 && isBindConstantChain(expression)) {
+            final String named = getNamedQualifier(args[0]);
+            result.put(named != null ? getConstantKey(named) : ANY_CONSTANT, null);
+          }
+          else if ("bindProperties".equals(name)) {
+            result.put(ANY_CONSTANT, null);
+          }
+        }
+      });
+      return result;
+    };
+  }
+
+  private static boolean isFactoryModuleBuilderChain(@NotNull PsiMethodCallExpression call) {
+    PsiExpression qualifier = call.getMethodExpression().getQualifierExpression();
+    while (qualifier instanceof PsiMethodCallExpression methodCall) {
+      qualifier = methodCall.getMethodExpression().getQualifierExpression();
+    }
+    if (qualifier instanceof PsiNewExpression newExpression) {
+      final PsiJavaCodeReferenceElement reference = newExpression.getClassReference();
+      return reference != null && FACTORY_MODULE_BUILDER.equals(reference.getReferenceName());
+    }
+    return false;
+  }
+
+  private static boolean isBindConstantChain(@NotNull PsiMethodCallExpression call) {
+    return call.getMethodExpression().getQualifierExpression() instanceof PsiMethodCallExpression bindConstant &&
+           "bindConstant".equals(bindConstant.getMethodExpression().getReferenceName());
+  }
+
+  /**
+   * Returns the qualifier of {@code Names.named("x")}, or {@code null} for anything else.
+   */
+  private static @Nullable String getNamedQualifier(@NotNull PsiExpression qualifier) {
+    if (!(qualifier instanceof PsiMethodCallExpression call) || !"named".equals(call.getMethodExpression().getReferenceName())) {
+      return null;
+    }
+    final PsiExpression[] args = call.getArgumentList().getExpressions();
+    return args.length == 1 && args[0] instanceof PsiLiteralExpression literal && literal.getValue() instanceof String named
+           ? GuiceIndexUtil.getNamedQualifier(named)
+           : null;
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  public static @NotNull String getFactoryKey(@NotNull String factoryTypeShortName) {
+    return FACTORY_MODULE_BUILDER + ":" + factoryTypeShortName;
+  }
+
+  public static @NotNull String getConstantKey(@NotNull String namedQualifier) {
+    return ANY_CONSTANT + ":" + namedQualifier;
+  }
+
+  /**
+   * Returns {@code true} if a file within {@code scope} builds an assisted-inject factory, or implements a factory product,
+   * of the type with the given short name.
+   */
+  public static boolean hasFactory(@Nullable String factoryTypeShortName, @NotNull GlobalSearchScope scope) {
+    return factoryTypeShortName != null && hasKey(getFactoryKey(factoryTypeShortName), scope);
+  }
+
+  /**
+   * Returns {@code true} if a file within {@code scope} may bind a constant with the given {@code @Named} qualifier, or with
+   * another qualifier when {@code namedQualifier} is {@code null}: either a {@code bindConstant()} with that qualifier, or a
+   * constant binding whose qualifier the index could not tell. A {@code @Named} qualifier without a literal value may match
+   * any constant, so it is always {@code true}.
+   */
+  public static boolean mayBindConstant(@Nullable String namedQualifier, @NotNull GlobalSearchScope scope) {
+    if (GuiceIndexUtil.NAMED.equals(namedQualifier) || hasKey(ANY_CONSTANT, scope)) return true;
+    return namedQualifier != null && hasKey(getConstantKey(namedQualifier), scope);
+  }
+
+  private static boolean hasKey(@NotNull String key, @NotNull GlobalSearchScope scope) {
+    return !FileBasedIndex.getInstance().processValues(NAME, key, null, (file, value) -> false, scope);
+  }
+}
@@ -0,0 +1,219 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.index;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Indexes injection sites — fields annotated with one of {@link GuiceAnnotations#INJECTS} and the parameters of
+ * annotated methods and constructors — keyed by the short erased name of the injected type, so a lookup for a JIT or
+ * bound type costs one key access followed by resolving only the matching candidates.
+ */
+public final class GuiceInjectionPointIndex extends FileBasedIndexExtension<String, List<GuiceInjectionPointIndex.Site>> {
+  public static final ID<String, List<Site>> NAME = ID.create("com.guicedee.guice.injectionPoints");
+
+  private static final Set<String> INJECT_SHORT_NAMES = ContainerUtil.map2Set(GuiceAnnotations.INJECTS, GuiceIndexUtil::getShortName);
+
+  /**
+   * A single indexed injection site. Qualifiers can not be told from other annotations without resolving, so they are
+   * read from the restored owner.
+   */
+  public static final class Site {
+    private final int myOffset;
+
+    public Site(int offset) {
+      myOffset = offset;
+    }
+
+    /**
+     * Start offset of the name identifier of the injected field or parameter.
+     */
+    public int getOffset() {
+      return myOffset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      return o instanceof Site site && myOffset == site.myOffset;
+    }
+
+    @Override
+    public int hashCode() {
+      return myOffset;
+    }
+  }
+
+  @Override
+  public @NotNull ID<String, List<Site>> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, List<Site>, FileContent> getIndexer() {
+    return inputData -> {
+      final CharSequence text = inputData.getContentAsText();
+      if (!ContainerUtil.exists(INJECT_SHORT_NAMES, name -> StringUtil.contains(text, name))) return Collections.emptyMap();
+
+      Map<String, List<Site>> result = new HashMap<>();
+      inputData.getPsiFile().accept(new JavaRecursiveElementWalkingVisitor() {
+        @Override
+        public void visitField(@NotNull PsiField field) {
+          super.visitField(field);
+          if (isInjectAnnotated(field)) {
+            addSite(result, field.getTypeElement(), field.getNameIdentifier());
+          }
+        }
+
+        @Override
+        public void visitMethod(@NotNull PsiMethod method) {
+          super.visitMethod(method);
+          if (isInjectAnnotated(method)) {
+            for (PsiParameter parameter : method.getParameterList().getParameters()) {
+              addSite(result, parameter.getTypeElement(), parameter.getNameIdentifier());
+            }
+          }
+        }
+      });
+      return result;
+    };
+  }
+
+  private static boolean isInjectAnnotated(@NotNull PsiModifierListOwner owner) {
+    final PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) return false;
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      final PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+      if (reference != null && INJECT_SHORT_NAMES.contains(reference.getReferenceName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void addSite(@NotNull Map<String, List<Site>> result,
+                              @Nullable PsiTypeElement typeElement,
+                              @Nullable PsiIdentifier nameIdentifier) {
+    final String typeName = GuiceIndexUtil.getShortTypeName(typeElement);
+    if (typeName == null || nameIdentifier == null) return;
+
+    final Site site = new Site(nameIdentifier.getTextRange().getStartOffset());
+    result.computeIfAbsent(typeName, k -> new ArrayList<>()).add(site);
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<List<Site>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<Site> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (Site site : value) {
+          DataInputOutputUtil.writeINT(out, site.getOffset());
+        }
+      }
+
+      @Override
+      public List<Site> read(@NotNull DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        List<Site> sites = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          sites.add(new Site(DataInputOutputUtil.readINT(in)));
+        }
+        return sites;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Processes the injection sites of the type with the given short name within {@code scope}.
+   */
+  public static boolean processSites(@NotNull String typeShortName,
+                                     @NotNull GlobalSearchScope scope,
+                                     @NotNull FileBasedIndex.ValueProcessor<? super List<Site>> processor) {
+    return FileBasedIndex.getInstance().processValues(NAME, typeShortName, null, processor, scope);
+  }
+
+  /**
+   * Returns the short names of all injected types within {@code scope}.
+   */
+  public static @NotNull Collection<String> getInjectedTypeNames(@NotNull GlobalSearchScope scope) {
+    Set<String> names = new HashSet<>();
+    FileBasedIndex.getInstance().processAllKeys(NAME, name -> {
+      names.add(name);
+      return true;
+    }, scope, null);
+    return names;
+  }
+
+  /**
+   * Returns the files within {@code scope} that declare at least one injection site.
+   */
+  public static @NotNull Set<VirtualFile> getFilesWithSites(@NotNull GlobalSearchScope scope) {
+    final FileBasedIndex index = FileBasedIndex.getInstance();
+    Set<VirtualFile> files = new HashSet<>();
+    index.processAllKeys(NAME, key -> {
+      files.addAll(index.getContainingFiles(NAME, key, scope));
+      return true;
+    }, scope, null);
+    return files;
+  }
+
+  /**
+   * Returns all injection sites declared in the given file, keyed by the short name of the injected type.
+   */
+  public static @NotNull Map<String, List<Site>> getFileSites(@NotNull Project project, @NotNull VirtualFile file) {
+    return FileBasedIndex.getInstance().getFileData(NAME, file, project);
+  }
+
+  /**
+   * Restores the injected field or parameter of an indexed site, or {@code null} if the file changed in an incompatible way.
+   */
+  public static @Nullable PsiModifierListOwner findOwner(@NotNull PsiFile file, @NotNull Site site) {
+    final PsiElement element = file.findElementAt(site.getOffset());
+    if (element instanceof PsiIdentifier) {
+      final PsiElement parent = element.getParent();
+      if (parent instanceof PsiField || parent instanceof PsiParameter) {
+        return (PsiModifierListOwner)parent;
+      }
+    }
+    return null;
+  }
+}
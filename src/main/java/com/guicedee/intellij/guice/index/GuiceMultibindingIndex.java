@@ -0,0 +1,124 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indexes {@code Multibinder.newSetBinder(..)}, {@code MapBinder.newMapBinder(..)} and {@code OptionalBinder.newOptionalBinder(..)}
+ * calls and {@code @ProvidesIntoSet}/{@code @ProvidesIntoMap}/{@code @ProvidesIntoOptional} methods, keyed by
+ * {@link #getKey(Kind, String)} of the kind of contribution and the short erased name of the element type.
+ * <p>
+ * Only the existence of a contribution is recorded, so qualifiers are not told apart.
+ */
+public final class GuiceMultibindingIndex extends ScalarIndexExtension<String> {
+  public static final ID<String, Void> NAME = ID.create("com.guicedee.guice.multibindings");
+
+  public enum Kind {
+    SET("newSetBinder", "ProvidesIntoSet", 1),
+    MAP("newMapBinder", "ProvidesIntoMap", 2),
+    OPTIONAL("newOptionalBinder", "ProvidesIntoOptional", 1);
+
+    private final @NotNull String myFactoryMethod;
+    private final @NotNull String myProvidesAnnotation;
+    private final int myElementArgument;
+
+    Kind(@NotNull String factoryMethod, @NotNull String providesAnnotation, int elementArgument) {
+      myFactoryMethod = factoryMethod;
+      myProvidesAnnotation = providesAnnotation;
+      myElementArgument = elementArgument;
+    }
+  }
+
+  @Override
+  public @NotNull ID<String, Void> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
+    return inputData -> {
+      final CharSequence text = inputData.getContentAsText();
+      if (StringUtil.indexOf(text, "Binder") < 0 && StringUtil.indexOf(text, "ProvidesInto") < 0) return Map.of();
+
+      Map<String, Void> result = new HashMap<>();
+      inputData.getPsiFile().accept(new JavaRecursiveElementWalkingVisitor() {
+        @Override
+        public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+          super.visitMethodCallExpression(expression);
+          final String name = expression.getMethodExpression().getReferenceName();
+          for (Kind kind : Kind.values()) {
+            if (!kind.myFactoryMethod.equals(name)) continue;
+            final PsiExpression[] args = expression.getArgumentList().getExpressions();
+            final String elementType = args.length > kind.myElementArgument
+                                       ? GuiceIndexUtil.getShortTypeName(args[kind.myElementArgument])
+                                       : null;
+            if (elementType != null) {
+              result.put(getKey(kind, elementType), null);
+            }
+          }
+        }
+
+        @Override
+        public void visitMethod(@NotNull PsiMethod method) {
+          super.visitMethod(method);
+          for (PsiAnnotation annotation : method.getModifierList().getAnnotations()) {
+            final PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            final String name = reference != null ? reference.getReferenceName() : null;
+            for (Kind kind : Kind.values()) {
+              if (!kind.myProvidesAnnotation.equals(name)) continue;
+              final String elementType = GuiceIndexUtil.getShortTypeName(method.getReturnTypeElement());
+              if (elementType != null) {
+                result.put(getKey(kind, elementType), null);
+              }
+            }
+          }
+        }
+      });
+      return result;
+    };
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  public static @NotNull String getKey(@NotNull Kind kind, @NotNull String elementTypeShortName) {
+    return kind.name() + ":" + elementTypeShortName;
+  }
+
+  /**
+   * Returns {@code true} if a file within {@code scope} contributes to a multibinding of the element type with the given
+   * short name, or to its optional binding.
+   */
+  public static boolean hasContribution(@NotNull Kind kind, @Nullable String elementTypeShortName, @NotNull GlobalSearchScope scope) {
+    if (elementTypeShortName == null) return false;
+    return !FileBasedIndex.getInstance().processValues(NAME, getKey(kind, elementTypeShortName), null, (file, value) -> false, scope);
+  }
+}
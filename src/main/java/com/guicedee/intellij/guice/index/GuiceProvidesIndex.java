@@ -0,0 +1,356 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.index;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.intellij.ide.highlighter.JavaClassFileType;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.org.objectweb.asm.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Indexes {@code @Provides} methods of both source files and compiled library classes,
+ * keyed by the short erased name of the product (return) type.
+ * <p>
+ * Source methods are restored by offset; compiled methods are restored by owner class, name and parameter count.
+ * The {@code @Named} qualifier of each method is stored alongside, so lookups for a key skip the methods it rules out
+ * before restoring them.
+ */
+public final class GuiceProvidesIndex extends FileBasedIndexExtension<String, List<GuiceProvidesIndex.ProvidesMethod>> {
+  public static final ID<String, List<ProvidesMethod>> NAME = ID.create("com.guicedee.guice.provides");
+
+  private static final String PROVIDES_SHORT_NAME = GuiceIndexUtil.getShortName(GuiceAnnotations.PROVIDES);
+  private static final String PROVIDES_DESCRIPTOR = "L" + GuiceAnnotations.PROVIDES.replace('.', '/') + ";";
+  private static final byte[] PROVIDES_BYTES = GuiceAnnotations.PROVIDES.replace('.', '/').getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * A single indexed {@code @Provides} method.
+   */
+  public static final class ProvidesMethod {
+    private final int myOffset;
+    private final @NotNull String myMethodName;
+    private final int myParameterCount;
+    private final @Nullable String myOwnerClass;
+    private final @Nullable String myNamedQualifier;
+
+    public ProvidesMethod(int offset, @NotNull String methodName, int parameterCount, @Nullable String ownerClass, @Nullable String namedQualifier) {
+      myOffset = offset;
+      myMethodName = methodName;
+      myParameterCount = parameterCount;
+      myOwnerClass = ownerClass;
+      myNamedQualifier = namedQualifier;
+    }
+
+    /**
+     * Start offset of the method name identifier in a source file, or {@code -1} for compiled methods.
+     */
+    public int getOffset() {
+      return myOffset;
+    }
+
+    public @NotNull String getMethodName() {
+      return myMethodName;
+    }
+
+    public int getParameterCount() {
+      return myParameterCount;
+    }
+
+    /**
+     * Qualified name of the declaring class for compiled methods, {@code null} for source methods.
+     */
+    public @Nullable String getOwnerClass() {
+      return myOwnerClass;
+    }
+
+    /**
+     * The {@code @Named} qualifier of the method, see {@link GuiceIndexUtil#getNamedQualifier(PsiModifierList)}.
+     */
+    public @Nullable String getNamedQualifier() {
+      return myNamedQualifier;
+    }
+
+    public boolean isCompiled() {
+      return myOffset < 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof ProvidesMethod method)) return false;
+      return myOffset == method.myOffset &&
+             myParameterCount == method.myParameterCount &&
+             myMethodName.equals(method.myMethodName) &&
+             Objects.equals(myOwnerClass, method.myOwnerClass) &&
+             Objects.equals(myNamedQualifier, method.myNamedQualifier);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(myOffset, myMethodName, myParameterCount, myOwnerClass, myNamedQualifier);
+    }
+  }
+
+  @Override
+  public @NotNull ID<String, List<ProvidesMethod>> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, List<ProvidesMethod>, FileContent> getIndexer() {
+    return inputData -> {
+      if (inputData.getFileType() == JavaClassFileType.INSTANCE) {
+        return indexClassFile(inputData.getContent());
+      }
+      if (!StringUtil.contains(inputData.getContentAsText(), PROVIDES_SHORT_NAME)) return Collections.emptyMap();
+
+      Map<String, List<ProvidesMethod>> result = new HashMap<>();
+      inputData.getPsiFile().accept(new JavaRecursiveElementWalkingVisitor() {
+        @Override
+        public void visitMethod(@NotNull PsiMethod method) {
+          super.visitMethod(method);
+          final PsiModifierList modifierList = method.getModifierList();
+          if (!hasAnnotation(modifierList, PROVIDES_SHORT_NAME)) return;
+
+          final String productType = GuiceIndexUtil.getShortTypeName(method.getReturnTypeElement());
+          final PsiIdentifier nameIdentifier = method.getNameIdentifier();
+          if (productType == null || nameIdentifier == null) return;
+
+          final ProvidesMethod provides = new ProvidesMethod(nameIdentifier.getTextRange().getStartOffset(), method.getName(),
+                                                             method.getParameterList().getParametersCount(), null,
+                                                             GuiceIndexUtil.getNamedQualifier(modifierList));
+          result.computeIfAbsent(productType, k -> new ArrayList<>()).add(provides);
+        }
+      });
+      return result;
+    };
+  }
+
+  private static boolean hasAnnotation(@NotNull PsiModifierList modifierList, @NotNull String shortName) {
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      final PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+      if (reference != null && shortName.equals(reference.getReferenceName())) return true;
+    }
+    return false;
+  }
+
+  private static @NotNull Map<String, List<ProvidesMethod>> indexClassFile(byte @NotNull [] content) {
+    if (!contains(content, PROVIDES_BYTES)) return Collections.emptyMap();
+
+    Map<String, List<ProvidesMethod>> result = new HashMap<>();
+    try {
+      new ClassReader(content).accept(new ClassVisitor(Opcodes.API_VERSION) {
+        private String myClassName;
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+          myClassName = name.replace('/', '.').replace('$', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+          if ((access & (Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE)) != 0) return null;
+          return new ProvidesMethodVisitor(result, myClassName, name, descriptor);
+        }
+      }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    }
+    catch (RuntimeException ignored) {
+      // malformed or unsupported class file; nothing to index
+    }
+    return result;
+  }
+
+  private static final class ProvidesMethodVisitor extends MethodVisitor {
+    private final Map<String, List<ProvidesMethod>> myResult;
+    private final String myClassName;
+    private final String myMethodName;
+    private final String myDescriptor;
+    private boolean myNamed;
+    private String myNamedValue;
+    private boolean myProvides;
+
+    ProvidesMethodVisitor(Map<String, List<ProvidesMethod>> result, String className, String methodName, String descriptor) {
+      super(Opcodes.API_VERSION);
+      myResult = result;
+      myClassName = className;
+      myMethodName = methodName;
+      myDescriptor = descriptor;
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+      if (PROVIDES_DESCRIPTOR.equals(descriptor)) {
+        myProvides = true;
+        return null;
+      }
+      if (!GuiceIndexUtil.isNamedAnnotation(Type.getType(descriptor).getClassName())) return null;
+      myNamed = true;
+
+      return new AnnotationVisitor(Opcodes.API_VERSION) {
+        @Override
+        public void visit(String name, Object value) {
+          if ("value".equals(name) && value instanceof String named) {
+            myNamedValue = named;
+          }
+        }
+      };
+    }
+
+    @Override
+    public void visitEnd() {
+      if (!myProvides) return;
+
+      final Type returnType = Type.getReturnType(myDescriptor);
+      if (returnType.getSort() != Type.OBJECT && returnType.getSort() != Type.ARRAY) return;
+
+      final String productType = GuiceIndexUtil.getShortName(returnType.getClassName());
+      final String qualifier = myNamed ? GuiceIndexUtil.getNamedQualifier(myNamedValue) : null;
+      final ProvidesMethod provides =
+        new ProvidesMethod(-1, myMethodName, Type.getArgumentTypes(myDescriptor).length, myClassName, qualifier);
+      myResult.computeIfAbsent(productType, k -> new ArrayList<>()).add(provides);
+    }
+  }
+
+  private static boolean contains(byte @NotNull [] content, byte @NotNull [] pattern) {
+    outer:
+    for (int i = 0; i <= content.length - pattern.length; i++) {
+      for (int j = 0; j < pattern.length; j++) {
+        if (content[i + j] != pattern[j]) continue outer;
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<List<ProvidesMethod>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<ProvidesMethod> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (ProvidesMethod method : value) {
+          DataInputOutputUtil.writeINT(out, method.getOffset() + 1);
+          IOUtil.writeUTF(out, method.getMethodName());
+          DataInputOutputUtil.writeINT(out, method.getParameterCount());
+          DataInputOutputUtil.writeNullable(out, method.getOwnerClass(), s -> IOUtil.writeUTF(out, s));
+          DataInputOutputUtil.writeNullable(out, method.getNamedQualifier(), s -> IOUtil.writeUTF(out, s));
+        }
+      }
+
+      @Override
+      public List<ProvidesMethod> read(@NotNull DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        List<ProvidesMethod> methods = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          final int offset = DataInputOutputUtil.readINT(in) - 1;
+          final String methodName = IOUtil.readUTF(in);
+          final int parameterCount = DataInputOutputUtil.readINT(in);
+          final String ownerClass = DataInputOutputUtil.readNullable(in, () -> IOUtil.readUTF(in));
+          final String qualifier = DataInputOutputUtil.readNullable(in, () -> IOUtil.readUTF(in));
+          methods.add(new ProvidesMethod(offset, methodName, parameterCount, ownerClass, qualifier));
+        }
+        return methods;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE, JavaClassFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Processes the {@code @Provides} methods whose product type has the given short name within {@code scope}.
+   * Use {@link GuiceIndexUtil#mayMatchNamedQualifier(String, String)} to skip the methods of another qualifier.
+   */
+  public static boolean processProvides(@NotNull String productTypeShortName,
+                                        @NotNull GlobalSearchScope scope,
+                                        @NotNull FileBasedIndex.ValueProcessor<? super List<ProvidesMethod>> processor) {
+    return FileBasedIndex.getInstance().processValues(NAME, productTypeShortName, null, processor, scope);
+  }
+
+  /**
+   * Returns the source files within {@code scope} that declare at least one {@code @Provides} method.
+   */
+  public static @NotNull Set<VirtualFile> getSourceFilesWithProvides(@NotNull GlobalSearchScope scope) {
+    final FileBasedIndex index = FileBasedIndex.getInstance();
+    Set<VirtualFile> files = new HashSet<>();
+    index.processAllKeys(NAME, key -> {
+      for (VirtualFile file : index.getContainingFiles(NAME, key, scope)) {
+        if (FileTypeRegistry.getInstance().isFileOfType(file, JavaFileType.INSTANCE)) {
+          files.add(file);
+        }
+      }
+      return true;
+    }, scope, null);
+    return files;
+  }
+
+  /**
+   * Returns all {@code @Provides} methods declared in the given file, keyed by the short name of the product type.
+   */
+  public static @NotNull Map<String, List<ProvidesMethod>> getFileProvides(@NotNull Project project, @NotNull VirtualFile file) {
+    return FileBasedIndex.getInstance().getFileData(NAME, file, project);
+  }
+
+  /**
+   * Restores an indexed {@code @Provides} method, or {@code null} if it can no longer be found.
+   */
+  public static @Nullable PsiMethod findMethod(@NotNull Project project,
+                                              @NotNull VirtualFile file,
+                                              @NotNull ProvidesMethod provides,
+                                              @NotNull GlobalSearchScope scope) {
+    if (!provides.isCompiled()) {
+      final PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+      final PsiElement element = psiFile != null ? psiFile.findElementAt(provides.getOffset()) : null;
+      if (element instanceof PsiIdentifier && element.getParent() instanceof PsiMethod method &&
+          provides.getMethodName().equals(method.getName())) {
+        return method;
+      }
+      return null;
+    }
+
+    final String ownerClass = provides.getOwnerClass();
+    final PsiClass psiClass = ownerClass != null ? JavaPsiFacade.getInstance(project).findClass(ownerClass, scope) : null;
+    if (psiClass == null) return null;
+    for (PsiMethod method : psiClass.findMethodsByName(provides.getMethodName(), false)) {
+      if (method.getParameterList().getParametersCount() == provides.getParameterCount()) {
+        return method;
+      }
+    }
+    return null;
+  }
+}
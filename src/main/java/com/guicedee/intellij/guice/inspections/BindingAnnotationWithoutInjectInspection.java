@@ -4,6 +4,7 @@ package com.guicedee.intellij.guice.inspections;
 import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
@@ -11,8 +12,6 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Collection;
 import java.util.List;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
-
 public final class BindingAnnotationWithoutInjectInspection extends BaseInspection {
   private static final Collection<String> INJECT_OR_PROVIDES =
     List.of(GuiceAnnotations.INJECT, GuiceAnnotations.JAVAX_INJECT, GuiceAnnotations.JAKARTA_INJECT, GuiceAnnotations.PROVIDES);
@@ -31,7 +30,8 @@ public final class BindingAnnotationWithoutInjectInspection extends BaseInspecti
     @Override
     public void visitAnnotation(@NotNull PsiAnnotation annotation) {
       super.visitAnnotation(annotation);
-      if (!isBindingAnnotation(annotation)) {
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(annotation);
+      if (!facts.isBindingAnnotation(annotation)) {
         return;
       }
       final PsiVariable boundVariable = PsiTreeUtil.getParentOfType(annotation, PsiVariable.class);
@@ -39,7 +39,7 @@ public final class BindingAnnotationWithoutInjectInspection extends BaseInspecti
         return;
       }
       if (boundVariable instanceof PsiField) {
-        if (!AnnotationUtil.isAnnotated(boundVariable, GuiceAnnotations.INJECTS, CHECK_HIERARCHY)) {
+        if (!facts.isAnnotated(boundVariable, GuiceAnnotations.INJECTS)) {
           registerError(annotation);
         }
       }
@@ -48,15 +48,15 @@ public final class BindingAnnotationWithoutInjectInspection extends BaseInspecti
         if (containingMethod == null) {
           return;
         }
-        if (!AnnotationUtil.isAnnotated(containingMethod, INJECT_OR_PROVIDES, 0) && !isAssisted(annotation, containingMethod)) {
+        if (!AnnotationUtil.isAnnotated(containingMethod, INJECT_OR_PROVIDES, 0) && !isAssisted(facts, annotation, containingMethod)) {
           registerError(annotation);
         }
       }
     }
 
-    private static boolean isAssisted(@NotNull PsiAnnotation annotation, @NotNull PsiMethod method) {
+    private static boolean isAssisted(@NotNull GuiceFileFacts facts, @NotNull PsiAnnotation annotation, @NotNull PsiMethod method) {
       if (!GuiceAnnotations.ASSISTED.equals(annotation.getQualifiedName())) return  false;
-      if (method.isConstructor() && AnnotationUtil.isAnnotated(method, GuiceAnnotations.ASSISTED_INJECT, CHECK_HIERARCHY)) return true;
+      if (method.isConstructor() && facts.isAnnotated(method, GuiceAnnotations.ASSISTED_INJECT)) return true;
       PsiClass containingClass = method.getContainingClass();
 
       return containingClass !=null && containingClass.isInterface();
@@ -64,14 +64,6 @@ public final class BindingAnnotationWithoutInjectInspection extends BaseInspecti
   }
 
   public static boolean isBindingAnnotation(PsiAnnotation annotation) {
-    final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
-    if (referenceElement == null) {
-      return false;
-    }
-    final PsiElement element = referenceElement.resolve();
-    if (!(element instanceof PsiClass annotationClass)) {
-      return false;
-    }
-    return AnnotationUtil.isAnnotated(annotationClass, GuiceAnnotations.BINDING_ANNOTATION, CHECK_HIERARCHY);
+    return GuiceFileFacts.getInstance(annotation).isBindingAnnotation(annotation);
   }
 }
\ No newline at end of file
@@ -1,16 +1,14 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiModifierListOwner;
 import org.jetbrains.annotations.NotNull;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
-
 public final class ConflictingAnnotationsInspection extends BaseInspection {
   @Override
   protected @NotNull String buildErrorString(Object... infos) {
@@ -31,35 +29,36 @@ public final class ConflictingAnnotationsInspection extends BaseInspection {
         return;
       }
       final String qualifiedName = annotation.getQualifiedName();
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(annotation);
       if (GuiceAnnotations.IMPLEMENTED_BY.equals(qualifiedName)) {
-        if (AnnotationUtil.isAnnotated(owner, GuiceAnnotations.PROVIDED_BY, CHECK_HIERARCHY)) {
+        if (facts.isAnnotated(owner, GuiceAnnotations.PROVIDED_BY)) {
           registerError(annotation);
         }
         return;
       }
       if (GuiceAnnotations.PROVIDED_BY.equals(qualifiedName)) {
-        if (AnnotationUtil.isAnnotated(owner, GuiceAnnotations.IMPLEMENTED_BY, CHECK_HIERARCHY)) {
+        if (facts.isAnnotated(owner, GuiceAnnotations.IMPLEMENTED_BY)) {
           registerError(annotation);
         }
         return;
       }
       if (GuiceAnnotations.SINGLETON.equals(qualifiedName)) {
-        if (AnnotationUtil.isAnnotated(owner, GuiceAnnotations.SESSION_SCOPED, CHECK_HIERARCHY) ||
-            AnnotationUtil.isAnnotated(owner, GuiceAnnotations.REQUEST_SCOPED, CHECK_HIERARCHY)) {
+        if (facts.isAnnotated(owner, GuiceAnnotations.SESSION_SCOPED) ||
+            facts.isAnnotated(owner, GuiceAnnotations.REQUEST_SCOPED)) {
           registerError(annotation);
         }
         return;
       }
       if (GuiceAnnotations.SESSION_SCOPED.equals(qualifiedName)) {
-        if (AnnotationUtil.isAnnotated(owner, GuiceAnnotations.SINGLETON, CHECK_HIERARCHY) ||
-            AnnotationUtil.isAnnotated(owner, GuiceAnnotations.REQUEST_SCOPED, CHECK_HIERARCHY)) {
+        if (facts.isAnnotated(owner, GuiceAnnotations.SINGLETON) ||
+            facts.isAnnotated(owner, GuiceAnnotations.REQUEST_SCOPED)) {
           registerError(annotation);
         }
         return;
       }
       if (GuiceAnnotations.REQUEST_SCOPED.equals(qualifiedName)) {
-        if (AnnotationUtil.isAnnotated(owner, GuiceAnnotations.SESSION_SCOPED, CHECK_HIERARCHY) ||
-            AnnotationUtil.isAnnotated(owner, GuiceAnnotations.SINGLETON, CHECK_HIERARCHY)) {
+        if (facts.isAnnotated(owner, GuiceAnnotations.SESSION_SCOPED) ||
+            facts.isAnnotated(owner, GuiceAnnotations.SINGLETON)) {
           registerError(annotation);
         }
       }
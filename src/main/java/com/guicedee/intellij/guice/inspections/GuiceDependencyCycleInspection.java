@@ -0,0 +1,74 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.inspections;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceBindingGraph;
+import com.guicedee.intellij.guice.model.GuiceDependencyCycles;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.psi.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Reports injection points that are part of a dependency cycle, which Guice can only resolve with a proxy for interfaces
+ * and fails on otherwise.
+ */
+public final class GuiceDependencyCycleInspection extends BaseInspection {
+  @Override
+  protected @NotNull String buildErrorString(Object... infos) {
+    return GuiceBundle.message("dependency.cycle.problem.descriptor", infos[0]);
+  }
+
+  @Override
+  public @Nullable LocalQuickFix buildFix(PsiElement location, Object[] infos) {
+    if (infos.length < 3 || !(infos[1] instanceof SmartPsiElementPointer<?> next)) return null;
+    return new NavigateToInjectionPointFix(next, (String)infos[2]);
+  }
+
+  @Override
+  public BaseInspectionVisitor buildVisitor() {
+    return new Visitor();
+  }
+
+  private static class Visitor extends BaseInspectionVisitor {
+    @Override
+    public void visitAnnotation(@NotNull PsiAnnotation annotation) {
+      super.visitAnnotation(annotation);
+      final String qualifiedName = annotation.getQualifiedName();
+      final boolean injects = qualifiedName != null && GuiceAnnotations.INJECTS.contains(qualifiedName);
+      if (!injects && !GuiceAnnotations.PROVIDES.equals(qualifiedName)) {
+        return;
+      }
+      final PsiElement owner = annotation.getParent().getParent();
+      if (owner instanceof PsiField field && injects) {
+        checkInjectionPoint(field);
+      }
+      else if (owner instanceof PsiMethod method) {
+        for (PsiParameter parameter : method.getParameterList().getParameters()) {
+          checkInjectionPoint(parameter);
+        }
+      }
+    }
+
+    private void checkInjectionPoint(@NotNull PsiVariable variable) {
+      final PsiTypeElement typeElement = variable.getTypeElement();
+      if (typeElement == null) return;
+      final List<GuiceBindingGraph.Dependency> cycle = GuiceDependencyCycles.getInstance(variable.getProject()).findCycle(variable);
+      if (cycle.isEmpty()) return;
+
+      // a self-loop leads back to the same injection point
+      final GuiceBindingGraph.Dependency next = cycle.get(cycle.size() > 1 ? 1 : 0);
+      final PsiModifierListOwner nextOwner = next.getOwner();
+      final String cycleText = GuiceDependencyCycles.getPresentableCycle(cycle);
+      if (nextOwner == null) {
+        registerError(typeElement, cycleText);
+        return;
+      }
+      registerError(typeElement, cycleText, SmartPointerManager.createPointer(nextOwner),
+                    GuiceDependencyCycles.getPresentableConsumer(next));
+    }
+  }
+}
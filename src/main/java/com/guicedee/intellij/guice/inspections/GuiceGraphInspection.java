@@ -0,0 +1,75 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.inspections;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.model.GuiceGraphAnalysis;
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.*;
+import com.intellij.codeInspection.options.OptPane;
+import com.intellij.codeInspection.reference.RefEntity;
+import com.intellij.codeInspection.reference.RefManager;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.intellij.codeInspection.options.OptPane.number;
+
+/**
+ * Checks the Guice binding graph of the whole project in one pass: unsatisfied injection points, ambiguous just-in-time
+ * implementations, duplicate bindings, scope widening and dependency cycles. Meant for batch runs such as {@code inspect.sh}, where the local
+ * inspections would resolve the same graph once per file.
+ */
+public final class GuiceGraphInspection extends GlobalInspectionTool {
+  private static final Logger LOG = Logger.getInstance(GuiceGraphInspection.class);
+
+  public int timeBudgetSeconds = 0;
+
+  @Override
+  public @NotNull OptPane getOptionsPane() {
+    return OptPane.pane(number("timeBudgetSeconds", GuiceBundle.message("guice.graph.time.budget.option"), 0, 24 * 60 * 60));
+  }
+
+  @Override
+  public boolean isGraphNeeded() {
+    return false;
+  }
+
+  @Override
+  public boolean isReadActionNeeded() {
+    // the analysis takes its own read actions, one per module worker
+    return false;
+  }
+
+  @Override
+  public void runInspection(@NotNull AnalysisScope scope,
+                            @NotNull InspectionManager manager,
+                            @NotNull GlobalInspectionContext globalContext,
+                            @NotNull ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+    final GuiceGraphAnalysis analysis = new GuiceGraphAnalysis(manager.getProject(), TimeUnit.SECONDS.toNanos(timeBudgetSeconds));
+    Queue<GuiceGraphAnalysis.Problem> problems = new ConcurrentLinkedQueue<>();
+    analysis.run(scope::contains, problems::add);
+    if (analysis.isIncomplete()) {
+      LOG.warn("Guice graph inspection stopped after its time budget of " + timeBudgetSeconds + " s; results are incomplete");
+    }
+
+    ApplicationManager.getApplication().runReadAction(() -> {
+      final RefManager refManager = globalContext.getRefManager();
+      for (GuiceGraphAnalysis.Problem problem : problems) {
+        final PsiElement element = problem.getElement();
+        if (!element.isValid()) continue;
+        RefEntity reference = refManager.getReference(element);
+        if (reference == null) {
+          reference = refManager.getReference(element.getContainingFile());
+        }
+        if (reference == null) continue;
+        problemDescriptionsProcessor.addProblemElement(reference, manager.createProblemDescriptor(
+          element, problem.getMessage(), false, LocalQuickFix.EMPTY_ARRAY, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
+      }
+    });
+  }
+}
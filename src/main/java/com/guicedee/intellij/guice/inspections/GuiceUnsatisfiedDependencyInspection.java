@@ -0,0 +1,62 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.inspections;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceKeySatisfiability;
+import com.intellij.psi.*;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports {@code @Inject} fields and parameters and {@code @Provides} parameters whose key nothing binds, provides or can
+ * instantiate just in time, which Guice would only report when the injector is created.
+ */
+public final class GuiceUnsatisfiedDependencyInspection extends BaseInspection {
+  @Override
+  protected @NotNull String buildErrorString(Object... infos) {
+    if (infos.length == 2) {
+      return GuiceBundle.message("unsatisfied.dependency.ambiguous.problem.descriptor", infos);
+    }
+    return GuiceBundle.message("unsatisfied.dependency.problem.descriptor", infos);
+  }
+
+  @Override
+  public BaseInspectionVisitor buildVisitor() {
+    return new Visitor();
+  }
+
+  private static class Visitor extends BaseInspectionVisitor {
+    @Override
+    public void visitAnnotation(@NotNull PsiAnnotation annotation) {
+      super.visitAnnotation(annotation);
+      final String qualifiedName = annotation.getQualifiedName();
+      final boolean injects = qualifiedName != null && GuiceAnnotations.INJECTS.contains(qualifiedName);
+      if (!injects && !GuiceAnnotations.PROVIDES.equals(qualifiedName)) {
+        return;
+      }
+      final PsiElement owner = annotation.getParent().getParent();
+      if (owner instanceof PsiField field && injects) {
+        checkInjectionPoint(field);
+      }
+      else if (owner instanceof PsiMethod method) {
+        for (PsiParameter parameter : method.getParameterList().getParameters()) {
+          checkInjectionPoint(parameter);
+        }
+      }
+    }
+
+    private void checkInjectionPoint(@NotNull PsiVariable variable) {
+      final PsiTypeElement typeElement = variable.getTypeElement();
+      if (typeElement == null) return;
+      final GuiceKeySatisfiability.Unsatisfied unsatisfied = GuiceKeySatisfiability.getInstance(variable.getProject()).check(variable);
+      if (unsatisfied == null) return;
+
+      if (unsatisfied.isAmbiguous()) {
+        registerError(typeElement, unsatisfied.getKey(), unsatisfied.getCandidateCount());
+      }
+      else {
+        registerError(typeElement, unsatisfied.getKey());
+      }
+    }
+  }
+}
@@ -1,13 +1,11 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
-
 public final class MultipleBindingAnnotationsInspection extends BaseInspection {
   @Override
   protected @NotNull String buildErrorString(Object... infos) {
@@ -27,10 +25,11 @@ public final class MultipleBindingAnnotationsInspection extends BaseInspection {
       if (modifiers == null) {
         return;
       }
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(variable);
       final PsiAnnotation[] annotations = modifiers.getAnnotations();
       int numBindingAnnotations = 0;
       for (PsiAnnotation annotation : annotations) {
-        if (isBindingAnnotation(annotation)) {
+        if (facts.isBindingAnnotation(annotation)) {
           numBindingAnnotations++;
         }
       }
@@ -41,14 +40,6 @@ public final class MultipleBindingAnnotationsInspection extends BaseInspection {
   }
 
   public static boolean isBindingAnnotation(PsiAnnotation annotation) {
-    final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
-    if (referenceElement == null) {
-      return false;
-    }
-    final PsiElement element = referenceElement.resolve();
-    if (!(element instanceof PsiClass annotationClass)) {
-      return false;
-    }
-    return AnnotationUtil.isAnnotated(annotationClass, "com.google.inject.BindingAnnotation", CHECK_HIERARCHY);
+    return GuiceFileFacts.getInstance(annotation).isBindingAnnotation(annotation);
   }
 }
\ No newline at end of file
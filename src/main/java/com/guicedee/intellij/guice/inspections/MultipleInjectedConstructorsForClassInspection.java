@@ -1,9 +1,9 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiMethod;
 import org.jetbrains.annotations.NotNull;
@@ -34,13 +34,14 @@ public final class MultipleInjectedConstructorsForClassInspection extends BaseIn
       if (constructors.length <= 1) {
         return;
       }
-      if (!AnnotationUtil.isAnnotated(method, GuiceAnnotations.INJECTS, AnnotationUtil.CHECK_HIERARCHY)) {
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(method);
+      if (!facts.isAnnotated(method, GuiceAnnotations.INJECTS)) {
         return;
       }
 
       int annotatedConstructorCount = 0;
       for (PsiMethod constructor : constructors) {
-        if (AnnotationUtil.isAnnotated(constructor, GuiceAnnotations.INJECTS, AnnotationUtil.CHECK_HIERARCHY)) {
+        if (facts.isAnnotated(constructor, GuiceAnnotations.INJECTS)) {
           annotatedConstructorCount++;
         }
       }
@@ -0,0 +1,52 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.inspections;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.intellij.codeInsight.intention.preview.IntentionPreviewInfo;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.pom.Navigatable;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.SmartPsiElementPointer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Navigates to another injection point, such as the next one of a dependency cycle.
+ */
+final class NavigateToInjectionPointFix implements LocalQuickFix {
+  private final @NotNull SmartPsiElementPointer<? extends PsiElement> myTarget;
+  private final @NotNull String myTargetName;
+
+  NavigateToInjectionPointFix(@NotNull SmartPsiElementPointer<? extends PsiElement> target, @NotNull String targetName) {
+    myTarget = target;
+    myTargetName = targetName;
+  }
+
+  @Override
+  public @NotNull String getName() {
+    return GuiceBundle.message("navigate.to.injection.point", myTargetName);
+  }
+
+  @Override
+  public @NotNull String getFamilyName() {
+    return GuiceBundle.message("navigate.to.injection.point.family.name");
+  }
+
+  @Override
+  public boolean startInWriteAction() {
+    return false;
+  }
+
+  @Override
+  public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project, @NotNull ProblemDescriptor previewDescriptor) {
+    return IntentionPreviewInfo.EMPTY;
+  }
+
+  @Override
+  public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+    if (myTarget.getElement() instanceof Navigatable navigatable && navigatable.canNavigate()) {
+      navigatable.navigate(true);
+    }
+  }
+}
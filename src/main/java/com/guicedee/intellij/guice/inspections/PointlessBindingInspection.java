@@ -1,11 +1,10 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.guicedee.intellij.guice.GuiceBundle;
-import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
@@ -82,24 +81,10 @@ public final class PointlessBindingInspection extends BaseInspection {
         return;
       }
       final PsiClass psiClass = ((PsiClassType)classType).resolve();
-      if (psiClass != null && usesInject(psiClass)) {
+      if (psiClass != null && GuiceFileFacts.getInstance(expression).hasInjectedMembers(psiClass)) {
         return;
       }
       registerError(expression);
     }
-
-    private static boolean usesInject(PsiClass aClass) {
-      for (PsiMethod method: aClass.getAllMethods()) {
-        if (AnnotationUtil.isAnnotated(method, GuiceAnnotations.INJECTS, AnnotationUtil.CHECK_HIERARCHY)) {
-          return true;
-        }
-      }
-      for (PsiField field: aClass.getAllFields()) {
-        if (AnnotationUtil.isAnnotated(field, GuiceAnnotations.INJECTS, AnnotationUtil.CHECK_HIERARCHY)) {
-          return true;
-        }
-      }
-      return false;
-    }
   }
 }
\ No newline at end of file
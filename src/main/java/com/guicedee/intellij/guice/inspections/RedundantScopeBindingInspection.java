@@ -1,16 +1,14 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
-
 public final class RedundantScopeBindingInspection extends BaseInspection {
   @Override
   protected @NotNull String buildErrorString(Object... infos) {
@@ -48,11 +46,13 @@ public final class RedundantScopeBindingInspection extends BaseInspection {
       if (annotation == null) {
         return;
       }
-      final PsiClass boundClass = GuiceUtils.findImplementedClassForBinding(expression);
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(expression);
+      final GuiceFileFacts.BindingChain chain = facts.getBindingChain(expression);
+      final PsiClass boundClass = chain != null ? chain.getBoundClass() : null;
       if (boundClass == null) {
         return;
       }
-      if (!AnnotationUtil.isAnnotated(boundClass, annotation, CHECK_HIERARCHY)) {
+      if (!facts.isAnnotated(boundClass, annotation)) {
         return;
       }
       registerError(arg);
@@ -1,18 +1,14 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
-import com.guicedee.intellij.guice.utils.AnnotationUtils;
-import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
-
 public final class RedundantToProviderBindingInspection extends BaseInspection {
   @Override
   protected @NotNull String buildErrorString(Object... infos) {
@@ -55,31 +51,18 @@ public final class RedundantToProviderBindingInspection extends BaseInspection {
       if (referentClass == null) {
         return;
       }
-      final PsiClass boundClass = GuiceUtils.findImplementedClassForBinding(expression);
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(expression);
+      final GuiceFileFacts.BindingChain chain = facts.getBindingChain(expression);
+      final PsiClass boundClass = chain != null ? chain.getBoundClass() : null;
       if (boundClass == null) {
         return;
       }
-      if (!AnnotationUtil.isAnnotated(boundClass, GuiceAnnotations.PROVIDED_BY, CHECK_HIERARCHY)) {
+      if (!facts.isAnnotated(boundClass, GuiceAnnotations.PROVIDED_BY)) {
         return;
       }
-      final PsiAnnotation providedByAnnotation = boundClass.getModifierList().findAnnotation(GuiceAnnotations.PROVIDED_BY);
-      if (providedByAnnotation != null) {
-        final PsiElement defaultValue = AnnotationUtils.findDefaultValue(providedByAnnotation);
-        if (defaultValue == null) {
-          return;
-        }
-        if (!(defaultValue instanceof PsiClassObjectAccessExpression)) {
-          return;
-        }
-        final PsiTypeElement providedByClassElement = ((PsiClassObjectAccessExpression)defaultValue).getOperand();
-        final PsiType providedByClassType = providedByClassElement.getType();
-        if (!(providedByClassType instanceof PsiClassType)) {
-          return;
-        }
-        final PsiClass providedByClass = ((PsiClassType)providedByClassType).resolve();
-        if (referentClass.equals(providedByClass)) {
-          registerError(classTypeElement);
-        }
+      final PsiClass providedByClass = facts.getProvidedByClass(boundClass);
+      if (referentClass.equals(providedByClass)) {
+        registerError(classTypeElement);
       }
     }
   }
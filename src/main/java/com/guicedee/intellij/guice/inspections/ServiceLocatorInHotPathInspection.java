@@ -0,0 +1,241 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.inspections;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.guicedee.intellij.guice.model.GuiceScope;
+import com.guicedee.intellij.guice.utils.MutationUtils;
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.codeStyle.VariableKind;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Reports {@code IGuiceContext.get(..)} and {@code Injector.getInstance(..)} calls on hot paths: in loops, in callbacks passed
+ * to Vert.x and Mutiny, and in REST resource and message consumer methods. Every call looks the key up again, and builds
+ * a new instance of an unscoped class reflectively.
+ */
+public final class ServiceLocatorInHotPathInspection extends BaseInspection {
+  private static final List<String> ASYNC_API_PACKAGES = List.of("io.vertx.", "io.smallrye.mutiny.");
+
+  private enum HotPath {
+    LOOP("service.locator.in.hot.path.loop"),
+    ASYNC_CALLBACK("service.locator.in.hot.path.async.callback"),
+    RESOURCE_METHOD("service.locator.in.hot.path.resource.method"),
+    CONSUMER_METHOD("service.locator.in.hot.path.consumer.method");
+
+    private final String myMessageKey;
+
+    HotPath(String messageKey) {
+      myMessageKey = messageKey;
+    }
+  }
+
+  @Override
+  protected @NotNull String buildErrorString(Object... infos) {
+    return GuiceBundle.message("service.locator.in.hot.path.problem.descriptor", GuiceBundle.message(((HotPath)infos[0]).myMessageKey));
+  }
+
+  @Override
+  public @Nullable LocalQuickFix buildFix(PsiElement location, Object[] infos) {
+    final PsiMethodCallExpression call = PsiTreeUtil.getParentOfType(location, PsiMethodCallExpression.class);
+    final PsiClassType lookedUpType = call != null ? getLookedUpType(call) : null;
+    if (lookedUpType == null || findTargetClass(call) == null) return null;
+    final PsiClass lookedUpClass = lookedUpType.resolve();
+    // an unscoped class is built on every lookup, which only a Provider keeps doing
+    final boolean provider = lookedUpClass == null || GuiceScope.of(lookedUpClass) != GuiceScope.SINGLETON;
+    return new HoistLookupToFieldFix(lookedUpType.getPresentableText(), provider);
+  }
+
+  @Override
+  public BaseInspectionVisitor buildVisitor() {
+    return new Visitor();
+  }
+
+  private static class Visitor extends BaseInspectionVisitor {
+    @Override
+    public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+      super.visitMethodCallExpression(expression);
+      if (!isServiceLocatorCall(expression)) return;
+      final HotPath hotPath = getHotPath(expression);
+      if (hotPath != null) {
+        registerMethodCallError(expression, hotPath);
+      }
+    }
+  }
+
+  private static boolean isServiceLocatorCall(@NotNull PsiMethodCallExpression expression) {
+    final String name = expression.getMethodExpression().getReferenceName();
+    if (!"get".equals(name) && !"getInstance".equals(name)) return false;
+    final PsiMethod method = expression.resolveMethod();
+    final PsiClass containingClass = method != null ? method.getContainingClass() : null;
+    if (containingClass == null) return false;
+    return "get".equals(name)
+           ? GuiceClasses.GUICE_CONTEXT.equals(containingClass.getQualifiedName()) && method.hasModifierProperty(PsiModifier.STATIC)
+           : InheritanceUtil.isInheritor(containingClass, false, GuiceClasses.INJECTOR);
+  }
+
+  /**
+   * Walks up from the call to the method declaring it, looking for a loop or a callback of an asynchronous API on the way.
+   */
+  private static @Nullable HotPath getHotPath(@NotNull PsiMethodCallExpression call) {
+    PsiElement element = call;
+    PsiElement parent = element.getParent();
+    while (parent != null) {
+      if (parent instanceof PsiLoopStatement loop && isEvaluatedPerIteration(loop, element)) {
+        return HotPath.LOOP;
+      }
+      if (parent instanceof PsiLambdaExpression lambda && isAsyncCallback(lambda)) {
+        return HotPath.ASYNC_CALLBACK;
+      }
+      if (parent instanceof PsiMethod method) {
+        final PsiClass containingClass = method.getContainingClass();
+        if (containingClass instanceof PsiAnonymousClass anonymousClass && anonymousClass.getParent() instanceof PsiNewExpression newExpression) {
+          if (isAsyncCallback(newExpression)) return HotPath.ASYNC_CALLBACK;
+          // keep walking up the enclosing method
+          element = newExpression;
+          parent = newExpression.getParent();
+          continue;
+        }
+        return getMethodHotPath(method);
+      }
+      if (parent instanceof PsiClass || parent instanceof PsiClassInitializer || parent instanceof PsiField) {
+        return null;
+      }
+      element = parent;
+      parent = element.getParent();
+    }
+    return null;
+  }
+
+  private static boolean isEvaluatedPerIteration(@NotNull PsiLoopStatement loop, @NotNull PsiElement child) {
+    if (loop instanceof PsiForStatement forStatement) return child != forStatement.getInitialization();
+    if (loop instanceof PsiForeachStatement foreachStatement) return child != foreachStatement.getIteratedValue();
+    return true;
+  }
+
+  private static boolean isAsyncCallback(@NotNull PsiExpression callback) {
+    final PsiElement parent = PsiUtil.skipParenthesizedExprUp(callback.getParent());
+    if (!(parent instanceof PsiExpressionList list) || !(list.getParent() instanceof PsiCallExpression call)) return false;
+    final PsiMethod method = call.resolveMethod();
+    final PsiClass containingClass = method != null ? method.getContainingClass() : null;
+    final String qualifiedName = containingClass != null ? containingClass.getQualifiedName() : null;
+    if (qualifiedName == null) return false;
+    for (String prefix : ASYNC_API_PACKAGES) {
+      if (qualifiedName.startsWith(prefix)) return true;
+    }
+    return false;
+  }
+
+  private static @Nullable HotPath getMethodHotPath(@NotNull PsiMethod method) {
+    if (method.isConstructor() || method.hasModifierProperty(PsiModifier.STATIC)) return null;
+    final PsiClass containingClass = method.getContainingClass();
+    if (containingClass == null) return null;
+    if (AnnotationUtil.isAnnotated(containingClass, GuiceAnnotations.PATHS, 0) ||
+        AnnotationUtil.isAnnotated(method, GuiceAnnotations.PATHS, 0)) {
+      return method.hasModifierProperty(PsiModifier.PUBLIC) ? HotPath.RESOURCE_METHOD : null;
+    }
+    for (String consumer : GuiceClasses.MESSAGE_CONSUMERS) {
+      if (InheritanceUtil.isInheritor(containingClass, consumer)) return HotPath.CONSUMER_METHOD;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the type looked up by a {@code get(X.class)} or {@code getInstance(X.class)} call, or {@code null} for keys.
+   */
+  private static @Nullable PsiClassType getLookedUpType(@NotNull PsiMethodCallExpression call) {
+    final PsiExpression[] arguments = call.getArgumentList().getExpressions();
+    if (arguments.length != 1) return null;
+    return PsiUtil.skipParenthesizedExprDown(arguments[0]) instanceof PsiClassObjectAccessExpression classObject &&
+           classObject.getOperand().getType() instanceof PsiClassType classType ? classType : null;
+  }
+
+  /**
+   * Returns the named class whose instance members enclose the call, which an injected field can be added to.
+   */
+  private static @Nullable PsiClass findTargetClass(@NotNull PsiElement element) {
+    PsiMember member = PsiTreeUtil.getParentOfType(element, PsiMember.class);
+    while (member != null) {
+      final PsiClass containingClass = member.getContainingClass();
+      if (member.hasModifierProperty(PsiModifier.STATIC) || containingClass == null) return null;
+      if (!(containingClass instanceof PsiAnonymousClass) && containingClass.getQualifiedName() != null) {
+        return containingClass.isInterface() || containingClass.isRecord() ? null : containingClass;
+      }
+      member = PsiTreeUtil.getParentOfType(containingClass, PsiMember.class);
+    }
+    return null;
+  }
+
+  /**
+   * Replaces the lookup with an injected field of the looked up type, or of a {@code Provider} of it for classes that are not
+   * singletons, so that each call still gets the instance the lookup would.
+   */
+  private static class HoistLookupToFieldFix implements LocalQuickFix {
+    private final String myTypeName;
+    private final boolean myProvider;
+
+    HoistLookupToFieldFix(String typeName, boolean provider) {
+      myTypeName = typeName;
+      myProvider = provider;
+    }
+
+    @Override
+    public @NotNull String getName() {
+      return myProvider
+             ? GuiceBundle.message("hoist.lookup.to.provider.field", myTypeName)
+             : GuiceBundle.message("hoist.lookup.to.field", myTypeName);
+    }
+
+    @Override
+    public @NotNull String getFamilyName() {
+      return GuiceBundle.message("hoist.lookup.to.field.family.name");
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+      final PsiMethodCallExpression call = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiMethodCallExpression.class);
+      if (call == null) return;
+      final PsiClassType lookedUpType = getLookedUpType(call);
+      final PsiClass targetClass = findTargetClass(call);
+      if (lookedUpType == null || targetClass == null) return;
+
+      final PsiElementFactory factory = JavaPsiFacade.getElementFactory(project);
+      final PsiType fieldType = myProvider
+                                ? factory.createTypeFromText(GuiceClasses.PROVIDER + "<" + lookedUpType.getCanonicalText() + ">", targetClass)
+                                : lookedUpType;
+      PsiField field = findInjectedField(targetClass, fieldType);
+      if (field == null) {
+        final JavaCodeStyleManager codeStyleManager = JavaCodeStyleManager.getInstance(project);
+        final String suggested = codeStyleManager.suggestVariableName(VariableKind.FIELD, null, null, fieldType).names[0];
+        final String name = codeStyleManager.suggestUniqueVariableName(suggested, targetClass, true);
+        field = factory.createField(name, fieldType);
+        field = (PsiField)targetClass.add(field);
+        MutationUtils.addAnnotation(field, "@" + GuiceAnnotations.INJECT);
+        codeStyleManager.shortenClassReferences(field);
+      }
+      MutationUtils.replaceExpression(myProvider ? field.getName() + ".get()" : field.getName(), call);
+    }
+
+    private static @Nullable PsiField findInjectedField(@NotNull PsiClass targetClass, @NotNull PsiType fieldType) {
+      for (PsiField field : targetClass.getFields()) {
+        if (!field.hasModifierProperty(PsiModifier.STATIC) && field.getType().equals(fieldType) &&
+            AnnotationUtil.isAnnotated(field, GuiceAnnotations.INJECTS, 0)) {
+          return field;
+        }
+      }
+      return null;
+    }
+  }
+}
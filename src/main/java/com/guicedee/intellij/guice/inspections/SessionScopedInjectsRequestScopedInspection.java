@@ -1,19 +1,25 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
-import com.guicedee.intellij.guice.utils.AnnotationUtils;
+import com.guicedee.intellij.guice.model.BindingKey;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
+import com.guicedee.intellij.guice.model.GuiceScope;
+import com.guicedee.intellij.guice.model.GuiceScopeReachability;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
+import java.util.List;
 
 public final class SessionScopedInjectsRequestScopedInspection extends BaseInspection {
   @Override
   protected @NotNull String buildErrorString(Object... infos) {
+    if (infos.length == 2) {
+      return GuiceBundle.message("session.scoped.injects.request.scoped.transitive.problem.descriptor", infos);
+    }
     return GuiceBundle.message("session.scoped.injects.request.scoped.problem.descriptor");
   }
 
@@ -34,22 +40,23 @@ public final class SessionScopedInjectsRequestScopedInspection extends BaseInspe
       if (containingClass == null) {
         return;
       }
-      if (!AnnotationUtil.isAnnotated(containingClass, GuiceAnnotations.SESSION_SCOPED, CHECK_HIERARCHY)) {
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(annotation);
+      if (!facts.isAnnotated(containingClass, GuiceAnnotations.SESSION_SCOPED)) {
         return;
       }
       final PsiElement owner = annotation.getParent().getParent();
       if (owner instanceof PsiField field) {
-        checkForScopedInjection(field.getTypeElement());
+        checkForScopedInjection(facts, containingClass, field.getTypeElement());
       }
       else if (owner instanceof PsiMethod method) {
         final PsiParameter[] parameters = method.getParameterList().getParameters();
         for (PsiParameter parameter : parameters) {
-          checkForScopedInjection(parameter.getTypeElement());
+          checkForScopedInjection(facts, containingClass, parameter.getTypeElement());
         }
       }
     }
 
-    private void checkForScopedInjection(PsiTypeElement typeElement) {
+    private void checkForScopedInjection(GuiceFileFacts facts, PsiClass containingClass, PsiTypeElement typeElement) {
       final PsiType type = typeElement.getType();
       if (!(type instanceof PsiClassType classType)) {
         return;
@@ -58,32 +65,21 @@ public final class SessionScopedInjectsRequestScopedInspection extends BaseInspe
       if (referencedClass == null) {
         return;
       }
-      if (AnnotationUtil.isAnnotated(referencedClass, GuiceAnnotations.REQUEST_SCOPED, CHECK_HIERARCHY)) {
+      if (facts.isAnnotated(referencedClass, GuiceAnnotations.REQUEST_SCOPED)) {
         registerError(typeElement);
         return;
       }
-      final PsiAnnotation implementedByAnnotation = referencedClass.getModifierList().findAnnotation(GuiceAnnotations.IMPLEMENTED_BY);
-      if (implementedByAnnotation == null) {
-        return;
-      }
-      final PsiElement defaultValue = AnnotationUtils.findDefaultValue(implementedByAnnotation);
-      if (defaultValue == null) {
-        return;
-      }
-      if (!(defaultValue instanceof PsiClassObjectAccessExpression)) {
-        return;
-      }
-      final PsiTypeElement classTypeElement = ((PsiClassObjectAccessExpression)defaultValue).getOperand();
-      final PsiType implementedByClassType = classTypeElement.getType();
-      if (!(implementedByClassType instanceof PsiClassType)) {
-        return;
-      }
-      final PsiClass implementedByClass = ((PsiClassType)implementedByClassType).resolve();
-      if (implementedByClass == null) {
+      final PsiClass implementedByClass = facts.getImplementedByClass(referencedClass);
+      if (implementedByClass != null && facts.isAnnotated(implementedByClass, GuiceAnnotations.REQUEST_SCOPED)) {
+        registerError(typeElement);
         return;
       }
-      if (AnnotationUtil.isAnnotated(implementedByClass, GuiceAnnotations.REQUEST_SCOPED, CHECK_HIERARCHY)) {
-        registerError(typeElement);
+      if (typeElement.getParent() instanceof PsiModifierListOwner owner) {
+        final List<BindingKey> path = GuiceScopeReachability.getInstance(owner.getProject()).findWidening(owner, GuiceScope.SESSION);
+        if (!path.isEmpty()) {
+          registerError(typeElement, StringUtil.getShortName(path.get(path.size() - 1).getType()),
+                        GuiceScopeReachability.getPresentablePath(containingClass.getQualifiedName(), path));
+        }
       }
     }
   }
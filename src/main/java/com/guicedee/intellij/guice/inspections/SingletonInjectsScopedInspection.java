@@ -1,20 +1,30 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
-import com.guicedee.intellij.guice.utils.AnnotationUtils;
+import com.guicedee.intellij.guice.model.BindingKey;
+import com.guicedee.intellij.guice.model.GuiceBindingGraph;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
+import com.guicedee.intellij.guice.model.GuiceScope;
+import com.guicedee.intellij.guice.model.GuiceScopeReachability;
+import com.guicedee.intellij.guice.model.InjectionPointDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static com.intellij.codeInsight.AnnotationUtil.CHECK_HIERARCHY;
+import java.util.List;
 
 public final class SingletonInjectsScopedInspection extends BaseInspection {
   @Override
   protected @NotNull String buildErrorString(Object... infos) {
+    if (infos.length == 2) {
+      return GuiceBundle.message("singleton.injects.scoped.transitive.problem.descriptor", infos);
+    }
     return GuiceBundle.message("singleton.injects.scoped.problem.descriptor");
   }
 
@@ -24,6 +34,8 @@ public final class SingletonInjectsScopedInspection extends BaseInspection {
   }
 
   private static class Visitor extends BaseInspectionVisitor {
+    private static final List<String> SCOPES = List.of(GuiceAnnotations.SESSION_SCOPED, GuiceAnnotations.REQUEST_SCOPED);
+
     @Override
     public void visitAnnotation(@NotNull PsiAnnotation annotation) {
       super.visitAnnotation(annotation);
@@ -35,22 +47,23 @@ public final class SingletonInjectsScopedInspection extends BaseInspection {
       if (containingClass == null) {
         return;
       }
-      if (!AnnotationUtil.isAnnotated(containingClass, GuiceAnnotations.SINGLETON, CHECK_HIERARCHY)) {
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(annotation);
+      if (!facts.isAnnotated(containingClass, GuiceAnnotations.SINGLETON)) {
         return;
       }
       final PsiElement owner = annotation.getParent().getParent();
       if (owner instanceof PsiField field) {
-        checkForScopedInjection(field.getTypeElement());
+        checkForScopedInjection(facts, containingClass, field.getTypeElement());
       }
       else if (owner instanceof PsiMethod method) {
         final PsiParameter[] parameters = method.getParameterList().getParameters();
         for (PsiParameter parameter : parameters) {
-          checkForScopedInjection(parameter.getTypeElement());
+          checkForScopedInjection(facts, containingClass, parameter.getTypeElement());
         }
       }
     }
 
-    private void checkForScopedInjection(@Nullable PsiTypeElement typeElement) {
+    private void checkForScopedInjection(@NotNull GuiceFileFacts facts, @NotNull PsiClass containingClass, @Nullable PsiTypeElement typeElement) {
       if (typeElement == null) return;
       final PsiType type = typeElement.getType();
       if (!(type instanceof PsiClassType classType)) {
@@ -60,39 +73,54 @@ public final class SingletonInjectsScopedInspection extends BaseInspection {
       if (referencedClass == null) {
         return;
       }
-      if (AnnotationUtil.isAnnotated(referencedClass, GuiceAnnotations.SESSION_SCOPED, CHECK_HIERARCHY) ||
-          AnnotationUtil.isAnnotated(referencedClass, GuiceAnnotations.REQUEST_SCOPED, CHECK_HIERARCHY)) {
+      if (facts.isAnnotated(referencedClass, SCOPES)) {
         registerError(typeElement);
         return;
       }
-      PsiModifierList modifierList = referencedClass.getModifierList();
-      if (modifierList == null) {
-        return;
-      }
-      final PsiAnnotation implementedByAnnotation = modifierList.findAnnotation(GuiceAnnotations.IMPLEMENTED_BY);
-      if (implementedByAnnotation == null) {
+      if (isBoundToScopedClass(facts, typeElement)) {
+        registerError(typeElement);
         return;
       }
-      final PsiElement defaultValue = AnnotationUtils.findDefaultValue(implementedByAnnotation);
-      if (defaultValue == null) {
+      final PsiClass implementedByClass = facts.getImplementedByClass(referencedClass);
+      if (implementedByClass != null && facts.isAnnotated(implementedByClass, SCOPES)) {
+        registerError(typeElement);
         return;
       }
-      if (!(defaultValue instanceof PsiClassObjectAccessExpression)) {
-        return;
+      if (typeElement.getParent() instanceof PsiModifierListOwner owner) {
+        final List<BindingKey> path = GuiceScopeReachability.getInstance(owner.getProject()).findWidening(owner, GuiceScope.SINGLETON);
+        if (!path.isEmpty()) {
+          registerError(typeElement, StringUtil.getShortName(path.get(path.size() - 1).getType()),
+                        GuiceScopeReachability.getPresentablePath(containingClass.getQualifiedName(), path));
+        }
       }
-      final PsiTypeElement classTypeElement = ((PsiClassObjectAccessExpression)defaultValue).getOperand();
-      final PsiType implementedByClassType = classTypeElement.getType();
-      if (!(implementedByClassType instanceof PsiClassType)) {
-        return;
+    }
+
+    /**
+     * Checks the explicit bindings of the injected key in the {@link GuiceBindingGraph} for a session or request scoped target.
+     */
+    private static boolean isBoundToScopedClass(@NotNull GuiceFileFacts facts, @NotNull PsiTypeElement typeElement) {
+      if (!(typeElement.getParent() instanceof PsiModifierListOwner owner)) {
+        return false;
       }
-      final PsiClass implementedByClass = ((PsiClassType)implementedByClassType).resolve();
-      if (implementedByClass == null) {
-        return;
+      final BindingKey key = new InjectionPointDescriptor(owner).getKey();
+      if (key == null) {
+        return false;
       }
-      if (AnnotationUtil.isAnnotated(implementedByClass, GuiceAnnotations.SESSION_SCOPED, CHECK_HIERARCHY) ||
-          AnnotationUtil.isAnnotated(implementedByClass, GuiceAnnotations.REQUEST_SCOPED, CHECK_HIERARCHY)) {
-        registerError(typeElement);
+      final Project project = typeElement.getProject();
+      final JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+      final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+      for (GuiceBindingGraph.Provision provision : GuiceBindingGraph.getInstance(project).getProvisions(key)) {
+        if (provision.getKind() != GuiceBindingGraph.ProvisionKind.BINDING) {
+          continue;
+        }
+        for (String target : provision.getTargets()) {
+          final PsiClass targetClass = facade.findClass(target, scope);
+          if (targetClass != null && facts.isAnnotated(targetClass, SCOPES)) {
+            return true;
+          }
+        }
       }
+      return false;
     }
   }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@
 package com.guicedee.intellij.guice.inspections;
 
 import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.guicedee.intellij.guice.utils.GuiceUtils;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
@@ -45,7 +46,7 @@ public final class UninstantiableBindingInspection extends BaseInspection {
       if (referentClass == null) {
         return;
       }
-      if (GuiceUtils.isInstantiable(referentClass)) {
+      if (GuiceFileFacts.getInstance(expression).isInstantiable(referentClass)) {
         return;
       }
       final PsiMethod method = expression.resolveMethod();
@@ -3,8 +3,8 @@ package com.guicedee.intellij.guice.inspections;
 
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.guicedee.intellij.guice.utils.AnnotationUtils;
-import com.guicedee.intellij.guice.utils.GuiceUtils;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,7 +44,7 @@ public final class UninstantiableProvidedByClassInspection extends BaseInspectio
             if(referentClass == null){
                 return;
             }
-            if(GuiceUtils.isInstantiable(referentClass)){
+            if(GuiceFileFacts.getInstance(annotation).isInstantiable(referentClass)){
                 return;
             }
             registerError(classTypeElement);
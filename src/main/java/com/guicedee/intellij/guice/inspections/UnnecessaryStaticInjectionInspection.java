@@ -1,10 +1,10 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.inspections;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -34,6 +34,7 @@ public final class UnnecessaryStaticInjectionInspection extends BaseInspection {
       if (!"requestStaticInjection".equals(methodName)) {
         return;
       }
+      final GuiceFileFacts facts = GuiceFileFacts.getInstance(expression);
       final PsiExpression[] args = expression.getArgumentList().getExpressions();
       for (PsiExpression arg : args) {
         if (!(arg instanceof PsiClassObjectAccessExpression)) {
@@ -48,24 +49,24 @@ public final class UnnecessaryStaticInjectionInspection extends BaseInspection {
         if (classToBindStatically == null) {
           continue;
         }
-        if (!classHasStaticInjects(classToBindStatically)) {
+        if (!classHasStaticInjects(facts, classToBindStatically)) {
           registerError(classTypeElement);
         }
       }
     }
 
-    private static boolean classHasStaticInjects(PsiClass aClass) {
+    private static boolean classHasStaticInjects(GuiceFileFacts facts, PsiClass aClass) {
       final PsiMethod[] methods = aClass.getMethods();
       for (PsiMethod method : methods) {
         if (method.hasModifierProperty(PsiModifier.STATIC) &&
-            AnnotationUtil.isAnnotated(method, GuiceAnnotations.INJECTS, AnnotationUtil.CHECK_HIERARCHY)) {
+            facts.isAnnotated(method, GuiceAnnotations.INJECTS)) {
           return true;
         }
       }
       final PsiField[] fields = aClass.getFields();
       for (PsiField field : fields) {
         if (field.hasModifierProperty(PsiModifier.STATIC) &&
-            AnnotationUtil.isAnnotated(field, GuiceAnnotations.INJECTS, AnnotationUtil.CHECK_HIERARCHY)) {
+            facts.isAnnotated(field, GuiceAnnotations.INJECTS)) {
           return true;
         }
       }
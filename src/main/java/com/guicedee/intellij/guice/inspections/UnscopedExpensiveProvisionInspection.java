@@ -0,0 +1,176 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.inspections;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.guicedee.intellij.guice.model.GuiceFileFacts;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.guicedee.intellij.guice.utils.MutationUtils;
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.options.OptPane;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.intellij.codeInspection.options.OptPane.stringList;
+
+/**
+ * Reports {@code @Provides} methods and {@code bind()} chains without a scope that provide a type of the catalogue of
+ * expensive types, or a subtype: Guice builds a new instance for every injection.
+ */
+public final class UnscopedExpensiveProvisionInspection extends BaseInspection {
+  private static final List<String> DEFAULT_EXPENSIVE_TYPES = List.of(
+    "com.fasterxml.jackson.databind.ObjectMapper",
+    "com.google.gson.Gson",
+    "io.vertx.ext.web.client.WebClient",
+    "io.vertx.core.http.HttpClient",
+    "io.vertx.sqlclient.Pool",
+    "io.vertx.redis.client.Redis",
+    "java.net.http.HttpClient",
+    "okhttp3.OkHttpClient",
+    "org.apache.hc.client5.http.classic.HttpClient",
+    "org.apache.http.client.HttpClient",
+    "jakarta.xml.bind.JAXBContext",
+    "javax.xml.bind.JAXBContext",
+    "javax.sql.DataSource",
+    "jakarta.persistence.EntityManagerFactory",
+    "javax.persistence.EntityManagerFactory",
+    "com.guicedee.vertx.redis.RedisConnectionInfo",
+    "com.guicedee.persistence.implementations.mongodb.MongoConnectionInfo",
+    "com.guicedee.persistence.implementations.cassandra.CassandraConnectionInfo"
+  );
+
+  public List<String> expensiveTypes = new ArrayList<>(DEFAULT_EXPENSIVE_TYPES);
+
+  @Override
+  public @NotNull OptPane getOptionsPane() {
+    return OptPane.pane(stringList("expensiveTypes", GuiceBundle.message("unscoped.expensive.provision.types.option")));
+  }
+
+  @Override
+  protected @NotNull String buildErrorString(Object... infos) {
+    return infos[1] instanceof PsiMethod
+           ? GuiceBundle.message("unscoped.expensive.provides.problem.descriptor", infos[0])
+           : GuiceBundle.message("unscoped.expensive.binding.problem.descriptor", infos[0]);
+  }
+
+  @Override
+  public @Nullable LocalQuickFix buildFix(PsiElement location, Object[] infos) {
+    return infos[1] instanceof PsiMethod ? new AddSingletonAnnotationFix() : new AddSingletonScopeFix();
+  }
+
+  @Override
+  public BaseInspectionVisitor buildVisitor() {
+    return new Visitor();
+  }
+
+  private class Visitor extends BaseInspectionVisitor {
+    @Override
+    public void visitMethod(@NotNull PsiMethod method) {
+      super.visitMethod(method);
+      if (!AnnotationUtil.isAnnotated(method, GuiceAnnotations.PROVIDES, 0) || hasScope(method)) {
+        return;
+      }
+      final PsiClass productClass = method.getReturnType() instanceof PsiClassType classType ? classType.resolve() : null;
+      if (productClass != null && isExpensive(productClass)) {
+        registerMethodError(method, productClass.getName(), method);
+      }
+    }
+
+    @Override
+    public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+      super.visitMethodCallExpression(expression);
+      final GuiceFileFacts.BindingChain chain = GuiceFileFacts.getInstance(expression).getBindingChain(expression);
+      if (chain == null || chain.getAnchor() != expression || isScopedOrInstance(expression)) {
+        return;
+      }
+      // to(..) instantiates the linked class, which may declare its own scope; toProvider(..) calls get() every time
+      final PsiClass implementingClass = chain.getImplementingClass();
+      final PsiClass createdClass = implementingClass != null ? implementingClass : chain.getBoundClass();
+      if (createdClass == null || chain.getProvidingClass() == null && hasScope(createdClass)) {
+        return;
+      }
+      if (isExpensive(createdClass)) {
+        registerMethodCallError(expression, createdClass.getName(), expression);
+      }
+    }
+  }
+
+  private boolean isExpensive(@NotNull PsiClass psiClass) {
+    for (String type : expensiveTypes) {
+      if (InheritanceUtil.isInheritor(psiClass, false, type)) return true;
+    }
+    return false;
+  }
+
+  private static boolean isScopedOrInstance(@NotNull PsiMethodCallExpression anchor) {
+    final String name = anchor.getMethodExpression().getReferenceName();
+    return "asEagerSingleton".equals(name) ||
+           GuiceUtils.findScopeForBinding(anchor) != null ||
+           GuiceUtils.findCallInChain(anchor, "toInstance") != null;
+  }
+
+  /**
+   * Returns {@code true} if {@code owner} is annotated with any scope annotation, including custom scopes.
+   */
+  private static boolean hasScope(@NotNull PsiModifierListOwner owner) {
+    final PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) return false;
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      final PsiClass annotationClass = annotation.resolveAnnotationType();
+      if (annotationClass != null && AnnotationUtil.isAnnotated(annotationClass, GuiceAnnotations.SCOPE_META_ANNOTATIONS, 0)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class AddSingletonAnnotationFix implements LocalQuickFix {
+    @Override
+    public @NotNull String getName() {
+      return GuiceBundle.message("add.singleton.annotation");
+    }
+
+    @Override
+    public @NotNull String getFamilyName() {
+      return GuiceBundle.message("add.singleton.annotation");
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+      final PsiMethod method = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiMethod.class);
+      if (method != null && !hasScope(method)) {
+        MutationUtils.addAnnotation(method, "@" + GuiceAnnotations.SINGLETON);
+      }
+    }
+  }
+
+  private static class AddSingletonScopeFix implements LocalQuickFix {
+    @Override
+    public @NotNull String getName() {
+      return GuiceBundle.message("add.singleton.scope.to.binding");
+    }
+
+    @Override
+    public @NotNull String getFamilyName() {
+      return GuiceBundle.message("add.singleton.scope.to.binding");
+    }
+
+    @Override
+    public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+      final PsiMethodCallExpression anchor = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiMethodCallExpression.class);
+      if (anchor != null && !isScopedOrInstance(anchor)) {
+        MutationUtils.replaceExpression(anchor.getText() + ".in(" + GuiceClasses.SCOPES + ".SINGLETON)", anchor);
+      }
+    }
+  }
+}
@@ -0,0 +1,289 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.index.GuiceIndexUtil;
+import com.guicedee.intellij.guice.model.beans.BindDescriptor;
+import com.guicedee.intellij.guice.model.jam.GuiceProvides;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.TypeConversionUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Canonical, PSI-free form of a Guice {@code Key}: erased type, qualifier annotation and its normalized attribute values.
+ * <p>
+ * Keys are computed once per {@link InjectionPointDescriptor}, {@link BindDescriptor} and {@link GuiceProvides}, so matching
+ * injection points to bindings becomes a hash lookup instead of resolving and comparing annotations pairwise.
+ * <p>
+ * The generic signature is not part of {@link #equals(Object)}: class literal bindings are raw, and the plugin has always
+ * matched them against parameterized injection points, so lookups stay erased. Checks that need Guice's exact key, such as
+ * duplicate bindings of {@code List<A>} and {@code List<B>}, use {@link #equalsWithSignature(BindingKey)}.
+ * <p>
+ * Bindings that only constrain the qualifier type — {@code annotatedWith(Foo.class)} or a {@code Names.named(..)} whose
+ * value can not be computed — are {@linkplain #isAnyAttributes() attribute wildcards} and must be looked up by
+ * {@link #withoutAttributes()}.
+ */
+public final class BindingKey {
+  private final @NotNull String myType;
+  private final @NotNull String myTypeSignature;
+  private final @Nullable String myQualifier;
+  private final @NotNull Map<String, String> myAttributes;
+  private final boolean myAnyAttributes;
+  private final int myHashCode;
+
+  public BindingKey(@NotNull String type,
+                    @NotNull String typeSignature,
+                    @Nullable String qualifier,
+                    @NotNull Map<String, String> attributes,
+                    boolean anyAttributes) {
+    myType = type;
+    myTypeSignature = typeSignature;
+    myQualifier = qualifier;
+    myAttributes = attributes.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new TreeMap<>(attributes));
+    myAnyAttributes = anyAttributes;
+    myHashCode = Objects.hash(myType, myQualifier, myAttributes, myAnyAttributes);
+  }
+
+  /**
+   * Erased fully qualified type name; primitives are boxed the way Guice boxes them.
+   */
+  public @NotNull String getType() {
+    return myType;
+  }
+
+  public @NotNull String getTypeSignature() {
+    return myTypeSignature;
+  }
+
+  /**
+   * Fully qualified name of the qualifier annotation, with {@code jakarta}/{@code javax} {@code @Named} folded into Guice's.
+   */
+  public @Nullable String getQualifier() {
+    return myQualifier;
+  }
+
+  public @NotNull Map<String, String> getAttributes() {
+    return myAttributes;
+  }
+
+  public boolean isAnyAttributes() {
+    return myAnyAttributes;
+  }
+
+  /**
+   * Returns the {@code @Named} qualifier of the key in the format of {@link GuiceIndexUtil#getNamedQualifier(PsiModifierList)},
+   * or {@code null} if the key has another qualifier or none.
+   */
+  public @Nullable String getNamedQualifier() {
+    if (!GuiceAnnotations.NAMED.equals(myQualifier)) return null;
+    return GuiceIndexUtil.getNamedQualifier(myAnyAttributes ? null : myAttributes.get(PsiAnnotation.DEFAULT_REFERENCED_METHOD_NAME));
+  }
+
+  /**
+   * Returns the key with the same type and qualifier type but without attribute values, marked as a wildcard.
+   */
+  public @NotNull BindingKey withoutAttributes() {
+    if (myAnyAttributes && myAttributes.isEmpty()) return this;
+    return new BindingKey(myType, myTypeSignature, myQualifier, Collections.emptyMap(), true);
+  }
+
+  /**
+   * Returns {@code true} if a binding for {@code other} satisfies this key, honouring attribute wildcards on either side.
+   */
+  public boolean matches(@NotNull BindingKey other) {
+    return myType.equals(other.myType) && matchesQualifier(other);
+  }
+
+  /**
+   * Same as {@link #matches(BindingKey)} but ignores the type, for callers that check type compatibility themselves.
+   */
+  public boolean matchesQualifier(@NotNull BindingKey other) {
+    if (!Objects.equals(myQualifier, other.myQualifier)) return false;
+    return myAnyAttributes || other.myAnyAttributes || myAttributes.equals(other.myAttributes);
+  }
+
+  /**
+   * Same as {@link #equals(Object)} but also compares the generic signatures, the way Guice compares keys.
+   */
+  public boolean equalsWithSignature(@NotNull BindingKey other) {
+    return equals(other) && myTypeSignature.equals(other.myTypeSignature);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof BindingKey key)) return false;
+    return myHashCode == key.myHashCode &&
+           myAnyAttributes == key.myAnyAttributes &&
+           myType.equals(key.myType) &&
+           Objects.equals(myQualifier, key.myQualifier) &&
+           myAttributes.equals(key.myAttributes);
+  }
+
+  @Override
+  public int hashCode() {
+    return myHashCode;
+  }
+
+  @Override
+  public String toString() {
+    if (myQualifier == null) return myTypeSignature;
+    return "@" + myQualifier + (myAttributes.isEmpty() ? "" : myAttributes.toString()) + " " + myTypeSignature;
+  }
+
+  public static @Nullable BindingKey forInjectionPoint(@NotNull InjectionPointDescriptor ip) {
+    return create(ip.getType(), ip.getBindingAnnotations());
+  }
+
+  public static @Nullable BindingKey forProvides(@NotNull GuiceProvides<?> provides) {
+    return create(provides.getProductType(), provides.getBindingAnnotations());
+  }
+
+  /**
+   * Returns the unqualified key of a class, as used for just-in-time, {@code @ImplementedBy} and {@code @ProvidedBy} bindings.
+   */
+  public static @Nullable BindingKey forClass(@NotNull PsiClass psiClass) {
+    final String qualifiedName = psiClass.getQualifiedName();
+    return qualifiedName != null ? new BindingKey(qualifiedName, qualifiedName, null, Collections.emptyMap(), false) : null;
+  }
+
+  public static @Nullable BindingKey forBinding(@NotNull BindDescriptor descriptor) {
+    final PsiMethodCallExpression expression = descriptor.getBindExpression();
+    final String type = descriptor.getBoundClassName();
+    if (expression == null || type == null) return null;
+
+    final String boundSignature = getTypeSignature(GuiceUtils.getArgumentOfCallInChain(expression, "bind"));
+    final String signature = boundSignature != null ? boundSignature : type;
+
+    final PsiExpression annotatedWith = GuiceUtils.getArgumentOfCallInChain(expression, "annotatedWith");
+    if (annotatedWith == null) {
+      return new BindingKey(type, signature, null, Collections.emptyMap(), false);
+    }
+
+    final PsiClass annotationClass = GuiceInjectionUtil.getCallExpressionType(expression, "annotatedWith");
+    final String qualifier = annotationClass != null ? normalizeQualifier(annotationClass.getQualifiedName()) : null;
+    if (GuiceAnnotations.NAMED.equals(qualifier) && !(annotatedWith instanceof PsiClassObjectAccessExpression)) {
+      final String name = GuiceInjectionUtil.getNameValue(annotatedWith);
+      if (name != null) {
+        return new BindingKey(type, signature, qualifier, Map.of(PsiAnnotation.DEFAULT_REFERENCED_METHOD_NAME, name), false);
+      }
+    }
+    // annotatedWith(Foo.class), or an annotation instance whose attributes can not be computed
+    return new BindingKey(type, signature, qualifier, Collections.emptyMap(), true);
+  }
+
+  /**
+   * Creates the key for a type and the binding annotations written next to it, or {@code null} if the type is unknown.
+   */
+  public static @Nullable BindingKey create(@Nullable PsiType type, @NotNull Collection<? extends PsiAnnotation> qualifiers) {
+    if (type == null) return null;
+
+    final String erased = getErasedTypeName(type);
+    final String signature = type instanceof PsiPrimitiveType ? erased : type.getCanonicalText();
+    if (qualifiers.isEmpty()) {
+      return new BindingKey(erased, signature, null, Collections.emptyMap(), false);
+    }
+    if (qualifiers.size() > 1) {
+      // Guice rejects more than one binding annotation; keep a key that can never match a binding
+      Set<String> names = new TreeSet<>();
+      for (PsiAnnotation annotation : qualifiers) {
+        names.add(String.valueOf(normalizeQualifier(annotation.getQualifiedName())));
+      }
+      return new BindingKey(erased, signature, String.join("&", names), Collections.emptyMap(), false);
+    }
+
+    final PsiAnnotation annotation = qualifiers.iterator().next();
+    return new BindingKey(erased, signature, normalizeQualifier(annotation.getQualifiedName()), getAttributes(annotation), false);
+  }
+
+  /**
+   * Returns the signature of the type written as a {@code bind(..)} argument: {@code Foo.class},
+   * {@code new TypeLiteral<Foo<Bar>>() {}} or {@code Key.get(..)} of either.
+   */
+  private static @Nullable String getTypeSignature(@Nullable PsiExpression expression) {
+    expression = PsiUtil.skipParenthesizedExprDown(expression);
+    if (expression instanceof PsiClassObjectAccessExpression classObject) {
+      return classObject.getOperand().getType().getCanonicalText();
+    }
+    if (expression instanceof PsiNewExpression newExpression) {
+      final PsiJavaCodeReferenceElement reference = newExpression.getClassOrAnonymousClassReference();
+      if (reference == null || !"TypeLiteral".equals(reference.getReferenceName())) return null;
+      final PsiType[] typeArguments = reference.getTypeParameters();
+      return typeArguments.length == 1 ? typeArguments[0].getCanonicalText() : null;
+    }
+    if (expression instanceof PsiMethodCallExpression call &&
+        "get".equals(call.getMethodExpression().getReferenceName()) &&
+        call.getMethodExpression().getQualifierExpression() instanceof PsiReferenceExpression qualifier &&
+        "Key".equals(qualifier.getReferenceName())) {
+      final PsiExpression[] args = call.getArgumentList().getExpressions();
+      return args.length > 0 ? getTypeSignature(args[0]) : null;
+    }
+    return null;
+  }
+
+  private static @NotNull String getErasedTypeName(@NotNull PsiType type) {
+    if (type instanceof PsiPrimitiveType primitiveType) {
+      final String boxed = primitiveType.getBoxedTypeName();
+      return boxed != null ? boxed : primitiveType.getCanonicalText();
+    }
+    if (type instanceof PsiClassType classType) {
+      final PsiClass psiClass = classType.resolve();
+      final String qualifiedName = psiClass != null ? psiClass.getQualifiedName() : null;
+      if (qualifiedName != null) return qualifiedName;
+    }
+    return TypeConversionUtil.erasure(type).getCanonicalText();
+  }
+
+  private static @Nullable String normalizeQualifier(@Nullable String qualifiedName) {
+    return qualifiedName != null && GuiceAnnotations.NAMED_ANNOTATIONS.contains(qualifiedName) ? GuiceAnnotations.NAMED : qualifiedName;
+  }
+
+  private static @NotNull Map<String, String> getAttributes(@NotNull PsiAnnotation annotation) {
+    final PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+    if (reference == null || !(reference.resolve() instanceof PsiClass annotationClass)) return Collections.emptyMap();
+
+    Map<String, String> attributes = new TreeMap<>();
+    for (PsiMethod method : annotationClass.getMethods()) {
+      if (PsiUtil.isAnnotationMethod(method)) {
+        final String name = method.getName();
+        attributes.put(name, normalizeValue(annotation.findAttributeValue(name)));
+      }
+    }
+    return attributes;
+  }
+
+  private static @NotNull String normalizeValue(@Nullable PsiAnnotationMemberValue value) {
+    if (value == null) return "";
+    if (value instanceof PsiArrayInitializerMemberValue array) {
+      StringJoiner joiner = new StringJoiner(",", "{", "}");
+      for (PsiAnnotationMemberValue initializer : array.getInitializers()) {
+        joiner.add(normalizeValue(initializer));
+      }
+      return joiner.toString();
+    }
+    if (value instanceof PsiClassObjectAccessExpression classObject) {
+      return TypeConversionUtil.erasure(classObject.getOperand().getType()).getCanonicalText() + ".class";
+    }
+    final Object constant = value instanceof PsiLiteralExpression literal
+                            ? literal.getValue()
+                            : JavaPsiFacade.getInstance(value.getProject()).getConstantEvaluationHelper().computeConstantExpression(value);
+    if (constant != null) return String.valueOf(constant);
+
+    if (value instanceof PsiReference psiReference) {
+      final PsiElement resolved = psiReference.resolve();
+      if (resolved instanceof PsiField field) {
+        final PsiClass containingClass = field.getContainingClass();
+        return (containingClass != null ? containingClass.getQualifiedName() : "") + "#" + field.getName();
+      }
+      if (resolved instanceof PsiClass psiClass) {
+        return String.valueOf(psiClass.getQualifiedName());
+      }
+    }
+    return value.getText();
+  }
+}
@@ -8,10 +8,10 @@ import com.guicedee.intellij.guice.GuiceBundle;
 import com.guicedee.intellij.guice.GuiceIcons;
 import com.guicedee.intellij.guice.model.beans.BindDescriptor;
 import com.guicedee.intellij.guice.model.beans.BindToProviderDescriptor;
-import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.InheritanceUtil;
 import com.intellij.util.NotNullFunction;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
@@ -23,50 +23,75 @@ public final class GuiceBindingClassAnnotator extends RelatedItemLineMarkerProvi
 
   @Override
   protected void collectNavigationMarkers(@NotNull PsiElement psiElement, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    collectNavigationMarkers(Collections.singletonList(psiElement), result, false);
+  }
 
-    if (psiElement instanceof PsiClass psiClass) {
-      final Module module = ModuleUtilCore.findModuleForPsiElement(psiElement);
-      if (module == null) return;
+  /**
+   * Computes the markers of all classes in the batch against one {@link GuiceMarkerContext}.
+   */
+  @Override
+  public void collectNavigationMarkers(@NotNull List<? extends PsiElement> elements,
+                                       @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
+                                       boolean forNavigation) {
+    if (!ContainerUtil.exists(elements, element -> element instanceof PsiClass)) return;
+
+    final GuiceMarkerContext context = GuiceMarkerContext.create(elements);
+    if (context == null) return;
+
+    for (PsiElement element : elements) {
+      if (element instanceof PsiClass psiClass) {
+        ProgressManager.checkCanceled();
+        annotateClass(result, context, psiClass);
+      }
+    }
+  }
 
-      final Set<BindDescriptor> descriptors = GuiceInjectorManager.getBindingDescriptors(module);
+  private static void annotateClass(@NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
+                                    @NotNull GuiceMarkerContext context,
+                                    @NotNull PsiClass psiClass) {
+    final String qualifiedName = psiClass.getQualifiedName();
+    if (qualifiedName == null) return;
 
-      Set<BindDescriptor> bindingDescriptors = new HashSet<>();
+    final GlobalSearchScope moduleFilesScope = context.getModuleFilesScope();
+    final Set<BindDescriptor> descriptors = moduleFilesScope == null
+      ? Collections.emptySet()
+      : GuiceInjectorManager.getBindingDescriptors(context.getGraph().getProvisionsInvolving(qualifiedName), moduleFilesScope);
 
-      for (BindDescriptor descriptor : descriptors) {
-        final PsiClass boundClass = descriptor.getBoundClass();
-        if (psiElement.equals(boundClass)) {
-          bindingDescriptors.add(descriptor);
-          continue;
-        }
+    Set<BindDescriptor> bindingDescriptors = new HashSet<>();
 
-        if (psiElement.equals(getBindingBaseClass(descriptor.getBindingClass()))) {
-          bindingDescriptors.add(descriptor);
-          continue;
-        }
+    for (BindDescriptor descriptor : descriptors) {
+      if (qualifiedName.equals(descriptor.getBoundClassName())) {
+        bindingDescriptors.add(descriptor);
+        continue;
+      }
 
-        if (descriptor instanceof BindToProviderDescriptor) {
-          final PsiClass providerClass = ((BindToProviderDescriptor)descriptor).getProviderClass();
-          if (psiElement.equals(getBindingBaseClass(providerClass))) bindingDescriptors.add(descriptor);
-        }
+      if (psiClass.equals(getBindingBaseClass(descriptor.getBindingClass()))) {
+        bindingDescriptors.add(descriptor);
+        continue;
       }
 
-      if (!bindingDescriptors.isEmpty()) {
-        final NavigationGutterIconBuilder<BindDescriptor> builder =
-          NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, DEFAULT_CONVERTOR).
-            setPopupTitle(GuiceBundle.message("GuiceClassAnnotator.popup.title")).
-            setTooltipText(GuiceBundle.message("GuiceClassAnnotator.popup.tooltip.text")).
-            setTargets(bindingDescriptors);
-
-        final PsiIdentifier identifier = psiClass.getNameIdentifier();
-        if (identifier != null) {
-          result.add(builder.createLineMarkerInfo(identifier));
-        }
+      if (descriptor instanceof BindToProviderDescriptor) {
+        final PsiClass providerClass = ((BindToProviderDescriptor)descriptor).getProviderClass();
+        if (psiClass.equals(getBindingBaseClass(providerClass))) bindingDescriptors.add(descriptor);
       }
-      else {
-        // No explicit bindings found — check for JIT injection points that reference this class
-        addJitInjectionPointMarkers(result, module, psiClass);
+    }
+
+    if (!bindingDescriptors.isEmpty()) {
+      final NavigationGutterIconBuilder<BindDescriptor> builder =
+        NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, DEFAULT_CONVERTOR).
+          setPopupTitle(GuiceBundle.message("GuiceClassAnnotator.popup.title")).
+          setTooltipText(GuiceBundle.message("GuiceClassAnnotator.popup.tooltip.text")).
+          setTargets(bindingDescriptors);
+
+      final PsiIdentifier identifier = psiClass.getNameIdentifier();
+      if (identifier != null) {
+        result.add(builder.createLineMarkerInfo(identifier));
       }
     }
+    else {
+      // No explicit bindings found — check for JIT injection points that reference this class
+      addJitInjectionPointMarkers(result, context, psiClass);
+    }
   }
 
   /**
@@ -75,36 +100,29 @@ public final class GuiceBindingClassAnnotator extends RelatedItemLineMarkerProvi
    * This covers Guice JIT (just-in-time) bindings for concrete classes and inheritors of interfaces/abstract classes.
    */
   private static void addJitInjectionPointMarkers(@NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
-                                                   @NotNull Module module,
+                                                   @NotNull GuiceMarkerContext context,
                                                    @NotNull PsiClass psiClass) {
-    Set<InjectionPointDescriptor> allInjectionPoints = GuiceInjectionUtil.getInjectionPoints(
-      module.getProject(), GlobalSearchScope.moduleWithDependenciesScope(module));
-    if (allInjectionPoints.isEmpty()) return;
-
-    List<PsiElement> injectionOwners = new ArrayList<>();
-    for (InjectionPointDescriptor ip : allInjectionPoints) {
-      PsiType type = ip.getType();
-      if (type instanceof PsiClassType) {
-        PsiClass injectedClass = ((PsiClassType) type).resolve();
-        if (injectedClass != null) {
-          // Direct match: @Inject private ThisClass field;
-          if (psiClass.equals(injectedClass)) {
-            injectionOwners.add(ip.getOwner());
-          }
-          // Supertype match: @Inject private SomeInterface field; where this class implements SomeInterface
-          else if (injectedClass.isInterface() || injectedClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
-            if (psiClass.isInheritor(injectedClass, true)) {
-              injectionOwners.add(ip.getOwner());
-            }
-          }
-        }
+    // Direct match: @Inject private ThisClass field;
+    List<GuiceBindingGraph.Dependency> dependencies = new ArrayList<>();
+    addDependencies(dependencies, context, psiClass);
+    // Supertype match: @Inject private SomeInterface field; where this class implements SomeInterface
+    for (PsiClass superClass : InheritanceUtil.getSuperClasses(psiClass)) {
+      if (superClass.isInterface() || superClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
+        addDependencies(dependencies, context, superClass);
       }
     }
 
-    if (!injectionOwners.isEmpty()) {
+    if (!dependencies.isEmpty()) {
       NavigationGutterIconBuilder<PsiElement> builder =
         NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, GuiceBundle.GUICE)
-          .setTargets(injectionOwners)
+          .setTargets(GuiceMarkerContext.lazyTargets(psiClass.getProject(), () -> {
+            Set<PsiElement> injectionOwners = new LinkedHashSet<>();
+            for (GuiceBindingGraph.Dependency dependency : dependencies) {
+              ContainerUtil.addIfNotNull(injectionOwners, dependency.getOwner());
+            }
+            return injectionOwners;
+          }))
+          .setEmptyPopupText(GuiceBundle.message("gutter.no.targets"))
           .setPopupTitle(GuiceBundle.message("gutter.choose.injected.point"))
           .setTooltipText(GuiceBundle.message("gutter.navigate.to.injection.point"));
 
@@ -115,6 +133,14 @@ public final class GuiceBindingClassAnnotator extends RelatedItemLineMarkerProvi
     }
   }
 
+  private static void addDependencies(@NotNull List<GuiceBindingGraph.Dependency> dependencies,
+                                      @NotNull GuiceMarkerContext context,
+                                      @NotNull PsiClass injectedClass) {
+    final String qualifiedName = injectedClass.getQualifiedName();
+    if (qualifiedName == null) return;
+    dependencies.addAll(context.filterDependencies(context.getGraph().getDependentsOfType(qualifiedName)));
+  }
+
   private static @Nullable PsiClass getBindingBaseClass(@Nullable PsiClass bindingClass) {
     if (bindingClass instanceof PsiAnonymousClass) {
       return ((PsiAnonymousClass)bindingClass).getBaseClassType().resolve();
@@ -0,0 +1,571 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.index.GuiceBindingIndex;
+import com.guicedee.intellij.guice.index.GuiceInjectionPointIndex;
+import com.guicedee.intellij.guice.index.GuiceProvidesIndex;
+import com.guicedee.intellij.guice.model.beans.BindDescriptor;
+import com.guicedee.intellij.guice.model.beans.BindToProviderDescriptor;
+import com.guicedee.intellij.guice.model.jam.GuiceProvides;
+import com.guicedee.intellij.guice.utils.AnnotationUtils;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Project-wide model of the Guice object graph declared in project sources.
+ * <p>
+ * Nodes are {@link Provision}s — {@code bind()} chains, {@code @Provides} methods, {@code @ImplementedBy}/{@code @ProvidedBy}
+ * classes and just-in-time injectable classes — keyed by their {@link BindingKey}. Edges are {@link Dependency injection
+ * dependencies}, each pointing from the class or {@code @Provides} method that declares it to the key it requires.
+ * <p>
+ * The graph is assembled from per-file contributions read from the Guice indexes. {@link GuiceModelModificationTracker}
+ * reports the files whose Guice constructs changed and only those contributions are recomputed on the next query; the whole
+ * graph is rebuilt only when project roots change. Each update publishes an immutable snapshot, so queries never wait for
+ * an update running on another thread. Compiled library {@code @Provides} methods are not part of the graph and
+ * are still looked up through {@link GuiceProvidesIndex}.
+ */
+public final class GuiceBindingGraph {
+  private static final Logger LOG = Logger.getInstance(GuiceBindingGraph.class);
+
+  public enum ProvisionKind {
+    BINDING, PROVIDES, IMPLEMENTED_BY, PROVIDED_BY, JIT
+  }
+
+  /**
+   * Something that satisfies a {@link BindingKey}.
+   */
+  public static final class Provision {
+    private final @NotNull ProvisionKind myKind;
+    private final @NotNull BindingKey myKey;
+    private final @Nullable GuiceBindingIndex.Kind myBindingKind;
+    private final @NotNull Set<String> myTargets;
+    private final @NotNull VirtualFile myFile;
+    private final @NotNull SmartPsiElementPointer<? extends PsiElement> myElement;
+
+    Provision(@NotNull ProvisionKind kind,
+              @NotNull BindingKey key,
+              @Nullable GuiceBindingIndex.Kind bindingKind,
+              @NotNull Set<String> targets,
+              @NotNull VirtualFile file,
+              @NotNull PsiElement element) {
+      myKind = kind;
+      myKey = key;
+      myBindingKind = bindingKind;
+      myTargets = targets;
+      myFile = file;
+      myElement = SmartPointerManager.createPointer(element);
+    }
+
+    public @NotNull ProvisionKind getKind() {
+      return myKind;
+    }
+
+    public @NotNull BindingKey getKey() {
+      return myKey;
+    }
+
+    /**
+     * Returns {@code true} for {@code bind()} chains and {@code @Provides} methods, as opposed to class annotations and
+     * just-in-time bindings.
+     */
+    public boolean isExplicit() {
+      return myKind == ProvisionKind.BINDING || myKind == ProvisionKind.PROVIDES;
+    }
+
+    /**
+     * Linked method of a {@link ProvisionKind#BINDING}, {@code null} for other kinds.
+     */
+    public @Nullable GuiceBindingIndex.Kind getBindingKind() {
+      return myBindingKind;
+    }
+
+    /**
+     * Qualified names of the classes that implement the key: linked, provider and implementation classes.
+     */
+    public @NotNull Set<String> getTargets() {
+      return myTargets;
+    }
+
+    /**
+     * Qualified names of the classes Guice instantiates and injects for this provision: the linked, provider or implementation
+     * class, or the bound class itself. Empty for {@code @Provides} methods and instance bindings.
+     */
+    public @NotNull Set<String> getInstantiatedClasses() {
+      return switch (myKind) {
+        case PROVIDES -> Collections.emptySet();
+        case JIT -> Set.of(myKey.getType());
+        case IMPLEMENTED_BY, PROVIDED_BY -> myTargets;
+        case BINDING -> myBindingKind == GuiceBindingIndex.Kind.TO_INSTANCE ? Collections.emptySet()
+                        : myBindingKind == GuiceBindingIndex.Kind.UNTARGETTED ? Set.of(myKey.getType())
+                        : myTargets;
+      };
+    }
+
+    public @NotNull VirtualFile getFile() {
+      return myFile;
+    }
+
+    /**
+     * The {@code bind()} chain's anchor call, the {@code @Provides} method, or the class, if still valid.
+     */
+    public @Nullable PsiElement getElement() {
+      return myElement.getElement();
+    }
+  }
+
+  /**
+   * An injection point, as an edge from its declaring class or {@code @Provides} method to the key it requires.
+   */
+  public static final class Dependency {
+    private final @NotNull BindingKey myKey;
+    private final @NotNull VirtualFile myFile;
+    private final @Nullable String myConsumerClass;
+    private final @Nullable Provision myConsumerProvision;
+    private final @NotNull SmartPsiElementPointer<PsiModifierListOwner> myOwner;
+
+    Dependency(@NotNull BindingKey key,
+               @NotNull VirtualFile file,
+               @Nullable String consumerClass,
+               @Nullable Provision consumerProvision,
+               @NotNull PsiModifierListOwner owner) {
+      myKey = key;
+      myFile = file;
+      myConsumerClass = consumerClass;
+      myConsumerProvision = consumerProvision;
+      myOwner = SmartPointerManager.createPointer(owner);
+    }
+
+    public @NotNull BindingKey getKey() {
+      return myKey;
+    }
+
+    public @NotNull VirtualFile getFile() {
+      return myFile;
+    }
+
+    /**
+     * Qualified name of the class declaring the injection point.
+     */
+    public @Nullable String getConsumerClass() {
+      return myConsumerClass;
+    }
+
+    /**
+     * The {@code @Provides} method this is a parameter of, or {@code null} for field, constructor and method injection.
+     */
+    public @Nullable Provision getConsumerProvision() {
+      return myConsumerProvision;
+    }
+
+    public @Nullable PsiModifierListOwner getOwner() {
+      return myOwner.getElement();
+    }
+
+    public @Nullable InjectionPointDescriptor toInjectionPoint() {
+      final PsiModifierListOwner owner = getOwner();
+      return owner != null ? new InjectionPointDescriptor(owner) : null;
+    }
+  }
+
+  private static final class FileContribution {
+    private final List<Provision> myProvisions = new ArrayList<>();
+    private final List<Dependency> myDependencies = new ArrayList<>();
+  }
+
+  /**
+   * Immutable state of the graph, indexed from the file contributions it was built from. Queries read the published
+   * snapshot without locking; updates build a new one next to it.
+   */
+  private static final class Snapshot {
+    private final long myRootsModificationCount;
+    private final long myInvalidationCount;
+    private final Map<VirtualFile, FileContribution> myContributions;
+    private final Map<BindingKey, Set<Provision>> myProvisions = new HashMap<>();
+    private final Map<String, Set<Provision>> myProvisionsByClass = new HashMap<>();
+    private final Map<BindingKey, Set<Dependency>> myDependents = new HashMap<>();
+    private final Map<BindingKey, Set<Dependency>> myDependentsByQualifierType = new HashMap<>();
+    private final Map<String, Set<Dependency>> myDependentsByType = new HashMap<>();
+    private final Map<String, Set<Dependency>> myDependenciesByConsumerClass = new HashMap<>();
+    private final Map<Provision, Set<Dependency>> myDependenciesByProvision = new HashMap<>();
+
+    private Snapshot(long rootsModificationCount, long invalidationCount, @NotNull Map<VirtualFile, FileContribution> contributions) {
+      myRootsModificationCount = rootsModificationCount;
+      myInvalidationCount = invalidationCount;
+      myContributions = Collections.unmodifiableMap(contributions);
+      for (FileContribution contribution : contributions.values()) {
+        add(contribution);
+      }
+    }
+
+    private void add(@NotNull FileContribution contribution) {
+      for (Provision provision : contribution.myProvisions) {
+        myProvisions.computeIfAbsent(provision.getKey(), k -> new HashSet<>()).add(provision);
+        myProvisionsByClass.computeIfAbsent(provision.getKey().getType(), k -> new HashSet<>()).add(provision);
+        for (String target : provision.getTargets()) {
+          myProvisionsByClass.computeIfAbsent(target, k -> new HashSet<>()).add(provision);
+        }
+      }
+      for (Dependency dependency : contribution.myDependencies) {
+        final BindingKey key = dependency.getKey();
+        myDependents.computeIfAbsent(key, k -> new HashSet<>()).add(dependency);
+        myDependentsByQualifierType.computeIfAbsent(key.withoutAttributes(), k -> new HashSet<>()).add(dependency);
+        myDependentsByType.computeIfAbsent(key.getType(), k -> new HashSet<>()).add(dependency);
+        if (dependency.getConsumerClass() != null) {
+          myDependenciesByConsumerClass.computeIfAbsent(dependency.getConsumerClass(), k -> new HashSet<>()).add(dependency);
+        }
+        if (dependency.getConsumerProvision() != null) {
+          myDependenciesByProvision.computeIfAbsent(dependency.getConsumerProvision(), k -> new HashSet<>()).add(dependency);
+        }
+      }
+    }
+  }
+
+  private final Project myProject;
+  // dirty files with the stamp of their last change, so an update only clears the changes it has seen
+  private final Map<VirtualFile, Long> myDirtyFiles = new ConcurrentHashMap<>();
+  private final AtomicLong myDirtyStamp = new AtomicLong();
+  private final AtomicLong myInvalidationCount = new AtomicLong();
+  private final AtomicLong myAnalysedFiles = new AtomicLong();
+  private final AtomicReference<Snapshot> mySnapshot = new AtomicReference<>();
+
+  public GuiceBindingGraph(@NotNull Project project) {
+    myProject = project;
+    // the tracker only reports changed files to services that exist, so make sure it listens from now on
+    GuiceModelModificationTracker.getInstance(project);
+  }
+
+  public static @NotNull GuiceBindingGraph getInstance(@NotNull Project project) {
+    return project.getService(GuiceBindingGraph.class);
+  }
+
+  /**
+   * Schedules the contribution of {@code file} to be recomputed on the next query.
+   */
+  void markDirty(@NotNull VirtualFile file) {
+    myDirtyFiles.put(file, myDirtyStamp.incrementAndGet());
+  }
+
+  /**
+   * Schedules a full rebuild on the next query.
+   */
+  void invalidate() {
+    myInvalidationCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the provisions satisfying {@code key}, including the ones bound with an attribute wildcard qualifier.
+   */
+  public @NotNull Set<Provision> getProvisions(@NotNull BindingKey key) {
+    final Snapshot snapshot = getSnapshot();
+    Set<Provision> result = new HashSet<>(snapshot.myProvisions.getOrDefault(key, Collections.emptySet()));
+    result.addAll(snapshot.myProvisions.getOrDefault(key.withoutAttributes(), Collections.emptySet()));
+    return result;
+  }
+
+  /**
+   * Returns the provisions Guice uses for {@code key}: the explicit bindings and {@code @Provides} methods if there are any,
+   * else the class annotations and just-in-time bindings.
+   */
+  public @NotNull Set<Provision> getEffectiveProvisions(@NotNull BindingKey key) {
+    final Set<Provision> provisions = getProvisions(key);
+    final Set<Provision> explicit = new HashSet<>();
+    for (Provision provision : provisions) {
+      if (provision.isExplicit()) {
+        explicit.add(provision);
+      }
+    }
+    return explicit.isEmpty() ? provisions : explicit;
+  }
+
+  /**
+   * Returns the provisions that bind, link to or provide the class with the given qualified name.
+   */
+  public @NotNull Set<Provision> getProvisionsInvolving(@NotNull String classQualifiedName) {
+    return new HashSet<>(getSnapshot().myProvisionsByClass.getOrDefault(classQualifiedName, Collections.emptySet()));
+  }
+
+  /**
+   * Returns the injection points satisfied by a provision of {@code key}.
+   */
+  public @NotNull Set<Dependency> getDependents(@NotNull BindingKey key) {
+    final Snapshot snapshot = getSnapshot();
+    final Map<BindingKey, Set<Dependency>> map = key.isAnyAttributes() ? snapshot.myDependentsByQualifierType : snapshot.myDependents;
+    return new HashSet<>(map.getOrDefault(key, Collections.emptySet()));
+  }
+
+  /**
+   * Returns the injection points of the type with the given erased qualified name, whatever their qualifier.
+   */
+  public @NotNull Set<Dependency> getDependentsOfType(@NotNull String typeQualifiedName) {
+    return new HashSet<>(getSnapshot().myDependentsByType.getOrDefault(typeQualifiedName, Collections.emptySet()));
+  }
+
+  /**
+   * Returns the injection points declared by the class with the given qualified name.
+   */
+  public @NotNull Set<Dependency> getDependencies(@NotNull String consumerClassQualifiedName) {
+    return new HashSet<>(getSnapshot().myDependenciesByConsumerClass.getOrDefault(consumerClassQualifiedName, Collections.emptySet()));
+  }
+
+  /**
+   * Returns the field, constructor and method injection points of the class with the given qualified name, without the
+   * parameters of {@code @Provides} methods it declares.
+   */
+  public @NotNull List<Dependency> getMemberDependencies(@NotNull String consumerClassQualifiedName) {
+    List<Dependency> result = new ArrayList<>();
+    for (Dependency dependency : getDependencies(consumerClassQualifiedName)) {
+      if (dependency.getConsumerProvision() == null) {
+        result.add(dependency);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the parameters of a {@code @Provides} provision.
+   */
+  public @NotNull Set<Dependency> getDependencies(@NotNull Provision provision) {
+    return new HashSet<>(getSnapshot().myDependenciesByProvision.getOrDefault(provision, Collections.emptySet()));
+  }
+
+  /**
+   * Returns every key that is provided or required in project sources.
+   */
+  public @NotNull Set<BindingKey> getKeys() {
+    final Snapshot snapshot = getSnapshot();
+    Set<BindingKey> keys = new HashSet<>(snapshot.myProvisions.keySet());
+    keys.addAll(snapshot.myDependents.keySet());
+    return keys;
+  }
+
+  /**
+   * Returns every provision declared in project sources.
+   */
+  public @NotNull List<Provision> getAllProvisions() {
+    List<Provision> result = new ArrayList<>();
+    for (FileContribution contribution : getSnapshot().myContributions.values()) {
+      result.addAll(contribution.myProvisions);
+    }
+    return result;
+  }
+
+  /**
+   * Returns every injection point declared in project sources.
+   */
+  public @NotNull List<Dependency> getAllDependencies() {
+    List<Dependency> result = new ArrayList<>();
+    for (FileContribution contribution : getSnapshot().myContributions.values()) {
+      result.addAll(contribution.myDependencies);
+    }
+    return result;
+  }
+
+  /**
+   * Number of file contributions computed since the project was opened, for diagnosing incremental updates.
+   */
+  public long getAnalysedFileCount() {
+    return myAnalysedFiles.get();
+  }
+
+  /**
+   * Returns the published snapshot, first building a new one if files changed since.
+   * <p>
+   * No lock is held while building: contributions are computed in read actions that give way to write actions, so a pending
+   * write cancels the update with a {@link com.intellij.openapi.progress.ProcessCanceledException} and leaves the published
+   * snapshot and the dirty files as they were. Threads racing to update may compute the same files twice; the first to
+   * publish wins and the others retry on top of its snapshot.
+   */
+  private @NotNull Snapshot getSnapshot() {
+    while (true) {
+      final Snapshot snapshot = mySnapshot.get();
+      final long rootsModificationCount = ProjectRootManager.getInstance(myProject).getModificationCount();
+      final long invalidationCount = myInvalidationCount.get();
+      final boolean rebuild = snapshot == null ||
+                              snapshot.myRootsModificationCount != rootsModificationCount ||
+                              snapshot.myInvalidationCount != invalidationCount;
+      if (!rebuild && myDirtyFiles.isEmpty()) return snapshot;
+
+      final Map<VirtualFile, Long> dirty = new HashMap<>(myDirtyFiles);
+      final Set<VirtualFile> files = new HashSet<>(dirty.keySet());
+      final Map<VirtualFile, FileContribution> contributions = new HashMap<>();
+      if (rebuild) {
+        GuiceInjectorManager.runInReadActionWithWriteActionPriority(() -> files.addAll(collectGuiceFiles()));
+      }
+      else {
+        contributions.putAll(snapshot.myContributions);
+      }
+
+      final Map<VirtualFile, FileContribution> computed = new ConcurrentHashMap<>();
+      GuiceInjectorManager.processFilesConcurrently(files, file -> {
+        final FileContribution contribution = computeContribution(file);
+        if (contribution != null) {
+          computed.put(file, contribution);
+        }
+      });
+      for (VirtualFile file : files) {
+        contributions.remove(file);
+        final FileContribution contribution = computed.get(file);
+        if (contribution != null) {
+          contributions.put(file, contribution);
+        }
+      }
+
+      final Snapshot updated = new Snapshot(rootsModificationCount, invalidationCount, contributions);
+      if (mySnapshot.compareAndSet(snapshot, updated)) {
+        for (Map.Entry<VirtualFile, Long> entry : dirty.entrySet()) {
+          myDirtyFiles.remove(entry.getKey(), entry.getValue());
+        }
+        myAnalysedFiles.addAndGet(files.size());
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Guice binding graph updated from " + files.size() + " file(s), " + contributions.size() + " contributing file(s)");
+        }
+        return updated;
+      }
+    }
+  }
+
+  private @NotNull Set<VirtualFile> collectGuiceFiles() {
+    final GlobalSearchScope scope = GlobalSearchScope.projectScope(myProject);
+    Set<VirtualFile> files = new HashSet<>(GuiceBindingIndex.getFilesWithBindings(myProject, scope));
+    files.addAll(GuiceInjectionPointIndex.getFilesWithSites(scope));
+    files.addAll(GuiceProvidesIndex.getSourceFilesWithProvides(scope));
+
+    final JavaPsiFacade facade = JavaPsiFacade.getInstance(myProject);
+    final GlobalSearchScope allScope = GlobalSearchScope.allScope(myProject);
+    for (String annotation : List.of(GuiceAnnotations.IMPLEMENTED_BY, GuiceAnnotations.PROVIDED_BY)) {
+      final PsiClass annotationClass = facade.findClass(annotation, allScope);
+      if (annotationClass == null) continue;
+      for (PsiClass psiClass : AnnotatedElementsSearch.searchPsiClasses(annotationClass, scope).findAll()) {
+        final PsiFile file = psiClass.getContainingFile();
+        final VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        if (virtualFile != null) {
+          files.add(virtualFile);
+        }
+      }
+    }
+    return files;
+  }
+
+  private @Nullable FileContribution computeContribution(@NotNull VirtualFile file) {
+    if (!(PsiManager.getInstance(myProject).findFile(file) instanceof PsiJavaFile psiFile)) return null;
+
+    FileContribution contribution = new FileContribution();
+    for (List<GuiceBindingIndex.Binding> bindings : GuiceBindingIndex.getFileBindings(myProject, file).values()) {
+      for (GuiceBindingIndex.Binding binding : bindings) {
+        final BindDescriptor descriptor = GuiceInjectorManager.createDescriptor(psiFile, binding);
+        final BindingKey key = descriptor != null ? descriptor.getKey() : null;
+        final PsiMethodCallExpression expression = descriptor != null ? descriptor.getBindExpression() : null;
+        if (key == null || expression == null) continue;
+
+        Set<String> targets = new HashSet<>();
+        addTarget(targets, descriptor.getBindingClass());
+        if (descriptor instanceof BindToProviderDescriptor providerDescriptor) {
+          addTarget(targets, providerDescriptor.getProviderClass());
+        }
+        contribution.myProvisions.add(
+          new Provision(ProvisionKind.BINDING, key, binding.getKind(), targets, file, expression));
+      }
+    }
+
+    final GlobalSearchScope fileScope = GlobalSearchScope.fileScope(psiFile);
+    for (List<GuiceProvidesIndex.ProvidesMethod> methods : GuiceProvidesIndex.getFileProvides(myProject, file).values()) {
+      for (GuiceProvidesIndex.ProvidesMethod method : methods) {
+        final PsiMethod psiMethod = GuiceProvidesIndex.findMethod(myProject, file, method, fileScope);
+        if (psiMethod == null) continue;
+        final GuiceProvides<PsiMethod> provides = new GuiceProvides.Method(psiMethod);
+        final BindingKey key = provides.getKey();
+        if (key == null) continue;
+
+        final Provision provision = new Provision(ProvisionKind.PROVIDES, key, null, Collections.emptySet(), file, psiMethod);
+        contribution.myProvisions.add(provision);
+        for (InjectionPointDescriptor ip : provides.getInjectionPoints()) {
+          addDependency(contribution, ip, file, provision);
+        }
+      }
+    }
+
+    Set<PsiClass> jitClasses = new LinkedHashSet<>();
+    for (List<GuiceInjectionPointIndex.Site> sites : GuiceInjectionPointIndex.getFileSites(myProject, file).values()) {
+      for (GuiceInjectionPointIndex.Site site : sites) {
+        final PsiModifierListOwner owner = GuiceInjectionPointIndex.findOwner(psiFile, site);
+        if (owner == null) continue;
+        addDependency(contribution, new InjectionPointDescriptor(owner), file, null);
+
+        final PsiClass consumer = PsiTreeUtil.getParentOfType(owner, PsiClass.class);
+        if (consumer != null && !consumer.isInterface() && !consumer.hasModifierProperty(PsiModifier.ABSTRACT)) {
+          jitClasses.add(consumer);
+        }
+      }
+    }
+    for (PsiClass psiClass : jitClasses) {
+      final BindingKey key = BindingKey.forClass(psiClass);
+      if (key != null) {
+        contribution.myProvisions.add(new Provision(ProvisionKind.JIT, key, null, Set.of(key.getType()), file, psiClass));
+      }
+    }
+
+    final CharSequence text = psiFile.getViewProvider().getContents();
+    if (StringUtil.contains(text, "ImplementedBy") || StringUtil.contains(text, "ProvidedBy")) {
+      for (PsiClass psiClass : PsiTreeUtil.findChildrenOfType(psiFile, PsiClass.class)) {
+        addAnnotatedProvision(contribution, psiClass, file, GuiceAnnotations.IMPLEMENTED_BY, ProvisionKind.IMPLEMENTED_BY);
+        addAnnotatedProvision(contribution, psiClass, file, GuiceAnnotations.PROVIDED_BY, ProvisionKind.PROVIDED_BY);
+      }
+    }
+    return contribution;
+  }
+
+  private static void addDependency(@NotNull FileContribution contribution,
+                                    @NotNull InjectionPointDescriptor ip,
+                                    @NotNull VirtualFile file,
+                                    @Nullable Provision consumerProvision) {
+    final BindingKey key = ip.getKey();
+    if (key == null) return;
+    final PsiClass consumer = PsiTreeUtil.getParentOfType(ip.getOwner(), PsiClass.class);
+    contribution.myDependencies.add(
+      new Dependency(key, file, consumer != null ? consumer.getQualifiedName() : null, consumerProvision, ip.getOwner()));
+  }
+
+  private static void addAnnotatedProvision(@NotNull FileContribution contribution,
+                                            @NotNull PsiClass psiClass,
+                                            @NotNull VirtualFile file,
+                                            @NotNull String annotationName,
+                                            @NotNull ProvisionKind kind) {
+    final PsiModifierList modifierList = psiClass.getModifierList();
+    final PsiAnnotation annotation = modifierList != null ? modifierList.findAnnotation(annotationName) : null;
+    if (annotation == null) return;
+    final BindingKey key = BindingKey.forClass(psiClass);
+    if (key == null) return;
+
+    Set<String> targets = new HashSet<>();
+    if (AnnotationUtils.findDefaultValue(annotation) instanceof PsiClassObjectAccessExpression classObject &&
+        classObject.getOperand().getType() instanceof PsiClassType classType) {
+      addTarget(targets, classType.resolve());
+    }
+    contribution.myProvisions.add(new Provision(kind, key, null, targets, file, psiClass));
+  }
+
+  private static void addTarget(@NotNull Set<String> targets, @Nullable PsiClass psiClass) {
+    if (psiClass instanceof PsiAnonymousClass anonymousClass) {
+      psiClass = anonymousClass.getBaseClassType().resolve();
+    }
+    final String qualifiedName = psiClass != null ? psiClass.getQualifiedName() : null;
+    if (qualifiedName != null) {
+      targets.add(qualifiedName);
+    }
+  }
+}
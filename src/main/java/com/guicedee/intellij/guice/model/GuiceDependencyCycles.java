@@ -0,0 +1,247 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Injection cycles of the {@link GuiceBindingGraph}, found as the strongly connected components of its injection edges.
+ * <p>
+ * Nodes are what Guice instantiates: classes, by qualified name, and {@code @Provides} {@link GuiceBindingGraph.Provision}s.
+ * Every constructor, field and method injection point of a class, and every parameter of a {@code @Provides} method, is an
+ * edge to the nodes its key resolves to. {@code Provider} injections are not edges, as they are the usual way to break a
+ * cycle. The components are computed once per model change with {@link StronglyConnectedComponents}, linear in the number of
+ * nodes and edges, and queries only search for a path within the component of the injection point.
+ */
+public final class GuiceDependencyCycles {
+  private static final Logger LOG = Logger.getInstance(GuiceDependencyCycles.class);
+  private static final Key<CachedValue<GuiceDependencyCycles>> DEPENDENCY_CYCLES = Key.create("guice.dependency.cycles");
+
+  /**
+   * An injection point and the node its key resolves to.
+   */
+  private static final class Edge {
+    private final @NotNull GuiceBindingGraph.Dependency myDependency;
+    private final @NotNull Object myTarget;
+
+    private Edge(@NotNull GuiceBindingGraph.Dependency dependency, @NotNull Object target) {
+      myDependency = dependency;
+      myTarget = target;
+    }
+  }
+
+  private final GuiceBindingGraph myGraph;
+  private final Map<Object, List<Edge>> myEdges = new HashMap<>();
+  private final Map<BindingKey, List<Object>> myTargets = new HashMap<>();
+  // component index of the nodes that are part of a cycle
+  private final Map<Object, Integer> myComponents = new HashMap<>();
+  private boolean myComputed;
+
+  private GuiceDependencyCycles(@NotNull Project project) {
+    myGraph = GuiceBindingGraph.getInstance(project);
+  }
+
+  public static @NotNull GuiceDependencyCycles getInstance(@NotNull Project project) {
+    final GuiceModelModificationTracker tracker = GuiceModelModificationTracker.getInstance(project);
+    return tracker.getCachedValue(project, DEPENDENCY_CYCLES, () -> CachedValueProvider.Result.create(
+      new GuiceDependencyCycles(project), tracker.getDependencies()));
+  }
+
+  /**
+   * Returns the cycle {@code dependency} closes, starting with {@code dependency} itself and ending with the injection point
+   * that leads back to its consumer, or an empty list if it is not part of a cycle.
+   */
+  public synchronized @NotNull List<GuiceBindingGraph.Dependency> findCycle(@NotNull GuiceBindingGraph.Dependency dependency) {
+    ensureComputed();
+    final Object consumer = getConsumer(dependency);
+    final Integer component = consumer != null ? myComponents.get(consumer) : null;
+    if (component == null) return Collections.emptyList();
+
+    for (Object target : getTargets(dependency.getKey())) {
+      if (!component.equals(myComponents.get(target))) continue;
+      final List<GuiceBindingGraph.Dependency> path = findPath(target, consumer, component);
+      if (path != null) {
+        List<GuiceBindingGraph.Dependency> cycle = new ArrayList<>();
+        cycle.add(dependency);
+        cycle.addAll(path);
+        return cycle;
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Same as {@link #findCycle(GuiceBindingGraph.Dependency)} for a field or parameter injection point.
+   */
+  public @NotNull List<GuiceBindingGraph.Dependency> findCycle(@NotNull PsiModifierListOwner injectionPoint) {
+    final PsiClass containingClass = PsiTreeUtil.getParentOfType(injectionPoint, PsiClass.class);
+    final String className = containingClass != null ? containingClass.getQualifiedName() : null;
+    if (className == null) return Collections.emptyList();
+
+    for (GuiceBindingGraph.Dependency dependency : myGraph.getDependencies(className)) {
+      if (injectionPoint.equals(dependency.getOwner())) {
+        return findCycle(dependency);
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Presents a cycle found by {@link #findCycle} as {@code A -> B -> A}, with short class names and {@code @Provides} methods
+   * as {@code Module.method()}.
+   */
+  public static @NotNull String getPresentableCycle(@NotNull List<GuiceBindingGraph.Dependency> cycle) {
+    StringJoiner joiner = new StringJoiner(" -> ");
+    for (GuiceBindingGraph.Dependency dependency : cycle) {
+      joiner.add(getPresentableName(getConsumer(dependency)));
+    }
+    if (!cycle.isEmpty()) {
+      joiner.add(getPresentableName(getConsumer(cycle.get(0))));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Presents the class or {@code @Provides} method declaring {@code dependency}, the way {@link #getPresentableCycle} does.
+   */
+  public static @NotNull String getPresentableConsumer(@NotNull GuiceBindingGraph.Dependency dependency) {
+    return getPresentableName(getConsumer(dependency));
+  }
+
+  private static @NotNull String getPresentableName(@Nullable Object node) {
+    if (node instanceof GuiceBindingGraph.Provision provision) {
+      if (provision.getElement() instanceof PsiMethod method) {
+        final PsiClass containingClass = method.getContainingClass();
+        return (containingClass != null ? containingClass.getName() + "." : "") + method.getName() + "()";
+      }
+      return provision.getKey().toString();
+    }
+    return node instanceof String className ? StringUtil.getShortName(className) : "?";
+  }
+
+  private static @Nullable Object getConsumer(@NotNull GuiceBindingGraph.Dependency dependency) {
+    return dependency.getConsumerProvision() != null ? dependency.getConsumerProvision() : dependency.getConsumerClass();
+  }
+
+  private @NotNull List<Object> getTargets(@NotNull BindingKey key) {
+    final List<Object> cached = myTargets.get(key);
+    if (cached != null) return cached;
+
+    List<Object> targets = new ArrayList<>();
+    // unbound classes are missing as well: without injection points they have no JIT provision, and no edges either
+    if (!GuiceClasses.PROVIDERS.contains(key.getType())) {
+      for (GuiceBindingGraph.Provision provision : myGraph.getEffectiveProvisions(key)) {
+        if (provision.getKind() == GuiceBindingGraph.ProvisionKind.PROVIDES) {
+          targets.add(provision);
+        }
+        targets.addAll(provision.getInstantiatedClasses());
+      }
+    }
+    myTargets.put(key, targets);
+    return targets;
+  }
+
+  private @NotNull List<Edge> getEdges(@NotNull Object node) {
+    final List<Edge> cached = myEdges.get(node);
+    if (cached != null) return cached;
+
+    final Collection<GuiceBindingGraph.Dependency> dependencies = node instanceof GuiceBindingGraph.Provision provision
+                                                                  ? myGraph.getDependencies(provision)
+                                                                  : myGraph.getMemberDependencies((String)node);
+    List<Edge> edges = new ArrayList<>();
+    for (GuiceBindingGraph.Dependency dependency : dependencies) {
+      for (Object target : getTargets(dependency.getKey())) {
+        edges.add(new Edge(dependency, target));
+      }
+    }
+    myEdges.put(node, edges);
+    return edges;
+  }
+
+  private void ensureComputed() {
+    if (myComputed) return;
+    try {
+      computeComponents();
+      myComputed = true;
+    }
+    catch (ProcessCanceledException e) {
+      myEdges.clear();
+      myTargets.clear();
+      myComponents.clear();
+      throw e;
+    }
+  }
+
+  private void computeComponents() {
+    Set<Object> roots = new LinkedHashSet<>();
+    for (GuiceBindingGraph.Dependency dependency : myGraph.getAllDependencies()) {
+      ContainerUtil.addIfNotNull(roots, getConsumer(dependency));
+    }
+
+    final int[] components = {0};
+    final int nodes = StronglyConnectedComponents.compute(
+      roots, node -> ContainerUtil.map(getEdges(node), edge -> edge.myTarget).iterator(), component -> {
+        if (component.size() > 1 || hasSelfEdge(component.get(0))) {
+          for (Object node : component) {
+            myComponents.put(node, components[0]);
+          }
+          components[0]++;
+        }
+      });
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Guice dependency cycles computed over " + nodes + " node(s): " + components[0] + " cycle(s)");
+    }
+  }
+
+  private boolean hasSelfEdge(@NotNull Object node) {
+    for (Edge edge : getEdges(node)) {
+      if (edge.myTarget.equals(node)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Breadth-first search for the shortest path of injection points from {@code from} to {@code to} within one component.
+   */
+  private @Nullable List<GuiceBindingGraph.Dependency> findPath(@NotNull Object from, @NotNull Object to, @NotNull Integer component) {
+    Map<Object, Edge> reachedBy = new HashMap<>();
+    Deque<Object> queue = new ArrayDeque<>();
+    queue.add(from);
+    reachedBy.put(from, null);
+    while (!queue.isEmpty()) {
+      final Object node = queue.poll();
+      if (node.equals(to)) {
+        LinkedList<GuiceBindingGraph.Dependency> path = new LinkedList<>();
+        Object current = node;
+        Edge edge;
+        while ((edge = reachedBy.get(current)) != null) {
+          path.addFirst(edge.myDependency);
+          current = getConsumer(edge.myDependency);
+        }
+        return path;
+      }
+      for (Edge edge : getEdges(node)) {
+        if (component.equals(myComponents.get(edge.myTarget)) && !reachedBy.containsKey(edge.myTarget)) {
+          reachedBy.put(edge.myTarget, edge);
+          queue.add(edge.myTarget);
+        }
+      }
+    }
+    return null;
+  }
+}
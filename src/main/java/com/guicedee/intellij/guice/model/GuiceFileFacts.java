@@ -0,0 +1,213 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.utils.AnnotationUtils;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Guice facts about one Java file, computed once and shared by all Guice inspections of an analysis pass.
+ * <p>
+ * Nothing is computed up front: {@code bind()} chains and the facts about the classes they reference — annotations
+ * including the hierarchy, {@code @ImplementedBy}/{@code @ProvidedBy} targets, instantiability — are resolved on first use
+ * and memoized, so the inspections do not repeat {@link AnnotationUtil#CHECK_HIERARCHY} walks for the same class.
+ * The facts are cached on the file and dropped when the file or the Java structure of the project changes.
+ */
+public final class GuiceFileFacts {
+  private static final Key<CachedValue<GuiceFileFacts>> FILE_FACTS = Key.create("guice.file.facts");
+
+  // keyed by the outermost call of each chain
+  private final Map<PsiMethodCallExpression, Optional<BindingChain>> myBindingChains = new ConcurrentHashMap<>();
+  private final Map<PsiModifierListOwner, Set<String>> myHierarchyAnnotations = new ConcurrentHashMap<>();
+  private final Map<PsiClass, Optional<PsiClass>> myImplementedBy = new ConcurrentHashMap<>();
+  private final Map<PsiClass, Optional<PsiClass>> myProvidedBy = new ConcurrentHashMap<>();
+  private final Map<PsiClass, Boolean> myInstantiable = new ConcurrentHashMap<>();
+  private final Map<PsiClass, Boolean> myInjectedMembers = new ConcurrentHashMap<>();
+
+  private GuiceFileFacts() {
+  }
+
+  public static @NotNull GuiceFileFacts getInstance(@NotNull PsiFile file) {
+    return CachedValuesManager.getCachedValue(file, FILE_FACTS, () -> CachedValueProvider.Result.create(
+      new GuiceFileFacts(), file, PsiModificationTracker.getInstance(file.getProject()).forLanguage(JavaLanguage.INSTANCE)));
+  }
+
+  public static @NotNull GuiceFileFacts getInstance(@NotNull PsiElement element) {
+    return getInstance(element.getContainingFile());
+  }
+
+  /**
+   * Returns the {@code bind()} chain {@code call} is part of, or {@code null} if it is not part of one. The chain is resolved
+   * on the first query for any of its calls.
+   */
+  public @Nullable BindingChain getBindingChain(@NotNull PsiMethodCallExpression call) {
+    final PsiMethodCallExpression anchor = getOutermostCall(call);
+    return myBindingChains.computeIfAbsent(
+      anchor, a -> Optional.ofNullable(GuiceUtils.findCallInChain(a, "bind") != null ? new BindingChain(a) : null)).orElse(null);
+  }
+
+  private static @NotNull PsiMethodCallExpression getOutermostCall(@NotNull PsiMethodCallExpression call) {
+    while (PsiUtil.skipParenthesizedExprUp(call.getParent()) instanceof PsiReferenceExpression reference &&
+           reference.getParent() instanceof PsiMethodCallExpression outer &&
+           PsiUtil.skipParenthesizedExprDown(reference.getQualifierExpression()) == call) {
+      call = outer;
+    }
+    return call;
+  }
+
+  /**
+   * Same as {@code AnnotationUtil.isAnnotated(owner, annotation, CHECK_HIERARCHY)}, memoized per owner.
+   */
+  public boolean isAnnotated(@NotNull PsiModifierListOwner owner, @NotNull String annotation) {
+    return getHierarchyAnnotations(owner).contains(annotation);
+  }
+
+  public boolean isAnnotated(@NotNull PsiModifierListOwner owner, @NotNull Collection<String> annotations) {
+    final Set<String> names = getHierarchyAnnotations(owner);
+    for (String annotation : annotations) {
+      if (names.contains(annotation)) return true;
+    }
+    return false;
+  }
+
+  private @NotNull Set<String> getHierarchyAnnotations(@NotNull PsiModifierListOwner owner) {
+    return myHierarchyAnnotations.computeIfAbsent(owner, o -> {
+      Set<String> names = new HashSet<>();
+      for (PsiAnnotation annotation : AnnotationUtil.getAllAnnotations(o, true, null, false)) {
+        final String qualifiedName = annotation.getQualifiedName();
+        if (qualifiedName != null) {
+          names.add(qualifiedName);
+        }
+      }
+      return names;
+    });
+  }
+
+  /**
+   * Returns {@code true} if the annotation is itself annotated with one of {@link GuiceAnnotations#BINDING_META_ANNOTATIONS}.
+   */
+  public boolean isBindingAnnotation(@NotNull PsiAnnotation annotation) {
+    final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+    return referenceElement != null &&
+           referenceElement.resolve() instanceof PsiClass annotationClass &&
+           isAnnotated(annotationClass, GuiceAnnotations.BINDING_META_ANNOTATIONS);
+  }
+
+  /**
+   * Returns the class named by the {@code @ImplementedBy} annotation declared on {@code psiClass}.
+   */
+  public @Nullable PsiClass getImplementedByClass(@NotNull PsiClass psiClass) {
+    return myImplementedBy.computeIfAbsent(psiClass, c -> Optional.ofNullable(getAnnotationTarget(c, GuiceAnnotations.IMPLEMENTED_BY)))
+      .orElse(null);
+  }
+
+  /**
+   * Returns the provider class named by the {@code @ProvidedBy} annotation declared on {@code psiClass}.
+   */
+  public @Nullable PsiClass getProvidedByClass(@NotNull PsiClass psiClass) {
+    return myProvidedBy.computeIfAbsent(psiClass, c -> Optional.ofNullable(getAnnotationTarget(c, GuiceAnnotations.PROVIDED_BY)))
+      .orElse(null);
+  }
+
+  public boolean isInstantiable(@NotNull PsiClass psiClass) {
+    return myInstantiable.computeIfAbsent(psiClass, GuiceUtils::isInstantiable);
+  }
+
+  /**
+   * Returns {@code true} if any method or field of {@code psiClass}, including inherited ones, is an injection point.
+   */
+  public boolean hasInjectedMembers(@NotNull PsiClass psiClass) {
+    return myInjectedMembers.computeIfAbsent(psiClass, c -> {
+      for (PsiMethod method : c.getAllMethods()) {
+        if (isAnnotated(method, GuiceAnnotations.INJECTS)) return true;
+      }
+      for (PsiField field : c.getAllFields()) {
+        if (isAnnotated(field, GuiceAnnotations.INJECTS)) return true;
+      }
+      return false;
+    });
+  }
+
+  private static @Nullable PsiClass getAnnotationTarget(@NotNull PsiClass psiClass, @NotNull String annotationName) {
+    final PsiModifierList modifierList = psiClass.getModifierList();
+    final PsiAnnotation annotation = modifierList != null ? modifierList.findAnnotation(annotationName) : null;
+    if (annotation != null &&
+        AnnotationUtils.findDefaultValue(annotation) instanceof PsiClassObjectAccessExpression value &&
+        value.getOperand().getType() instanceof PsiClassType classType) {
+      return classType.resolve();
+    }
+    return null;
+  }
+
+  /**
+   * A parsed {@code bind(..)...} statement: the classes and scope it names, resolved once.
+   */
+  public static final class BindingChain {
+    private final @NotNull PsiMethodCallExpression myAnchor;
+    private final @Nullable PsiClass myBoundClass;
+    private final @Nullable PsiClass myImplementingClass;
+    private final @Nullable PsiClass myProvidingClass;
+    private final @Nullable String myScopeAnnotation;
+    private final boolean myAnnotated;
+
+    private BindingChain(@NotNull PsiMethodCallExpression anchor) {
+      myAnchor = anchor;
+      myBoundClass = GuiceUtils.findImplementedClassForBinding(anchor);
+      myImplementingClass = GuiceUtils.findImplementingClassForBinding(anchor);
+      myProvidingClass = GuiceUtils.findProvidingClassForBinding(anchor);
+      final PsiExpression scope = GuiceUtils.findScopeForBinding(anchor);
+      myScopeAnnotation = scope != null ? GuiceUtils.getScopeAnnotationForScopeExpression(scope) : null;
+      myAnnotated = GuiceUtils.findAnnotatedWithCallForBinding(anchor) != null;
+    }
+
+    /**
+     * The outermost call of the chain.
+     */
+    public @NotNull PsiMethodCallExpression getAnchor() {
+      return myAnchor;
+    }
+
+    public @Nullable PsiClass getBoundClass() {
+      return myBoundClass;
+    }
+
+    /**
+     * The class literal passed to {@code to(..)}.
+     */
+    public @Nullable PsiClass getImplementingClass() {
+      return myImplementingClass;
+    }
+
+    /**
+     * The class literal passed to {@code toProvider(..)}.
+     */
+    public @Nullable PsiClass getProvidingClass() {
+      return myProvidingClass;
+    }
+
+    /**
+     * The scope annotation equivalent to the {@code in(..)} argument, if it is one of the Guice scope constants.
+     */
+    public @Nullable String getScopeAnnotation() {
+      return myScopeAnnotation;
+    }
+
+    public boolean isAnnotated() {
+      return myAnnotated;
+    }
+  }
+}
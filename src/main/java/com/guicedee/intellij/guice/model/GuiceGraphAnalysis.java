@@ -0,0 +1,279 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.*;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * One pass over the {@link GuiceBindingGraph} of the whole project, for batch inspection runs.
+ * <p>
+ * The graph is brought up to date once, concurrently and outside of any read action of the caller, and each IntelliJ module
+ * is then checked by its own worker for injection points nothing binds, interfaces with several candidate implementations
+ * but no binding, keys bound more than once, consumers that outlive a scoped component they reach and injection cycles. The
+ * {@link GuiceKeySatisfiability}, {@link GuiceScopeReachability} and {@link GuiceDependencyCycles} are shared by the workers.
+ * Once the time budget is spent, including while the graph is being brought up to date, the remaining work is cancelled and
+ * the analysis is {@linkplain #isIncomplete() incomplete}.
+ */
+public final class GuiceGraphAnalysis {
+  private static final Logger LOG = Logger.getInstance(GuiceGraphAnalysis.class);
+
+  public enum ProblemKind {
+    MISSING_BINDING, AMBIGUOUS_IMPLEMENTATION, DUPLICATE_BINDING, SCOPE_WIDENING, DEPENDENCY_CYCLE
+  }
+
+  public static final class Problem {
+    private final @NotNull ProblemKind myKind;
+    private final @NotNull PsiElement myElement;
+    private final @NotNull String myMessage;
+
+    private Problem(@NotNull ProblemKind kind, @NotNull PsiElement element, @NotNull String message) {
+      myKind = kind;
+      myElement = element;
+      myMessage = message;
+    }
+
+    public @NotNull ProblemKind getKind() {
+      return myKind;
+    }
+
+    public @NotNull PsiElement getElement() {
+      return myElement;
+    }
+
+    public @NotNull String getMessage() {
+      return myMessage;
+    }
+  }
+
+  private final Project myProject;
+  private final GuiceBindingGraph myGraph;
+  private final long myStart = System.nanoTime();
+  private final long myBudgetNanos;
+  private volatile boolean myIncomplete;
+
+  /**
+   * @param budgetNanos time after which checking stops, or {@code 0} for no limit
+   */
+  public GuiceGraphAnalysis(@NotNull Project project, long budgetNanos) {
+    myProject = project;
+    myGraph = GuiceBindingGraph.getInstance(project);
+    myBudgetNanos = budgetNanos;
+  }
+
+  /**
+   * Returns {@code true} if the time budget ran out before every module was checked.
+   */
+  public boolean isIncomplete() {
+    return myIncomplete;
+  }
+
+  /**
+   * Checks the provisions and injection points declared in the files accepted by {@code fileFilter}, one worker per module,
+   * passing each problem to {@code consumer} from the worker thread.
+   */
+  public void run(@NotNull Predicate<? super VirtualFile> fileFilter, @NotNull Consumer<? super Problem> consumer) {
+    final ProgressIndicator parent = ProgressIndicatorProvider.getGlobalProgressIndicator();
+    final ProgressIndicator indicator = new SensitiveProgressWrapper(parent != null ? parent : new EmptyProgressIndicator());
+    final long remainingNanos = myBudgetNanos - (System.nanoTime() - myStart);
+    final ScheduledFuture<?> budget = myBudgetNanos > 0
+                                      ? AppExecutorUtil.getAppScheduledExecutorService()
+                                        .schedule(indicator::cancel, Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)
+                                      : null;
+    try {
+      ProgressManager.getInstance().executeProcessUnderProgress(() -> analyse(fileFilter, consumer), indicator);
+    }
+    catch (ProcessCanceledException e) {
+      if (parent != null && parent.isCanceled() || !isOverBudget()) throw e;
+    }
+    finally {
+      if (budget != null) {
+        budget.cancel(false);
+      }
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Guice graph analysis took " + (System.nanoTime() - myStart) / 1_000_000 + " ms" +
+                (myIncomplete ? ", stopped at the time budget" : ""));
+    }
+  }
+
+  /**
+   * Runs under the progress indicator that {@link #run} cancels once the budget is spent, so bringing the graph up to date
+   * stops at the budget as well. The graph takes its own read actions, giving way to write actions: an update cancelled by
+   * one is retried once the write action is done.
+   */
+  private void analyse(@NotNull Predicate<? super VirtualFile> fileFilter, @NotNull Consumer<? super Problem> consumer) {
+    final List<GuiceBindingGraph.Provision> allProvisions = retryAfterWriteActions(myGraph::getAllProvisions);
+    final List<GuiceBindingGraph.Dependency> allDependencies = retryAfterWriteActions(myGraph::getAllDependencies);
+
+    Map<Module, List<GuiceBindingGraph.Provision>> provisions = new HashMap<>();
+    Map<Module, List<GuiceBindingGraph.Dependency>> dependencies = new HashMap<>();
+    final ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(myProject);
+    ApplicationManager.getApplication().runReadAction(() -> {
+      for (GuiceBindingGraph.Provision provision : allProvisions) {
+        final Module module = fileFilter.test(provision.getFile()) ? fileIndex.getModuleForFile(provision.getFile()) : null;
+        if (module != null) {
+          provisions.computeIfAbsent(module, m -> new ArrayList<>()).add(provision);
+        }
+      }
+      for (GuiceBindingGraph.Dependency dependency : allDependencies) {
+        final Module module = fileFilter.test(dependency.getFile()) ? fileIndex.getModuleForFile(dependency.getFile()) : null;
+        if (module != null) {
+          dependencies.computeIfAbsent(module, m -> new ArrayList<>()).add(dependency);
+        }
+      }
+    });
+
+    Set<Module> modules = new LinkedHashSet<>(provisions.keySet());
+    modules.addAll(dependencies.keySet());
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+      new ArrayList<>(modules), ProgressIndicatorProvider.getGlobalProgressIndicator(), module -> {
+        ProgressManager.checkCanceled();
+        if (isOverBudget()) return true;
+        ApplicationManager.getApplication().runReadAction(() -> {
+          if (!module.isDisposed()) {
+            checkModule(module, provisions.getOrDefault(module, Collections.emptyList()),
+                        dependencies.getOrDefault(module, Collections.emptyList()), consumer);
+          }
+        });
+        return true;
+      });
+  }
+
+  private static <T> T retryAfterWriteActions(@NotNull Supplier<? extends T> supplier) {
+    while (true) {
+      try {
+        return supplier.get();
+      }
+      catch (ProcessCanceledException e) {
+        // rethrows if the analysis itself was cancelled or ran out of budget
+        ProgressManager.checkCanceled();
+        ProgressIndicatorUtils.yieldToPendingWriteActions();
+      }
+    }
+  }
+
+  private boolean isOverBudget() {
+    if (myBudgetNanos > 0 && System.nanoTime() - myStart > myBudgetNanos) {
+      myIncomplete = true;
+    }
+    return myIncomplete;
+  }
+
+  private void checkModule(@NotNull Module module,
+                           @NotNull List<GuiceBindingGraph.Provision> provisions,
+                           @NotNull List<GuiceBindingGraph.Dependency> dependencies,
+                           @NotNull Consumer<? super Problem> consumer) {
+    final GlobalSearchScope moduleScope = GlobalSearchScope.moduleWithDependenciesScope(module);
+    for (GuiceBindingGraph.Provision provision : provisions) {
+      ProgressManager.checkCanceled();
+      if (isOverBudget()) return;
+      checkDuplicate(provision, moduleScope, consumer);
+    }
+    for (GuiceBindingGraph.Dependency dependency : dependencies) {
+      ProgressManager.checkCanceled();
+      if (isOverBudget()) return;
+      checkDependency(dependency, consumer);
+    }
+  }
+
+  /**
+   * Reports an explicit binding or {@code @Provides} method whose exact key, generic signature included, is provided again
+   * somewhere visible from its module.
+   */
+  private void checkDuplicate(@NotNull GuiceBindingGraph.Provision provision,
+                              @NotNull GlobalSearchScope moduleScope,
+                              @NotNull Consumer<? super Problem> consumer) {
+    final BindingKey key = provision.getKey();
+    if (!provision.isExplicit() || key.isAnyAttributes()) return;
+
+    int count = 0;
+    for (GuiceBindingGraph.Provision other : myGraph.getProvisions(key)) {
+      if (other.isExplicit() && key.equalsWithSignature(other.getKey()) && moduleScope.contains(other.getFile())) {
+        count++;
+      }
+    }
+    final PsiElement element = provision.getElement();
+    if (count > 1 && element != null) {
+      consumer.accept(new Problem(ProblemKind.DUPLICATE_BINDING, getNameElement(element),
+                                  GuiceBundle.message("guice.graph.duplicate.binding.problem.descriptor", key, count)));
+    }
+  }
+
+  private void checkDependency(@NotNull GuiceBindingGraph.Dependency dependency, @NotNull Consumer<? super Problem> consumer) {
+    if (!(dependency.getOwner() instanceof PsiVariable variable) || GuiceKeySatisfiability.isSatisfiedExternally(variable)) {
+      return;
+    }
+    final PsiElement element = variable.getTypeElement() != null ? variable.getTypeElement() : variable;
+    final GuiceKeySatisfiability.Unsatisfied unsatisfied = GuiceKeySatisfiability.getInstance(myProject).check(variable);
+    if (unsatisfied != null) {
+      consumer.accept(unsatisfied.isAmbiguous()
+                      ? new Problem(ProblemKind.AMBIGUOUS_IMPLEMENTATION, element, GuiceBundle.message(
+                        "guice.graph.ambiguous.implementation.problem.descriptor", unsatisfied.getKey(), unsatisfied.getCandidateCount()))
+                      : new Problem(ProblemKind.MISSING_BINDING, element, GuiceBundle.message(
+                        "guice.graph.missing.binding.problem.descriptor", unsatisfied.getKey())));
+      return;
+    }
+    // Provider<T> defers the lookup, so it never widens a scope nor closes a cycle
+    if (!GuiceClasses.PROVIDERS.contains(dependency.getKey().getType())) {
+      checkScope(element, dependency, consumer);
+      checkCycle(element, dependency, consumer);
+    }
+  }
+
+  /**
+   * Reports an injection whose consumer outlives a scoped component it reaches, directly or through unscoped components.
+   */
+  private void checkScope(@NotNull PsiElement element,
+                          @NotNull GuiceBindingGraph.Dependency dependency,
+                          @NotNull Consumer<? super Problem> consumer) {
+    final GuiceScopeReachability reachability = GuiceScopeReachability.getInstance(myProject);
+    final GuiceScope consumerScope = reachability.getConsumerScope(dependency);
+    final List<BindingKey> path = reachability.findWidening(dependency.getKey(), consumerScope);
+    if (path.isEmpty()) return;
+
+    final BindingKey leaked = path.get(path.size() - 1);
+    final String scope = reachability.getScope(leaked).getPresentableName();
+    final String message = path.size() == 1
+      ? GuiceBundle.message("guice.graph.scope.widening.problem.descriptor", scope, leaked, consumerScope.getPresentableName())
+      : GuiceBundle.message("guice.graph.transitive.scope.widening.problem.descriptor", consumerScope.getPresentableName(), scope, leaked,
+                            GuiceScopeReachability.getPresentablePath(dependency.getConsumerClass(), path));
+    consumer.accept(new Problem(ProblemKind.SCOPE_WIDENING, element, message));
+  }
+
+  private void checkCycle(@NotNull PsiElement element,
+                          @NotNull GuiceBindingGraph.Dependency dependency,
+                          @NotNull Consumer<? super Problem> consumer) {
+    final List<GuiceBindingGraph.Dependency> cycle = GuiceDependencyCycles.getInstance(myProject).findCycle(dependency);
+    if (!cycle.isEmpty()) {
+      consumer.accept(new Problem(ProblemKind.DEPENDENCY_CYCLE, element, GuiceBundle.message(
+        "dependency.cycle.problem.descriptor", GuiceDependencyCycles.getPresentableCycle(cycle))));
+    }
+  }
+
+  private static @NotNull PsiElement getNameElement(@NotNull PsiElement element) {
+    if (element instanceof PsiNameIdentifierOwner owner && owner.getNameIdentifier() != null) {
+      return owner.getNameIdentifier();
+    }
+    return element;
+  }
+}
@@ -3,39 +3,64 @@ package com.guicedee.intellij.guice.model;
 
 import com.intellij.codeInsight.AnnotationUtil;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.index.GuiceIndexUtil;
+import com.guicedee.intellij.guice.index.GuiceInjectionPointIndex;
+import com.guicedee.intellij.guice.index.GuiceProvidesIndex;
 import com.guicedee.intellij.guice.model.beans.BindDescriptor;
 import com.guicedee.intellij.guice.model.jam.GuiceInject;
 import com.guicedee.intellij.guice.model.jam.GuiceProvides;
 import com.guicedee.intellij.guice.utils.GuiceUtils;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Pair;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
-import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.indexing.FileBasedIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 public final class GuiceInjectionUtil {
   public static Set<InjectionPointDescriptor> getInjectionPoints(@NotNull Project project, @NotNull GlobalSearchScope scope) {
     Set<InjectionPointDescriptor> ips = new HashSet<>();
+    for (String typeName : GuiceInjectionPointIndex.getInjectedTypeNames(scope)) {
+      ips.addAll(getInjectionPoints(project, scope, typeName));
+    }
+    return ips;
+  }
 
-    for (String injectAnno : GuiceAnnotations.INJECTS) {
-      PsiClass annoClass = JavaPsiFacade.getInstance(project).findClass(injectAnno, GlobalSearchScope.allScope(project));
-      if (annoClass == null) continue;
-
-      for (PsiField field : AnnotatedElementsSearch.searchPsiFields(annoClass, scope).findAll()) {
-        GuiceInject.Field inject = new GuiceInject.Field(field);
-        ips.addAll(inject.getInjectionPoints());
+  /**
+   * Returns the injection points whose erased type has the given short name, using {@link GuiceInjectionPointIndex}.
+   */
+  public static @NotNull Set<InjectionPointDescriptor> getInjectionPoints(@NotNull Project project,
+                                                                          @NotNull GlobalSearchScope scope,
+                                                                          @NotNull String typeShortName) {
+    Set<InjectionPointDescriptor> ips = new HashSet<>();
+    final PsiManager psiManager = PsiManager.getInstance(project);
+    GuiceInjectionPointIndex.processSites(typeShortName, scope, (file, sites) -> {
+      final PsiFile psiFile = psiManager.findFile(file);
+      if (psiFile == null) return true;
+      for (GuiceInjectionPointIndex.Site site : sites) {
+        final PsiModifierListOwner owner = GuiceInjectionPointIndex.findOwner(psiFile, site);
+        if (owner != null) {
+          ips.add(new InjectionPointDescriptor(owner));
+        }
       }
-      for (PsiMethod method : AnnotatedElementsSearch.searchPsiMethods(annoClass, scope).findAll()) {
-        GuiceInject.Method inject = new GuiceInject.Method(method);
-        ips.addAll(inject.getInjectionPoints());
+      return true;
+    });
+    return ips;
+  }
+
+  /**
+   * Returns the injection points whose erased type resolves to {@code injectedClass}.
+   */
+  public static @NotNull Set<InjectionPointDescriptor> getInjectionPoints(@NotNull PsiClass injectedClass, @NotNull GlobalSearchScope scope) {
+    final String name = injectedClass.getName();
+    if (name == null) return Collections.emptySet();
+
+    Set<InjectionPointDescriptor> ips = new HashSet<>();
+    for (InjectionPointDescriptor ip : getInjectionPoints(injectedClass.getProject(), scope, name)) {
+      if (ip.getType() instanceof PsiClassType classType && injectedClass.equals(classType.resolve())) {
+        ips.add(ip);
       }
     }
     return ips;
@@ -70,26 +95,55 @@ public final class GuiceInjectionUtil {
 
   public static @NotNull List<GuiceProvides> getProvides(@NotNull Project project, @NotNull GlobalSearchScope scope) {
     List<GuiceProvides> result = new ArrayList<>();
-    PsiClass annoClass = JavaPsiFacade.getInstance(project).findClass(GuiceAnnotations.PROVIDES, GlobalSearchScope.allScope(project));
-    if (annoClass != null) {
-      for (PsiMethod method : AnnotatedElementsSearch.searchPsiMethods(annoClass, scope).findAll()) {
-        result.add(new GuiceProvides.Method(method));
+    FileBasedIndex.getInstance().processAllKeys(GuiceProvidesIndex.NAME, productType -> {
+      result.addAll(getProvides(project, scope, productType));
+      return true;
+    }, scope, null);
+    return result;
+  }
+
+  /**
+   * Returns the {@code @Provides} methods, from sources and libraries, whose erased product type has the given short name.
+   */
+  public static @NotNull List<GuiceProvides<PsiMethod>> getProvides(@NotNull Project project,
+                                                                    @NotNull GlobalSearchScope scope,
+                                                                    @NotNull String productTypeShortName) {
+    return getProvides(project, scope, productTypeShortName, null);
+  }
+
+  /**
+   * Same as {@link #getProvides(Project, GlobalSearchScope, String)}, but skips the methods whose indexed {@code @Named}
+   * qualifier rules out {@code key} without restoring them. The remaining ones must still be matched against the key.
+   */
+  public static @NotNull List<GuiceProvides<PsiMethod>> getProvides(@NotNull Project project,
+                                                                    @NotNull GlobalSearchScope scope,
+                                                                    @NotNull String productTypeShortName,
+                                                                    @Nullable BindingKey key) {
+    final String named = key != null ? key.getNamedQualifier() : null;
+    List<GuiceProvides<PsiMethod>> result = new ArrayList<>();
+    GuiceProvidesIndex.processProvides(productTypeShortName, scope, (file, methods) -> {
+      for (GuiceProvidesIndex.ProvidesMethod provides : methods) {
+        if (key != null && !GuiceIndexUtil.mayMatchNamedQualifier(provides.getNamedQualifier(), named)) continue;
+        final PsiMethod method = GuiceProvidesIndex.findMethod(project, file, provides, scope);
+        if (method != null) {
+          result.add(new GuiceProvides.Method(method));
+        }
       }
-    }
+      return true;
+    });
     return result;
   }
 
   public static @NotNull Set<InjectionPointDescriptor> getInjectionPoints(@NotNull BindDescriptor descriptor,
                                                                           @NotNull Set<? extends InjectionPointDescriptor> allInjectionPointDescriptors) {
+    final BindingKey bindingKey = descriptor.getKey();
+    if (bindingKey == null) return Collections.emptySet();
+
     Set<InjectionPointDescriptor> ips = new HashSet<>();
     for (InjectionPointDescriptor ip : allInjectionPointDescriptors) {
-      final PsiType type = ip.getType();
-
-      if (type instanceof PsiClassType) {
-        final PsiClass psiClass = ((PsiClassType)type).resolve();
-        if (psiClass != null && psiClass.equals(descriptor.getBoundClass()) && checkBindingAnnotations(ip, descriptor)) {
-          ips.add(ip);
-        }
+      final BindingKey key = ip.getKey();
+      if (key != null && key.matches(bindingKey)) {
+        ips.add(ip);
       }
     }
 
@@ -102,14 +156,14 @@ public final class GuiceInjectionUtil {
     Set<InjectionPointDescriptor> ips = new HashSet<>();
 
     final PsiType productType = provides.getProductType();
-    if (productType != null) {
+    final BindingKey providesKey = provides.getKey();
+    if (productType != null && providesKey != null) {
       for (InjectionPointDescriptor ip : allInjectionPointDescriptors) {
         final PsiType type = ip.getType();
+        final BindingKey key = ip.getKey();
 
-        if (type != null && productType.isAssignableFrom(type)) {
-          if (checkBindingAnnotations(ip.getBindingAnnotations(), provides.getBindingAnnotations())) {
-            ips.add(ip);
-          }
+        if (type != null && key != null && key.matchesQualifier(providesKey) && productType.isAssignableFrom(type)) {
+          ips.add(ip);
         }
       }
     }
@@ -117,118 +171,16 @@ public final class GuiceInjectionUtil {
     return ips;
   }
 
-  public static boolean checkBindingAnnotations(@NotNull Set<? extends PsiAnnotation> annotations, @NotNull Set<? extends PsiAnnotation> candidateAnnotations) {
-    if (annotations.size() != candidateAnnotations.size()) return false;
-
-    for (PsiAnnotation psiAnnotation : annotations) {
-      boolean hasAnno = false;
-      for (PsiAnnotation annotation : candidateAnnotations) {
-        if (compareAnnotations(psiAnnotation, annotation)) {
-          hasAnno = true; break;
-        }
-      }
-      if (!hasAnno) return false;
-    }
-    return true;
-  }
-
-  private static boolean compareAnnotations(@NotNull PsiAnnotation anno, @NotNull PsiAnnotation candidateAnno) {
-    String fqn1 = anno.getQualifiedName();
-    if (fqn1 != null && fqn1.equals(candidateAnno.getQualifiedName())) {
-         return  compareAnnotationAttributes(getAnnotationAttributeValues(anno), getAnnotationAttributeValues(candidateAnno));
-    }
-
-    return false;
-  }
-
-  private static boolean compareAnnotationAttributes(@NotNull Set<Pair<String, PsiAnnotationMemberValue>> attrs,
-                                                     @NotNull Set<Pair<String, PsiAnnotationMemberValue>> candidateAttrs) {
-    if (attrs.isEmpty() && candidateAttrs.isEmpty()) return true;
-    for (Pair<String, PsiAnnotationMemberValue> valuePair_1 : attrs) {
-      for (Pair<String, PsiAnnotationMemberValue> valuePair_2 : candidateAttrs) {
-        if (valuePair_1.first.equals(valuePair_2.first)) {
-          final PsiAnnotationMemberValue value_1 = valuePair_1.getSecond();
-          final PsiAnnotationMemberValue value_2 = valuePair_2.getSecond();
-
-          if (value_1 instanceof PsiReference) {
-            if (value_2 instanceof PsiReference) {
-              PsiElement element1 = ((PsiReference)value_1).resolve();
-              PsiElement element2 = ((PsiReference)value_2).resolve();
-              return element1 != null && element2 != null && element1.equals(element2);
-            }
-          } else {
-            Object attrValue = computeConstantValue(value_1);
-            Object candidateAttrValue = computeConstantValue(value_2);
-
-            return attrValue != null && candidateAttrValue != null && attrValue.equals(candidateAttrValue);
-          }
-          return false;
-        }
-      }
-    }
-
-    return false;
-  }
-
-  private static @Nullable Object computeConstantValue(@NotNull PsiAnnotationMemberValue value) {
-    if (value instanceof PsiLiteralExpression) {
-      return ((PsiLiteralExpression) value).getValue();
-    }
-    Project project = value.getProject();
-    return JavaPsiFacade.getInstance(project).getConstantEvaluationHelper().computeConstantExpression(value);
-  }
-
-  private static @NotNull Set<Pair<String, PsiAnnotationMemberValue>> getAnnotationAttributeValues(@NotNull PsiAnnotation annotation) {
-    Set<Pair<String, PsiAnnotationMemberValue>> pairs = new HashSet<>();
-
-    final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
-    if (referenceElement != null) {
-      PsiElement resolved = referenceElement.resolve();
-      if (resolved != null) {
-        PsiMethod[] methods = ((PsiClass)resolved).getMethods();
-        for (PsiMethod psiMethod : methods) {
-          if (PsiUtil.isAnnotationMethod(psiMethod)) {
-            String attributeName = psiMethod.getName();
-            pairs.add(Pair.create(attributeName, annotation.findAttributeValue(attributeName)));
-          }
-        }
-      }
-    }
-    return pairs;
-  }
-
-  public static boolean checkBindingAnnotations(InjectionPointDescriptor ip, @NotNull BindDescriptor descriptor) {
-    final Set<PsiAnnotation> bindingAnnotations = ip.getBindingAnnotations();
-    if (bindingAnnotations.size() > 1) return false;
-
-    final PsiMethodCallExpression expression = descriptor.getBindExpression();
-    final PsiClass annotatedWith = getCallExpressionType(expression, "annotatedWith");
-    if (annotatedWith == null && bindingAnnotations.isEmpty()) return true;
-
-    if (annotatedWith != null && bindingAnnotations.size() == 1) {
-      final PsiAnnotation bindingAnno = bindingAnnotations.iterator().next();
-      if (GuiceAnnotations.NAMED.equals(annotatedWith.getQualifiedName())) {
-        if (GuiceAnnotations.NAMED.equals(bindingAnno.getQualifiedName())) {
-          final PsiExpression annotatedWithExpression = GuiceUtils.getArgumentOfCallInChain(expression, "annotatedWith");
-          if (annotatedWithExpression != null) {
-            final String nameValue = getNameValue(annotatedWithExpression);
-            if (nameValue == null) return true; // impossible to define name
-
-            return nameValue.equals(AnnotationUtil.getStringAttributeValue(bindingAnno, "value"));
-          }
-        }
-        return false;
-      }
-      final String bindingAnnoQualifiedName = bindingAnno.getQualifiedName();
-      if (bindingAnnoQualifiedName != null) {
-        return bindingAnnoQualifiedName.equals(annotatedWith.getQualifiedName());
-      }
-    }
-
-    return false;
+  /**
+   * Returns {@code true} if {@code descriptor} binds the key of {@code ip}, see {@link BindingKey#matches(BindingKey)}.
+   */
+  public static boolean checkBindingAnnotations(@NotNull InjectionPointDescriptor ip, @NotNull BindDescriptor descriptor) {
+    final BindingKey key = ip.getKey();
+    final BindingKey bindingKey = descriptor.getKey();
+    return key != null && bindingKey != null && key.matches(bindingKey);
   }
 
-  private static @Nullable String getNameValue(@NotNull PsiExpression annotatedWithExpression) {
+  static @Nullable String getNameValue(@NotNull PsiExpression annotatedWithExpression) {
     final PsiExpression namedExpression = findNamedExpression(annotatedWithExpression);
     if (namedExpression != null) {
       Object value = JavaPsiFacade.getInstance(namedExpression.getProject())
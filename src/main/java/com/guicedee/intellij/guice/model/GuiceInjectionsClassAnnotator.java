@@ -12,101 +12,124 @@ import com.guicedee.intellij.guice.model.jam.GuiceProvides;
 import com.guicedee.intellij.guice.GuiceIcons;
 import com.guicedee.intellij.guice.utils.GuiceUtils;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.searches.ClassInheritorsSearch;
+import com.intellij.psi.search.searches.DirectClassInheritorsSearch;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Supplier;
 
 public final class GuiceInjectionsClassAnnotator extends RelatedItemLineMarkerProvider {
   @Override
   protected void collectNavigationMarkers(@NotNull PsiElement psiElement, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
-    if (psiElement instanceof PsiClass psiClass) {
-      final Module module = ModuleUtilCore.findModuleForPsiElement(psiElement);
-      if (module == null) return;
+    collectNavigationMarkers(Collections.singletonList(psiElement), result, false);
+  }
 
-      annotateClassBindings(result, module, psiClass);
+  /**
+   * Computes the markers of a whole batch against one {@link GuiceMarkerContext}; the injection points of all classes in the
+   * batch are resolved to their bindings in a single pass.
+   */
+  @Override
+  public void collectNavigationMarkers(@NotNull List<? extends PsiElement> elements,
+                                       @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
+                                       boolean forNavigation) {
+    List<PsiClass> classes = new ArrayList<>();
+    List<PsiMethod> methods = new ArrayList<>();
+    for (PsiElement element : elements) {
+      if (element instanceof PsiClass psiClass) {
+        classes.add(psiClass);
+      }
+      else if (element instanceof PsiMethod psiMethod &&
+               ("configure".equals(psiMethod.getName()) || AnnotationUtil.isAnnotated(psiMethod, GuiceAnnotations.PROVIDES, 0))) {
+        methods.add(psiMethod);
+      }
     }
-    if (psiElement instanceof PsiMethod) {
-      final Module module = ModuleUtilCore.findModuleForPsiElement(psiElement);
-      if (module == null) return;
+    if (classes.isEmpty() && methods.isEmpty()) return;
 
-      if ("configure".equals(((PsiMethod)psiElement).getName())) {
-          annotateInjectionPoints(result, module, (PsiMethod)psiElement);
-      }
-      if (AnnotationUtil.isAnnotated((PsiMethod)psiElement, GuiceAnnotations.PROVIDES, 0)) {
-        annotateProvidesInjectionPoints(result, module, (PsiMethod)psiElement);
+    final GuiceMarkerContext context = GuiceMarkerContext.create(elements);
+    if (context == null) return;
 
+    annotateClassBindings(result, context, classes);
+    for (PsiMethod method : methods) {
+      ProgressManager.checkCanceled();
+      if ("configure".equals(method.getName())) {
+        annotateInjectionPoints(result, context, method);
+      }
+      if (AnnotationUtil.isAnnotated(method, GuiceAnnotations.PROVIDES, 0)) {
+        annotateProvidesInjectionPoints(result, context, method);
       }
     }
   }
 
   private static void annotateClassBindings(Collection<? super RelatedItemLineMarkerInfo<?>> result,
-                                            Module module,
-                                            PsiClass psiClass) {
-    final Set<InjectionPointDescriptor> points = GuiceInjectionUtil.getInjectionPoints(psiClass, false);
-
-    final PsiFile containingFile = psiClass.getContainingFile();
-    if (!points.isEmpty()) {
-      final Set<BindDescriptor> allDescriptors = GuiceInjectorManager.getBindingDescriptors(module);
-      final List<GuiceProvides> allProvides = GuiceInjectionUtil.getProvides(module.getProject(), GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
-      for (InjectionPointDescriptor ip : points) {
-        final PsiModifierListOwner owner = ip.getOwner();
-        if (containingFile.equals(owner.getContainingFile())) {
-          final Set<BindDescriptor> descriptors = GuiceInjectorManager.getInjectBindingDescriptors(ip, allDescriptors);
-          Set<GuiceProvides<?>> providesSet = GuiceInjectorManager.getInjectProvidesDescriptors(ip, allProvides);
-
-          if (owner instanceof PsiNameIdentifierOwner) {
-            PsiElement identifier = ((PsiNameIdentifierOwner)owner).getNameIdentifier();
-            if (identifier != null) {
-              addInjectedGutterIcon(result, descriptors, providesSet, identifier, ip, module);
-            }
-          }
+                                            GuiceMarkerContext context,
+                                            List<PsiClass> classes) {
+    Set<InjectionPointDescriptor> points = new LinkedHashSet<>();
+    for (PsiClass psiClass : classes) {
+      final PsiFile containingFile = psiClass.getContainingFile();
+      for (InjectionPointDescriptor ip : GuiceInjectionUtil.getInjectionPoints(psiClass, false)) {
+        if (containingFile.equals(ip.getOwner().getContainingFile())) {
+          points.add(ip);
+        }
+      }
+    }
+    if (points.isEmpty()) return;
+
+    final Map<InjectionPointDescriptor, Set<BindDescriptor>> bindings = context.getBindings(points);
+    for (InjectionPointDescriptor ip : points) {
+      ProgressManager.checkCanceled();
+      if (ip.getOwner() instanceof PsiNameIdentifierOwner owner) {
+        PsiElement identifier = owner.getNameIdentifier();
+        if (identifier != null) {
+          final Set<BindDescriptor> descriptors = bindings.getOrDefault(ip, Collections.emptySet());
+          addInjectedGutterIcon(result, descriptors, context.getProvides(ip), identifier, ip, context.getModule());
         }
       }
     }
   }
 
   private static void annotateInjectionPoints(Collection<? super RelatedItemLineMarkerInfo<?>> result,
-                                              @NotNull Module module,
+                                              @NotNull GuiceMarkerContext context,
                                               @NotNull PsiMethod scope) {
     final Set<BindDescriptor> descriptors = GuiceInjectorManager.getBindingDescriptors(scope);
-    if (!descriptors.isEmpty()) {
-      final Set<InjectionPointDescriptor> allInjectionPoints = GuiceInjectionUtil.getInjectionPoints(module.getProject(),
-                                                                                                     GlobalSearchScope
-                                                                                                       .moduleWithDependenciesScope(
-                                                                                                         module));
-      if (!allInjectionPoints.isEmpty()) {
-        for (BindDescriptor descriptor : descriptors) {
-          addInjectionPointsGutterIcon(result, GuiceInjectionUtil.getInjectionPoints(descriptor, allInjectionPoints),
-                                       PsiTreeUtil.getDeepestFirst(descriptor.getBindExpression()));
-        }
+    for (BindDescriptor descriptor : descriptors) {
+      final BindingKey key = descriptor.getKey();
+      final PsiMethodCallExpression expression = descriptor.getBindExpression();
+      if (key == null || expression == null) continue;
+
+      final List<GuiceBindingGraph.Dependency> dependents = context.filterDependencies(context.getGraph().getDependents(key));
+      if (!dependents.isEmpty()) {
+        addInjectionPointsGutterIcon(result, PsiTreeUtil.getDeepestFirst(expression),
+                                     () -> ContainerUtil.mapNotNull(dependents, GuiceBindingGraph.Dependency::getOwner));
       }
     }
   }
 
   private static void annotateProvidesInjectionPoints(Collection<? super RelatedItemLineMarkerInfo<?>> result,
-                                                      @NotNull Module module,
+                                                      @NotNull GuiceMarkerContext context,
                                                       @NotNull PsiMethod psiMethod) {
-    GuiceProvides<?> provides = AnnotationUtil.isAnnotated(psiMethod, GuiceAnnotations.PROVIDES, 0)
-                               ? new GuiceProvides.Method(psiMethod)
-                               : null;
-    if (provides != null) {
-      Set<InjectionPointDescriptor> allInjectionPoints = GuiceInjectionUtil.getInjectionPoints(module.getProject(),
-                                                                                               GlobalSearchScope.moduleWithDependenciesScope(
-                                                                                                 module));
-      Set<InjectionPointDescriptor> injectionPoints = GuiceInjectionUtil.getInjectionPoints(provides, allInjectionPoints);
-      if (!injectionPoints.isEmpty()) {
-        addInjectionPointsGutterIcon(result, injectionPoints, psiMethod.getNameIdentifier());
-      }
+    final GuiceProvides<?> provides = new GuiceProvides.Method(psiMethod);
+    final BindingKey key = provides.getKey();
+    final PsiIdentifier identifier = psiMethod.getNameIdentifier();
+    if (key == null || identifier == null) return;
+
+    // qualifiers are compared on the keys alone; type assignability needs PSI and is left to navigation
+    final List<GuiceBindingGraph.Dependency> candidates = ContainerUtil.filter(
+      context.filterDependencies(context.getGraph().getDependentsOfType(key.getType())),
+      dependency -> dependency.getKey().matchesQualifier(key));
+    if (!candidates.isEmpty()) {
+      addInjectionPointsGutterIcon(result, identifier, () -> {
+        Set<InjectionPointDescriptor> ips = new HashSet<>();
+        for (GuiceBindingGraph.Dependency dependency : candidates) {
+          ContainerUtil.addIfNotNull(ips, dependency.toInjectionPoint());
+        }
+        return ContainerUtil.map(GuiceInjectionUtil.getInjectionPoints(provides, ips), InjectionPointDescriptor::getOwner);
+      });
     }
   }
 
@@ -116,106 +139,64 @@ public final class GuiceInjectionsClassAnnotator extends RelatedItemLineMarkerPr
                                             @NotNull PsiElement identifier,
                                             @NotNull InjectionPointDescriptor ip,
                                             @NotNull Module module) {
-    List<PsiElement> allTargets = new ArrayList<>();
-    for (BindDescriptor descriptor : descriptors) {
-      allTargets.add(descriptor.getBindExpression());
-    }
-    for (GuiceProvides<?> provide : provides) {
-      allTargets.add(provide.getPsiElement());
-    }
-
     // If no explicit bind() or @Provides found, fall back to JIT binding resolution
-    if (allTargets.isEmpty()) {
-      PsiType type = ip.getType();
-      if (type instanceof PsiClassType) {
-        PsiClass injectedClass = ((PsiClassType) type).resolve();
-        if (injectedClass != null) {
-          // Check for @ImplementedBy / @ProvidedBy annotations on the injected type
-          PsiClass implementedByTarget = getImplementedByTarget(injectedClass);
-          if (implementedByTarget != null) {
-            allTargets.add(implementedByTarget);
+    final PsiClass injectedClass = descriptors.isEmpty() && provides.isEmpty() ? getInjectedClass(ip) : null;
+    if (injectedClass == null && descriptors.isEmpty() && provides.isEmpty()) return;
+    if (injectedClass != null && !mayHaveJitTargets(injectedClass, module)) return;
+
+    NavigationGutterIconBuilder<PsiElement> builder =
+      NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, GuiceBundle.GUICE)
+        .setPopupTitle(GuiceBundle.message("GuiceClassAnnotator.popup.title"))
+        .setTooltipText(GuiceBundle.message("GuiceClassAnnotator.popup.tooltip.text"))
+        .setEmptyPopupText(GuiceBundle.message("gutter.no.targets"))
+        .setTargets(GuiceMarkerContext.lazyTargets(module.getProject(), () -> {
+          List<PsiElement> allTargets = new ArrayList<>();
+          for (BindDescriptor descriptor : descriptors) {
+            ContainerUtil.addIfNotNull(allTargets, descriptor.getBindExpression());
           }
-          PsiClass providedByTarget = getProvidedByTarget(injectedClass);
-          if (providedByTarget != null) {
-            allTargets.add(providedByTarget);
+          for (GuiceProvides<?> provide : provides) {
+            allTargets.add(provide.getPsiElement());
           }
-
-          if (allTargets.isEmpty()) {
-            if (GuiceUtils.isInstantiable(injectedClass)) {
-              // Concrete, instantiable class — Guice can JIT-bind it directly
-              allTargets.add(injectedClass);
-            } else if (injectedClass.isInterface() || injectedClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
-              // Interface or abstract class — find concrete inheritors in module scope
-              GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module);
-              Collection<PsiClass> inheritors = ClassInheritorsSearch.search(injectedClass, scope, true).findAll();
-              for (PsiClass inheritor : inheritors) {
-                if (GuiceUtils.isInstantiable(inheritor)) {
-                  allTargets.add(inheritor);
-                }
-              }
-            }
+          if (injectedClass != null && injectedClass.isValid()) {
+            allTargets.addAll(GuiceJitImplementationCache.getInstance(module.getProject())
+                                .getJitTargets(injectedClass, GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module)));
           }
-        }
-      }
-    }
-
-    if (!allTargets.isEmpty()) {
-      NavigationGutterIconBuilder<PsiElement> builder =
-        NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, GuiceBundle.GUICE)
-          .setPopupTitle(GuiceBundle.message("GuiceClassAnnotator.popup.title"))
-          .setTooltipText(GuiceBundle.message("GuiceClassAnnotator.popup.tooltip.text"))
-          .setTargets(allTargets);
+          return allTargets;
+        }));
 
-      result.add(builder.createLineMarkerInfo(identifier));
-    }
+    result.add(builder.createLineMarkerInfo(identifier));
   }
 
-  /**
-   * Resolves the target class from an @ImplementedBy annotation on the given class.
-   */
-  private static @Nullable PsiClass getImplementedByTarget(@NotNull PsiClass psiClass) {
-    PsiAnnotation annotation = AnnotationUtil.findAnnotation(psiClass, GuiceAnnotations.IMPLEMENTED_BY);
-    if (annotation != null) {
-      PsiAnnotationMemberValue value = annotation.findAttributeValue("value");
-      if (value instanceof PsiClassObjectAccessExpression) {
-        PsiType classType = ((PsiClassObjectAccessExpression) value).getOperand().getType();
-        if (classType instanceof PsiClassType) {
-          return ((PsiClassType) classType).resolve();
-        }
-      }
-    }
-    return null;
+  private static @Nullable PsiClass getInjectedClass(@NotNull InjectionPointDescriptor ip) {
+    return ip.getType() instanceof PsiClassType classType ? classType.resolve() : null;
   }
 
   /**
-   * Resolves the provider class from a @ProvidedBy annotation on the given class.
+   * Cheap check deciding whether a JIT-bound injection point gets a marker: annotations and modifiers of the injected class,
+   * and for interfaces and abstract classes a single lookup in the direct inheritors index.
    */
-  private static @Nullable PsiClass getProvidedByTarget(@NotNull PsiClass psiClass) {
-    PsiAnnotation annotation = AnnotationUtil.findAnnotation(psiClass, GuiceAnnotations.PROVIDED_BY);
-    if (annotation != null) {
-      PsiAnnotationMemberValue value = annotation.findAttributeValue("value");
-      if (value instanceof PsiClassObjectAccessExpression) {
-        PsiType classType = ((PsiClassObjectAccessExpression) value).getOperand().getType();
-        if (classType instanceof PsiClassType) {
-          return ((PsiClassType) classType).resolve();
-        }
-      }
+  private static boolean mayHaveJitTargets(@NotNull PsiClass injectedClass, @NotNull Module module) {
+    if (AnnotationUtil.isAnnotated(injectedClass, List.of(GuiceAnnotations.IMPLEMENTED_BY, GuiceAnnotations.PROVIDED_BY), 0)) {
+      return true;
     }
-    return null;
+    if (GuiceUtils.isInstantiable(injectedClass)) return true;
+    if (injectedClass.isInterface() || injectedClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
+      final GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module);
+      return DirectClassInheritorsSearch.search(injectedClass, scope).findFirst() != null;
+    }
+    return false;
   }
 
   private static void addInjectionPointsGutterIcon(@NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
-                                                   @NotNull Set<? extends InjectionPointDescriptor> ips,
-                                                   @NotNull PsiElement owner) {
-    if (!ips.isEmpty()) {
-      List<PsiModifierListOwner> members = ContainerUtil.map(ips, descriptor -> descriptor.getOwner());
-      NavigationGutterIconBuilder<PsiElement> builder =
-        NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, GuiceBundle.GUICE)
-          .setTargets(members)
-          .setPopupTitle(GuiceBundle.message("gutter.choose.injected.point"))
-          .setTooltipText(GuiceBundle.message("gutter.navigate.to.injection.point"));
-
-      result.add(builder.createLineMarkerInfo(owner));
-    }
+                                                   @NotNull PsiElement owner,
+                                                   @NotNull Supplier<Collection<? extends PsiElement>> members) {
+    NavigationGutterIconBuilder<PsiElement> builder =
+      NavigationGutterIconBuilder.create(GuiceIcons.GoogleSmall, GuiceBundle.GUICE)
+        .setTargets(GuiceMarkerContext.lazyTargets(owner.getProject(), members))
+        .setEmptyPopupText(GuiceBundle.message("gutter.no.targets"))
+        .setPopupTitle(GuiceBundle.message("gutter.choose.injected.point"))
+        .setTooltipText(GuiceBundle.message("gutter.navigate.to.injection.point"));
+
+    result.add(builder.createLineMarkerInfo(owner));
   }
 }
\ No newline at end of file
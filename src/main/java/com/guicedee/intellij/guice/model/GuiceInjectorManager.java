@@ -1,65 +1,118 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.model;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInsight.MetaAnnotationUtil;
 import com.intellij.concurrency.ConcurrentCollectionFactory;
+import com.intellij.concurrency.JobLauncher;
 import com.guicedee.intellij.guice.constants.GuiceAnnotations;
-import com.guicedee.intellij.guice.constants.GuiceClasses;
-import com.guicedee.intellij.guice.model.beans.BindDescriptor;
-import com.guicedee.intellij.guice.model.beans.BindToDescriptor;
+import com.guicedee.intellij.guice.index.GuiceBindingIndex;
+import com.guicedee.intellij.guice.model.beans.*;
 import com.guicedee.intellij.guice.model.jam.GuiceProvides;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicatorProvider;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.LocalSearchScope;
 import com.intellij.psi.search.SearchScope;
-import com.intellij.psi.search.searches.ClassInheritorsSearch;
-import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.psi.util.CachedValue;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
-import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public final class GuiceInjectorManager {
+  private static final Key<CachedValue<Set<BindDescriptor>>> BINDING_DESCRIPTORS = Key.create("guice.binding.descriptors");
+  private static final Key<CachedValue<PsiClass[]>> GUICE_MODULE_CLASSES = Key.create("guice.module.classes");
+  private static final Key<CachedValue<Set<String>>> BINDING_ANNOTATION_NAMES = Key.create("guice.binding.annotation.names");
 
-  public static @NotNull Set<BindDescriptor> getInjectBindingDescriptors(@NotNull InjectionPointDescriptor ip,
-                                                                         @NotNull Set<? extends BindDescriptor> allDescriptors) {
-    Set<BindDescriptor> descriptors = new HashSet<>();
-    final PsiType type = ip.getType();
-    if (type instanceof PsiClassType) {
-      final PsiClass psiClass = ((PsiClassType)type).resolve();
-      if (psiClass != null) {
-        for (BindDescriptor descriptor : allDescriptors) {
-          if (psiClass.equals(descriptor.getBoundClass()) && GuiceInjectionUtil.checkBindingAnnotations(ip, descriptor)) {
-            descriptors.add(descriptor);
-          }
-        }
+  public static @NotNull Set<BindDescriptor> getInjectBindingDescriptors(@NotNull InjectionPointDescriptor ip, @Nullable Module module) {
+    return getInjectBindingDescriptors(List.of(ip), module).getOrDefault(ip, Collections.emptySet());
+  }
+
+  /**
+   * Resolves the bindings of several injection points at once by looking their {@link BindingKey}s up in the
+   * {@link GuiceBindingGraph}, keeping the bindings declared by the Guice modules visible from {@code module}.
+   */
+  public static @NotNull Map<InjectionPointDescriptor, Set<BindDescriptor>> getInjectBindingDescriptors(
+    @NotNull Collection<? extends InjectionPointDescriptor> ips, @Nullable Module module) {
+    if (module == null || ips.isEmpty()) return Collections.emptyMap();
+
+    final GlobalSearchScope scope = getGuiceModuleFilesScope(module);
+    if (scope == null) return Collections.emptyMap();
+
+    return getInjectBindingDescriptors(ips, GuiceBindingGraph.getInstance(module.getProject()), scope);
+  }
+
+  static @NotNull Map<InjectionPointDescriptor, Set<BindDescriptor>> getInjectBindingDescriptors(
+    @NotNull Collection<? extends InjectionPointDescriptor> ips, @NotNull GuiceBindingGraph graph, @NotNull GlobalSearchScope scope) {
+    Map<InjectionPointDescriptor, Set<BindDescriptor>> result = new HashMap<>();
+    for (InjectionPointDescriptor ip : ips) {
+      final BindingKey key = ip.getKey();
+      if (key == null) continue;
+
+      final Set<BindDescriptor> descriptors = getBindingDescriptors(graph.getProvisions(key), scope);
+      if (!descriptors.isEmpty()) {
+        result.put(ip, descriptors);
       }
     }
+    return result;
+  }
 
+  /**
+   * Restores the binding descriptors of the {@link GuiceBindingGraph.ProvisionKind#BINDING} provisions declared within {@code scope}.
+   */
+  public static @NotNull Set<BindDescriptor> getBindingDescriptors(@NotNull Collection<GuiceBindingGraph.Provision> provisions,
+                                                                   @NotNull GlobalSearchScope scope) {
+    Set<BindDescriptor> descriptors = new HashSet<>();
+    for (GuiceBindingGraph.Provision provision : provisions) {
+      final GuiceBindingIndex.Kind kind = provision.getBindingKind();
+      if (kind == null || !scope.contains(provision.getFile())) continue;
+      if (provision.getElement() instanceof PsiMethodCallExpression expression) {
+        ContainerUtil.addIfNotNull(descriptors, createDescriptor(expression, kind));
+      }
+    }
     return descriptors;
   }
 
-  public static @NotNull Set<GuiceProvides<?>> getInjectProvidesDescriptors(@NotNull InjectionPointDescriptor ip,
-                                                                            @NotNull List<? extends GuiceProvides> allDescriptors) {
+  public static @NotNull Set<GuiceProvides<?>> getInjectProvidesDescriptors(@NotNull InjectionPointDescriptor ip, @Nullable Module module) {
+    if (module == null) return Collections.emptySet();
+
+    final GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module);
+    return getInjectProvidesDescriptors(ip, name -> GuiceInjectionUtil.getProvides(module.getProject(), scope, name, ip.getKey()));
+  }
+
+  /**
+   * Filters the {@code @Provides} methods returned by {@code candidates} for the short name of the injected type down to the
+   * ones whose key and product type satisfy {@code ip}.
+   */
+  static @NotNull Set<GuiceProvides<?>> getInjectProvidesDescriptors(
+    @NotNull InjectionPointDescriptor ip, @NotNull Function<? super String, ? extends Collection<? extends GuiceProvides<?>>> candidates) {
     Set<GuiceProvides<?>> set = new HashSet<>();
     final PsiType type = ip.getType();
-    if (type != null) {
-      for (GuiceProvides<?> descriptor : allDescriptors) {
-        final PsiType productType = descriptor.getProductType();
-        if (productType != null) {
-          final Set<PsiAnnotation> bindingAnnotations = descriptor.getBindingAnnotations();
-          if (type.isAssignableFrom(productType) &&
-              GuiceInjectionUtil.checkBindingAnnotations(ip.getBindingAnnotations(), bindingAnnotations)) {
+    final BindingKey key = ip.getKey();
+    if (type instanceof PsiClassType && key != null) {
+      final String name = ((PsiClassType)type).getClassName();
+      if (name != null) {
+        for (GuiceProvides<?> descriptor : candidates.apply(name)) {
+          final PsiType productType = descriptor.getProductType();
+          final BindingKey providesKey = descriptor.getKey();
+          if (productType != null && providesKey != null &&
+              key.matchesQualifier(providesKey) && type.isAssignableFrom(productType)) {
             set.add(descriptor);
           }
         }
@@ -72,25 +125,14 @@ public final class GuiceInjectorManager {
   public static @NotNull Set<BindDescriptor> getBindingDescriptors(final @Nullable Module module) {
     if (module == null) return Collections.emptySet();
 
-    Set<VirtualFile> files = new HashSet<>();
-    for (PsiClass aClass : getGuiceModuleClasses(module)) {
-      final PsiFile file = aClass.getContainingFile();
-      if (file != null) {
-        final VirtualFile virtualFile = file.getVirtualFile();
-        if (virtualFile != null) {
-          files.add(virtualFile);
-        }
-      }
-    }
-
-    if (files.isEmpty()) return Collections.emptySet();
-    final GlobalSearchScope fileScope = GlobalSearchScope.filesScope(module.getProject(), files);
+    final GlobalSearchScope fileScope = getGuiceModuleFilesScope(module);
+    if (fileScope == null) return Collections.emptySet();
 
-    return CachedValuesManager.getManager(module.getProject()).getCachedValue(module,
-                                                                              () -> CachedValueProvider.Result
-                                                                                .create(
-                                                                                  getBindingDescriptors(module.getProject(), fileScope),
-                                                                                  getModificationsTrackers(module)));
+    return GuiceModelModificationTracker.getInstance(module.getProject()).getCachedValue(module, BINDING_DESCRIPTORS,
+                                                                                        () -> CachedValueProvider.Result
+                                                                                          .create(
+                                                                                            getBindingDescriptors(module.getProject(), fileScope),
+                                                                                            getModificationsTrackers(module)));
   }
 
   public static @NotNull Set<BindDescriptor> getBindingDescriptors(final @NotNull PsiElement scope) {
@@ -99,104 +141,213 @@ public final class GuiceInjectorManager {
   }
 
   public static @NotNull Set<BindDescriptor> getBindingDescriptors(@NotNull Project project, @NotNull SearchScope scope) {
+    return collectBindingDescriptors(project, scope, EnumSet.allOf(GuiceBindingIndex.Kind.class));
+  }
+
+  /**
+   * Collects the bindings of the given kinds in one pass over the files of {@link GuiceBindingIndex}. The kind is known from the
+   * index, so only the matching chains are restored, and the files of a global scope are processed concurrently.
+   */
+  private static @NotNull Set<BindDescriptor> collectBindingDescriptors(@NotNull Project project,
+                                                                        @NotNull SearchScope scope,
+                                                                        @NotNull Set<GuiceBindingIndex.Kind> kinds) {
     Set<BindDescriptor> descriptors = ConcurrentCollectionFactory.createConcurrentSet();
+    final PsiManager psiManager = PsiManager.getInstance(project);
 
-    descriptors.addAll(getToBindingDescriptors(project, scope));
-    descriptors.addAll(getToInstanceBindingDescriptors(project, scope));
-    descriptors.addAll(getToProviderBindingDescriptors(project, scope));
-    descriptors.addAll(getToConstructorBindingDescriptors(project, scope));
+    if (scope instanceof LocalSearchScope localScope) {
+      for (PsiElement element : localScope.getScope()) {
+        final PsiFile psiFile = element.getContainingFile();
+        final VirtualFile virtualFile = psiFile != null ? psiFile.getOriginalFile().getVirtualFile() : null;
+        if (virtualFile == null) continue;
+
+        final TextRange range = element.getTextRange();
+        for (List<GuiceBindingIndex.Binding> bindings : GuiceBindingIndex.getFileBindings(project, virtualFile).values()) {
+          for (GuiceBindingIndex.Binding binding : bindings) {
+            if (kinds.contains(binding.getKind()) && range.contains(binding.getOffset())) {
+              ContainerUtil.addIfNotNull(descriptors, createDescriptor(psiFile, binding));
+            }
+          }
+        }
+      }
+    }
+    else if (scope instanceof GlobalSearchScope globalScope) {
+      processFilesConcurrently(GuiceBindingIndex.getFilesWithBindings(project, globalScope), virtualFile -> {
+        final PsiFile psiFile = psiManager.findFile(virtualFile);
+        if (psiFile == null) return;
+
+        for (List<GuiceBindingIndex.Binding> bindings : GuiceBindingIndex.getFileBindings(project, virtualFile).values()) {
+          for (GuiceBindingIndex.Binding binding : bindings) {
+            if (kinds.contains(binding.getKind())) {
+              ContainerUtil.addIfNotNull(descriptors, createDescriptor(psiFile, binding));
+            }
+          }
+        }
+      });
+    }
 
     return descriptors;
   }
 
+  /**
+   * Runs {@code processor} over {@code files} on all cores, each file in its own read action, checking for cancellation.
+   * A pending write action cancels the whole run rather than waiting for the caller's read action to end.
+   */
+  static void processFilesConcurrently(@NotNull Collection<VirtualFile> files, @NotNull Consumer<? super VirtualFile> processor) {
+    if (files.isEmpty()) return;
+
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+      new ArrayList<>(files), ProgressIndicatorProvider.getGlobalProgressIndicator(), file -> {
+        ProgressManager.checkCanceled();
+        runInReadActionWithWriteActionPriority(() -> {
+          if (file.isValid()) {
+            processor.accept(file);
+          }
+        });
+        return true;
+      });
+  }
+
+  /**
+   * Runs {@code runnable} in a read action, or directly if the thread already holds one, and throws
+   * {@link ProcessCanceledException} instead of blocking a pending write action.
+   */
+  static void runInReadActionWithWriteActionPriority(@NotNull Runnable runnable) {
+    if (ApplicationManager.getApplication().isReadAccessAllowed()) {
+      runnable.run();
+    }
+    else if (!ProgressIndicatorUtils.runInReadActionWithWriteActionPriority(runnable)) {
+      throw new ProcessCanceledException();
+    }
+  }
+
   public static @NotNull Set<BindDescriptor> getToBindingDescriptors(@NotNull Project project, @NotNull SearchScope scope) {
-    return getDescriptors(project, scope, "to");
+    return getDescriptors(project, scope, GuiceBindingIndex.Kind.TO);
   }
 
-  private static @Unmodifiable Set<BindDescriptor> getDescriptors(@NotNull Project project, @NotNull SearchScope scope, @NotNull String name) {
-    final Set<PsiMethodCallExpression> expressions = getLinkedBindingBuilderExpressions(project, scope, name);
-    return ContainerUtil.map2Set(expressions, expression -> new BindToDescriptor(expression));
+  private static @Unmodifiable Set<BindDescriptor> getDescriptors(@NotNull Project project,
+                                                                  @NotNull SearchScope scope,
+                                                                  @NotNull GuiceBindingIndex.Kind kind) {
+    return Set.copyOf(collectBindingDescriptors(project, scope, EnumSet.of(kind)));
   }
 
   public static @NotNull Set<BindDescriptor> getToInstanceBindingDescriptors(@NotNull Project project, @NotNull SearchScope scope) {
-    return getDescriptors(project, scope, "toInstance");
+    return getDescriptors(project, scope, GuiceBindingIndex.Kind.TO_INSTANCE);
   }
 
   public static @NotNull Set<BindDescriptor> getToProviderBindingDescriptors(@NotNull Project project, @NotNull SearchScope scope) {
-    return getDescriptors(project, scope, "toProvider");
+    return getDescriptors(project, scope, GuiceBindingIndex.Kind.TO_PROVIDER);
   }
 
   public static @NotNull Set<BindDescriptor> getToConstructorBindingDescriptors(@NotNull Project project, @NotNull SearchScope scope) {
-    return getDescriptors(project, scope, "toConstructor");
+    return getDescriptors(project, scope, GuiceBindingIndex.Kind.TO_CONSTRUCTOR);
   }
 
-  public static PsiClass @NotNull [] getGuiceModuleClasses(final @NotNull Module module) {
-    final GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesScope(module);
-
-    return CachedValuesManager.getManager(module.getProject()).getCachedValue(module, () -> {
-      Set<PsiClass> psiClasses = new HashSet<>() {
+  static @Nullable BindDescriptor createDescriptor(@NotNull PsiFile file, @NotNull GuiceBindingIndex.Binding binding) {
+    final PsiMethodCallExpression expression = GuiceBindingIndex.findCall(file, binding);
+    return expression != null ? createDescriptor(expression, binding.getKind()) : null;
+  }
 
-      };
+  private static @Nullable BindDescriptor createDescriptor(@NotNull PsiMethodCallExpression expression,
+                                                           @NotNull GuiceBindingIndex.Kind kind) {
+    return switch (kind) {
+      case TO -> new BindToDescriptor(expression);
+      case TO_INSTANCE -> new BindToInstanceDescriptor(expression);
+      case TO_PROVIDER -> new BindToProviderDescriptor(expression);
+      case TO_CONSTRUCTOR -> new BindToConstructorDescriptor(expression);
+      case UNTARGETTED -> null;
+    };
+  }
 
-      final PsiClass abstractModuleClass = JavaPsiFacade.getInstance(module.getProject()).findClass(GuiceClasses.ABSTRACT_MODULE, scope);
-      if (abstractModuleClass != null) {
-        psiClasses.addAll(ClassInheritorsSearch.search(abstractModuleClass, scope, true).findAll());
+  /**
+   * Returns a scope covering the files that declare the Guice modules visible from {@code module}, or {@code null} if there are none.
+   */
+  static @Nullable GlobalSearchScope getGuiceModuleFilesScope(@NotNull Module module) {
+    Set<VirtualFile> files = new HashSet<>();
+    for (PsiClass aClass : getGuiceModuleClasses(module)) {
+      if (!aClass.isValid()) continue;
+      final PsiFile file = aClass.getContainingFile();
+      if (file != null) {
+        final VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile != null) {
+          files.add(virtualFile);
+        }
       }
-      // Also search for GuicedEE module classes
-      final PsiClass guicedeeModuleClass = JavaPsiFacade.getInstance(module.getProject()).findClass(GuiceClasses.GUICEDEE_ABSTRACT_MODULE, scope);
-      if (guicedeeModuleClass != null) {
-        psiClasses.addAll(ClassInheritorsSearch.search(guicedeeModuleClass, scope, true).findAll());
+    }
+
+    return files.isEmpty() ? null : GlobalSearchScope.filesScope(module.getProject(), files);
+  }
+
+  public static PsiClass @NotNull [] getGuiceModuleClasses(final @NotNull Module module) {
+    final Project project = module.getProject();
+    final GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesScope(module);
+
+    final GuiceModelModificationTracker tracker = GuiceModelModificationTracker.getInstance(project);
+    return tracker.getCachedValue(module, GUICE_MODULE_CLASSES, () -> {
+      // the inheritor walk is done once per project; each module only filters the shared names by its own scope
+      Set<PsiClass> psiClasses = new LinkedHashSet<>();
+      final JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+      for (String name : GuiceModuleClassSet.getInstance(project).getModuleClassNames()) {
+        ProgressManager.checkCanceled();
+        ContainerUtil.addAll(psiClasses, facade.findClasses(name, scope));
       }
       final PsiClass[] classes = psiClasses.toArray(PsiClass.EMPTY_ARRAY);
-      return CachedValueProvider.Result.createSingleDependency(classes, PsiModificationTracker.MODIFICATION_COUNT);
+      return CachedValueProvider.Result.create(classes, tracker.getDependencies());
     });
   }
 
   private static Collection<?> getModificationsTrackers(@NotNull Module module) {
     final Set<Object> deps = ContainerUtil.newHashSet(getGuiceModuleClasses(module));
-    deps.add(PsiModificationTracker.MODIFICATION_COUNT);
+    ContainerUtil.addAll(deps, GuiceModelModificationTracker.getInstance(module.getProject()).getDependencies());
 
     return deps;
   }
 
-  private static @NotNull Set<PsiMethodCallExpression> getLinkedBindingBuilderExpressions(@NotNull Project project,
-                                                                                          @NotNull SearchScope scope,
-                                                                                          @NotNull String methodName) {
-    Set<PsiMethodCallExpression> expressions = ConcurrentCollectionFactory.createConcurrentSet();
-    final PsiClass
-      moduleClass = JavaPsiFacade.getInstance(project).findClass(GuiceClasses.LINKED_BINDING_BUILDER, GlobalSearchScope.allScope(project));
-    if (moduleClass != null) {
-      final PsiMethod[] binds = moduleClass.findMethodsByName(methodName, false);
-      for (PsiMethod bind : binds) {
-        MethodReferencesSearch.search(bind, scope, true).forEach(ref -> {
-          PsiElement element = ref.getElement();
-          PsiElement parent = element.getParent();
-          if (parent instanceof PsiMethodCallExpression) {
-            expressions.add((PsiMethodCallExpression) parent);
-          }
-          return true;
-        });
-      }
+  /**
+   * Returns the annotation types visible from {@code module} that are meta-annotated with {@code @BindingAnnotation} or a
+   * JSR-330 {@code @Qualifier}, which Guice treats alike.
+   */
+  public static @NotNull Collection<PsiClass> getBindingAnnotations(@Nullable Module module) {
+    if (module == null) return Collections.emptySet();
+
+    Set<PsiClass> annotations = new LinkedHashSet<>();
+    for (String metaAnnotation : GuiceAnnotations.BINDING_META_ANNOTATIONS) {
+      annotations.addAll(MetaAnnotationUtil.getAnnotationTypesWithChildren(module, metaAnnotation, false));
     }
-    return expressions;
+    return annotations;
   }
 
-  public static @NotNull Collection<PsiClass> getBindingAnnotations(@Nullable Module module) {
-    return module == null
-           ? Collections.emptySet()
-           : MetaAnnotationUtil.getAnnotationTypesWithChildren(module, GuiceAnnotations.BINDING_ANNOTATION, false);
+  /**
+   * Returns the qualified names of the binding annotations visible from {@code module}, cached until the Guice model changes.
+   * Includes {@code javax.inject.Named} and {@code jakarta.inject.Named}, which {@link BindingKey} folds into Guice's
+   * {@code @Named}.
+   */
+  public static @NotNull Set<String> getBindingAnnotationNames(@Nullable Module module) {
+    if (module == null) return Collections.emptySet();
+
+    final GuiceModelModificationTracker tracker = GuiceModelModificationTracker.getInstance(module.getProject());
+    return tracker.getCachedValue(module, BINDING_ANNOTATION_NAMES, () -> {
+      Set<String> names = new HashSet<>();
+      for (PsiClass psiClass : getBindingAnnotations(module)) {
+        ContainerUtil.addIfNotNull(names, psiClass.getQualifiedName());
+      }
+      return CachedValueProvider.Result.create(Set.copyOf(names), tracker.getDependencies());
+    });
   }
 
   public static @NotNull Set<PsiAnnotation> getBindingAnnotations(@NotNull PsiModifierListOwner owner) {
-    Set<PsiAnnotation> annotations = ConcurrentCollectionFactory.createConcurrentSet();
-
-    for (PsiClass psiClass : getBindingAnnotations(ModuleUtilCore.findModuleForPsiElement(owner))) {
-      final String fqn = psiClass.getQualifiedName();
-      if (fqn != null) {
-        final PsiAnnotation annotation = AnnotationUtil.findAnnotation(owner, fqn);
-        if (annotation != null) {
-          annotations.add(annotation);
-        }
+    final PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) return Collections.emptySet();
+    final PsiAnnotation[] ownAnnotations = modifierList.getAnnotations();
+    if (ownAnnotations.length == 0) return Collections.emptySet();
+
+    final Set<String> bindingAnnotationNames = getBindingAnnotationNames(ModuleUtilCore.findModuleForPsiElement(owner));
+    if (bindingAnnotationNames.isEmpty()) return Collections.emptySet();
+
+    Set<PsiAnnotation> annotations = new HashSet<>();
+    for (PsiAnnotation annotation : ownAnnotations) {
+      final String fqn = annotation.getQualifiedName();
+      if (fqn != null && bindingAnnotationNames.contains(fqn)) {
+        annotations.add(annotation);
       }
     }
     return annotations;
@@ -0,0 +1,188 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.ClassInheritorsSearch;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project-level LRU cache of how Guice resolves a type without an explicit binding: the {@code @ImplementedBy} or
+ * {@code @ProvidedBy} target, or otherwise the instantiable classes among the type itself and its inheritors.
+ * <p>
+ * Entries hold qualified names only and are computed per type and search scope, so one inheritor search serves every
+ * injection point of the type seen from the same module. The cache is dropped whenever {@link GuiceModelModificationTracker}
+ * or the project roots change; that tracker counts class, {@code extends}/{@code implements}, constructor and class modifier
+ * edits in every Java file, which is all the instantiable inheritors depend on.
+ */
+public final class GuiceJitImplementationCache implements Disposable {
+  private static final Logger LOG = Logger.getInstance(GuiceJitImplementationCache.class);
+
+  private static final int MAX_ENTRIES = 512;
+
+  private final Project myProject;
+  private final AtomicLong myLookups = new AtomicLong();
+  private final AtomicLong myMisses = new AtomicLong();
+  private long myModificationCount = -1;
+
+  private record CacheKey(@NotNull String qualifiedName, @NotNull GlobalSearchScope scope) {
+  }
+
+  private final Map<CacheKey, JitTargets> myEntries = new LinkedHashMap<>(64, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<CacheKey, JitTargets> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  public GuiceJitImplementationCache(@NotNull Project project) {
+    myProject = project;
+  }
+
+  public static @NotNull GuiceJitImplementationCache getInstance(@NotNull Project project) {
+    return project.getService(GuiceJitImplementationCache.class);
+  }
+
+  /**
+   * Returns the classes Guice uses for {@code injectedClass} when nothing binds it explicitly: the {@code @ImplementedBy} and
+   * {@code @ProvidedBy} targets if present, else the instantiable classes among {@code injectedClass} and its inheritors,
+   * all within {@code scope}.
+   */
+  public @NotNull List<PsiClass> getJitTargets(@NotNull PsiClass injectedClass, @NotNull GlobalSearchScope scope) {
+    final JitTargets targets = getTargets(injectedClass, scope);
+    if (targets == null) return Collections.emptyList();
+
+    final JavaPsiFacade facade = JavaPsiFacade.getInstance(myProject);
+    List<PsiClass> result = new ArrayList<>();
+    if (targets.myImplementedBy != null || targets.myProvidedBy != null) {
+      ContainerUtil.addIfNotNull(result, targets.myImplementedBy != null ? facade.findClass(targets.myImplementedBy, scope) : null);
+      ContainerUtil.addIfNotNull(result, targets.myProvidedBy != null ? facade.findClass(targets.myProvidedBy, scope) : null);
+      return result;
+    }
+    for (String implementation : targets.myImplementations) {
+      ContainerUtil.addIfNotNull(result, facade.findClass(implementation, scope));
+    }
+    return result;
+  }
+
+  private @Nullable JitTargets getTargets(@NotNull PsiClass injectedClass, @NotNull GlobalSearchScope scope) {
+    final String qualifiedName = injectedClass.getQualifiedName();
+    if (qualifiedName == null) return null;
+    final CacheKey key = new CacheKey(qualifiedName, scope);
+
+    myLookups.incrementAndGet();
+    synchronized (myEntries) {
+      final long modificationCount = getModificationCount();
+      if (modificationCount != myModificationCount) {
+        myEntries.clear();
+        myModificationCount = modificationCount;
+      }
+      final JitTargets cached = myEntries.get(key);
+      if (cached != null) return cached;
+    }
+
+    myMisses.incrementAndGet();
+    final JitTargets computed = computeTargets(injectedClass, scope);
+    synchronized (myEntries) {
+      if (myModificationCount == getModificationCount()) {
+        myEntries.put(key, computed);
+      }
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Guice JIT targets computed for " + qualifiedName + ": " + getStatistics());
+    }
+    return computed;
+  }
+
+  private @NotNull JitTargets computeTargets(@NotNull PsiClass injectedClass, @NotNull GlobalSearchScope scope) {
+    final String implementedBy = getAnnotationTarget(injectedClass, GuiceAnnotations.IMPLEMENTED_BY);
+    final String providedBy = getAnnotationTarget(injectedClass, GuiceAnnotations.PROVIDED_BY);
+    if (implementedBy != null || providedBy != null) {
+      return new JitTargets(implementedBy, providedBy, Collections.emptyList());
+    }
+
+    List<String> implementations = new ArrayList<>();
+    if (GuiceUtils.isInstantiable(injectedClass)) {
+      // Concrete, instantiable class — Guice can JIT-bind it directly
+      ContainerUtil.addIfNotNull(implementations, injectedClass.getQualifiedName());
+    }
+    else if (injectedClass.isInterface() || injectedClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
+      for (PsiClass inheritor : ClassInheritorsSearch.search(injectedClass, scope, true).findAll()) {
+        ProgressManager.checkCanceled();
+        if (GuiceUtils.isInstantiable(inheritor)) {
+          ContainerUtil.addIfNotNull(implementations, inheritor.getQualifiedName());
+        }
+      }
+    }
+    return new JitTargets(null, null, List.copyOf(implementations));
+  }
+
+  private static @Nullable String getAnnotationTarget(@NotNull PsiClass psiClass, @NotNull String annotationName) {
+    final PsiAnnotation annotation = AnnotationUtil.findAnnotation(psiClass, annotationName);
+    if (annotation != null &&
+        annotation.findAttributeValue(PsiAnnotation.DEFAULT_REFERENCED_METHOD_NAME) instanceof PsiClassObjectAccessExpression value &&
+        value.getOperand().getType() instanceof PsiClassType classType) {
+      final PsiClass target = classType.resolve();
+      return target != null ? target.getQualifiedName() : null;
+    }
+    return null;
+  }
+
+  private long getModificationCount() {
+    return GuiceModelModificationTracker.getInstance(myProject).getModificationCount() +
+           ProjectRootManager.getInstance(myProject).getModificationCount();
+  }
+
+  public long getHitCount() {
+    return Math.max(0, myLookups.get() - myMisses.get());
+  }
+
+  public long getMissCount() {
+    return myMisses.get();
+  }
+
+  /**
+   * Share of lookups answered from the cache, between {@code 0} and {@code 1}.
+   */
+  public double getHitRate() {
+    final long lookups = myLookups.get();
+    return lookups == 0 ? 0 : (double)getHitCount() / lookups;
+  }
+
+  public @NotNull String getStatistics() {
+    synchronized (myEntries) {
+      return "hits=" + getHitCount() + ", misses=" + getMissCount() + ", hitRate=" + String.format("%.2f", getHitRate()) +
+             ", entries=" + myEntries.size();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    LOG.debug("Guice JIT implementation cache statistics: " + getStatistics());
+  }
+
+  private static final class JitTargets {
+    private final @Nullable String myImplementedBy;
+    private final @Nullable String myProvidedBy;
+    private final @NotNull List<String> myImplementations;
+
+    private JitTargets(@Nullable String implementedBy, @Nullable String providedBy, @NotNull List<String> implementations) {
+      myImplementedBy = implementedBy;
+      myProvidedBy = providedBy;
+      myImplementations = implementations;
+    }
+  }
+}
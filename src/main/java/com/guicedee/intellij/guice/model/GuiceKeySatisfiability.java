@@ -0,0 +1,205 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.guicedee.intellij.guice.index.GuiceIndirectBindingIndex;
+import com.guicedee.intellij.guice.index.GuiceMultibindingIndex;
+import com.guicedee.intellij.guice.model.jam.GuiceProvides;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers whether the key of an injection point can be satisfied, from hashed lookups only: the explicit bindings,
+ * {@code @Provides} methods and class annotations of the {@link GuiceBindingGraph}, library {@code @Provides} methods and
+ * multibinder contributions through their indexes, and just-in-time binding of the injected class.
+ * <p>
+ * {@code Provider<T>} is satisfied whenever {@code T} is. {@code Set}, {@code Collection}, {@code Map} and {@code Optional} of
+ * a project class are satisfied by a matching {@code Multibinder}, {@code MapBinder} or {@code OptionalBinder}, and a class
+ * with an {@code OptionalBinder} is satisfied as well, since its default or actual binding is usually set there. So are
+ * factories built by {@code FactoryModuleBuilder} and qualified keys a {@code bindConstant()} or {@code Names.bindProperties}
+ * may bind, see {@link GuiceIndirectBindingIndex}. GuicedEE SPI injection points ({@code @Endpoint}, {@code @ConfigProperty}) and {@code @Assisted} parameters are always satisfied.
+ * Types declared in libraries are never reported: they are usually bound by library modules, whose {@code bind()} calls are
+ * not indexed.
+ * <p>
+ * An instance is shared until the Guice model changes, see {@link GuiceModelModificationTracker}.
+ */
+public final class GuiceKeySatisfiability {
+  private static final Key<CachedValue<GuiceKeySatisfiability>> KEY_SATISFIABILITY = Key.create("guice.key.satisfiability");
+
+  private static final List<String> NOT_BOUND_ANNOTATIONS = List.of(
+    GuiceAnnotations.ASSISTED, GuiceAnnotations.ENDPOINT, GuiceAnnotations.CONFIG_PROPERTY
+  );
+
+  private static final Map<String, GuiceMultibindingIndex.Kind> MULTIBINDING_TYPES = Map.of(
+    "java.util.Set", GuiceMultibindingIndex.Kind.SET,
+    "java.util.Collection", GuiceMultibindingIndex.Kind.SET,
+    "java.util.Map", GuiceMultibindingIndex.Kind.MAP,
+    "java.util.Optional", GuiceMultibindingIndex.Kind.OPTIONAL,
+    "com.google.common.base.Optional", GuiceMultibindingIndex.Kind.OPTIONAL
+  );
+
+  /**
+   * A key nothing satisfies, with the number of classes that could implement it just in time if there is more than one.
+   */
+  public static final class Unsatisfied {
+    private final @NotNull BindingKey myKey;
+    private final int myCandidateCount;
+
+    private Unsatisfied(@NotNull BindingKey key, int candidateCount) {
+      myKey = key;
+      myCandidateCount = candidateCount;
+    }
+
+    public @NotNull BindingKey getKey() {
+      return myKey;
+    }
+
+    /**
+     * Returns {@code true} if the key is an interface or abstract class with several implementations but no binding.
+     */
+    public boolean isAmbiguous() {
+      return myCandidateCount > 1;
+    }
+
+    public int getCandidateCount() {
+      return myCandidateCount;
+    }
+  }
+
+  private final Project myProject;
+  private final GuiceBindingGraph myGraph;
+  private final GlobalSearchScope myAllScope;
+  // answers only, so the shared instance does not keep library PSI alive
+  private final Map<LibraryProvidesKey, Boolean> myProvidedByLibrary = new ConcurrentHashMap<>();
+
+  private record LibraryProvidesKey(@NotNull String typeText, @NotNull BindingKey key) { }
+
+  private GuiceKeySatisfiability(@NotNull Project project) {
+    myProject = project;
+    myGraph = GuiceBindingGraph.getInstance(project);
+    myAllScope = GlobalSearchScope.allScope(project);
+  }
+
+  public static @NotNull GuiceKeySatisfiability getInstance(@NotNull Project project) {
+    final GuiceModelModificationTracker tracker = GuiceModelModificationTracker.getInstance(project);
+    return tracker.getCachedValue(project, KEY_SATISFIABILITY, () -> CachedValueProvider.Result.create(
+      new GuiceKeySatisfiability(project), tracker.getDependencies()));
+  }
+
+  /**
+   * Returns the unsatisfied key of a field or parameter injection point, or {@code null} if Guice can satisfy it or the
+   * plugin can not tell.
+   */
+  public @Nullable Unsatisfied check(@NotNull PsiVariable injectionPoint) {
+    if (isSatisfiedExternally(injectionPoint)) return null;
+    final InjectionPointDescriptor descriptor = new InjectionPointDescriptor(injectionPoint);
+    BindingKey key = descriptor.getKey();
+    PsiType type = injectionPoint.getType();
+    if (key == null) return null;
+
+    if (GuiceClasses.PROVIDERS.contains(key.getType())) {
+      if (!(type instanceof PsiClassType classType) || classType.getParameterCount() != 1) return null;
+      type = classType.getParameters()[0];
+      key = BindingKey.create(type, descriptor.getBindingAnnotations());
+      if (key == null) return null;
+    }
+    return check(type, key);
+  }
+
+  /**
+   * Returns {@code true} for injection points Guice does not satisfy from bindings: GuicedEE SPI injection points and
+   * {@code @Assisted} parameters.
+   */
+  public static boolean isSatisfiedExternally(@NotNull PsiModifierListOwner injectionPoint) {
+    return AnnotationUtil.isAnnotated(injectionPoint, NOT_BOUND_ANNOTATIONS, 0);
+  }
+
+  /**
+   * Same as {@link #check(PsiVariable)} for an injected {@code type} and its {@code key}.
+   */
+  public @Nullable Unsatisfied check(@NotNull PsiType type, @NotNull BindingKey key) {
+    if (!myGraph.getProvisions(key).isEmpty()) return null;
+    if (!(type instanceof PsiClassType classType) || isProvidedByLibrary(classType, key)) return null;
+
+    final GuiceMultibindingIndex.Kind multibinding = MULTIBINDING_TYPES.get(key.getType());
+    if (multibinding != null) {
+      return isMultibound(classType, multibinding) ? null : new Unsatisfied(key, 0);
+    }
+
+    final PsiClass psiClass = classType.resolve();
+    if (psiClass == null || !isInSourceContent(psiClass) ||
+        GuiceClasses.INJECTOR.equals(key.getType()) || GuiceClasses.MEMBERS_INJECTOR.equals(key.getType()) ||
+        GuiceMultibindingIndex.hasContribution(GuiceMultibindingIndex.Kind.OPTIONAL, psiClass.getName(), myAllScope) ||
+        GuiceIndirectBindingIndex.hasFactory(psiClass.getName(), myAllScope)) {
+      return null;
+    }
+
+    if (key.getQualifier() == null) {
+      if (GuiceUtils.isInstantiable(psiClass) ||
+          AnnotationUtil.isAnnotated(psiClass, List.of(GuiceAnnotations.IMPLEMENTED_BY, GuiceAnnotations.PROVIDED_BY), 0)) {
+        // bound just in time
+        return null;
+      }
+      return new Unsatisfied(key, GuiceJitImplementationCache.getInstance(myProject).getJitTargets(psiClass, myAllScope).size());
+    }
+    return GuiceIndirectBindingIndex.mayBindConstant(key.getNamedQualifier(), myAllScope) ? null : new Unsatisfied(key, 0);
+  }
+
+  /**
+   * Returns {@code true} unless the element of a multibound collection is a project class nothing contributes to.
+   */
+  private boolean isMultibound(@NotNull PsiClassType containerType, @NotNull GuiceMultibindingIndex.Kind kind) {
+    final PsiType[] parameters = containerType.getParameters();
+    if (parameters.length == 0) return true;
+    PsiType element = parameters[parameters.length - 1];
+    // Multibinder and MapBinder bind the Provider<T> flavours as well
+    if (element instanceof PsiClassType elementType && elementType.getParameterCount() == 1 &&
+        GuiceClasses.PROVIDERS.contains(elementType.rawType().getCanonicalText())) {
+      element = elementType.getParameters()[0];
+    }
+    final PsiClass elementClass = element instanceof PsiClassType elementType ? elementType.resolve() : null;
+    if (elementClass == null || !isInSourceContent(elementClass)) return true;
+    return GuiceMultibindingIndex.hasContribution(kind, elementClass.getName(), myAllScope);
+  }
+
+  private boolean isInSourceContent(@NotNull PsiClass psiClass) {
+    final PsiFile file = psiClass.getContainingFile();
+    final VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+    return virtualFile != null && ProjectFileIndex.getInstance(myProject).isInSourceContent(virtualFile);
+  }
+
+  private boolean isProvidedByLibrary(@NotNull PsiClassType type, @NotNull BindingKey key) {
+    final String name = type.getClassName();
+    if (name == null) return false;
+    final LibraryProvidesKey cacheKey = new LibraryProvidesKey(type.getCanonicalText(), key);
+    final Boolean cached = myProvidedByLibrary.get(cacheKey);
+    if (cached != null) return cached;
+
+    boolean provided = false;
+    for (GuiceProvides<PsiMethod> provides : GuiceInjectionUtil.getProvides(myProject, myAllScope, name, key)) {
+      final PsiType productType = provides.getProductType();
+      final BindingKey providesKey = provides.getKey();
+      if (productType != null && providesKey != null && key.matchesQualifier(providesKey) && type.isAssignableFrom(productType)) {
+        provided = true;
+        break;
+      }
+    }
+    myProvidedByLibrary.putIfAbsent(cacheKey, provided);
+    return provided;
+  }
+}
@@ -0,0 +1,127 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.GuiceBundle;
+import com.guicedee.intellij.guice.model.beans.BindDescriptor;
+import com.guicedee.intellij.guice.model.jam.GuiceProvides;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.util.NullableLazyValue;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of the Guice model shared by all line markers of one batch of elements from a single file.
+ * <p>
+ * The scopes of the module, the files of its Guice modules and the {@code @Provides} candidates per injected type are
+ * resolved at most once per batch instead of once per class or method.
+ */
+final class GuiceMarkerContext {
+  private final Module myModule;
+  private final GuiceBindingGraph myGraph;
+  // module with dependencies, the scope in which injection points are looked for
+  private final GlobalSearchScope myModuleScope;
+  private final Map<String, List<? extends GuiceProvides<?>>> myProvidesByName = new HashMap<>();
+
+  private final NullableLazyValue<GlobalSearchScope> myModuleFilesScope = new NullableLazyValue<>() {
+    @Override
+    protected @Nullable GlobalSearchScope compute() {
+      return GuiceInjectorManager.getGuiceModuleFilesScope(myModule);
+    }
+  };
+
+  private GuiceMarkerContext(@NotNull Module module) {
+    myModule = module;
+    myGraph = GuiceBindingGraph.getInstance(module.getProject());
+    myModuleScope = GlobalSearchScope.moduleWithDependenciesScope(module);
+  }
+
+  /**
+   * Creates the context for {@code elements}, which the daemon always takes from one file, or returns {@code null} if that
+   * file does not belong to a module.
+   */
+  static @Nullable GuiceMarkerContext create(@NotNull List<? extends PsiElement> elements) {
+    if (elements.isEmpty()) return null;
+    final Module module = ModuleUtilCore.findModuleForPsiElement(elements.get(0));
+    return module != null ? new GuiceMarkerContext(module) : null;
+  }
+
+  @NotNull Module getModule() {
+    return myModule;
+  }
+
+  @NotNull GuiceBindingGraph getGraph() {
+    return myGraph;
+  }
+
+  /**
+   * Files declaring the Guice modules visible from the module, or {@code null} if there are none.
+   */
+  @Nullable GlobalSearchScope getModuleFilesScope() {
+    return myModuleFilesScope.getValue();
+  }
+
+  @NotNull Map<InjectionPointDescriptor, Set<BindDescriptor>> getBindings(@NotNull Collection<? extends InjectionPointDescriptor> ips) {
+    final GlobalSearchScope scope = getModuleFilesScope();
+    if (scope == null || ips.isEmpty()) return Collections.emptyMap();
+    return GuiceInjectorManager.getInjectBindingDescriptors(ips, myGraph, scope);
+  }
+
+  @NotNull Set<GuiceProvides<?>> getProvides(@NotNull InjectionPointDescriptor ip) {
+    final BindingKey key = ip.getKey();
+    final String named = key != null ? key.getNamedQualifier() : null;
+    return GuiceInjectorManager.getInjectProvidesDescriptors(ip, name -> myProvidesByName.computeIfAbsent(
+      name + '|' + named,
+      n -> GuiceInjectionUtil.getProvides(myModule.getProject(), GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(myModule), name, key)));
+  }
+
+  /**
+   * Keeps the dependencies declared within the module scope; this only compares files and does not restore any PSI.
+   */
+  @NotNull List<GuiceBindingGraph.Dependency> filterDependencies(@NotNull Collection<GuiceBindingGraph.Dependency> dependencies) {
+    return ContainerUtil.filter(dependencies, dependency -> myModuleScope.contains(dependency.getFile()));
+  }
+
+  /**
+   * Wraps {@code targets} for {@link com.intellij.codeInsight.navigation.NavigationGutterIconBuilder#setTargets(NotNullLazyValue)},
+   * so markers only pay for a cheap existence check and the targets are searched when the icon is clicked, under a
+   * cancellable progress if that happens on the EDT. Only a completed search is kept: a cancelled one shows no targets on the
+   * EDT and is rethrown elsewhere, and the next click searches again.
+   */
+  static <T> @NotNull NotNullLazyValue<Collection<? extends T>> lazyTargets(@NotNull Project project,
+                                                                            @NotNull Supplier<Collection<? extends T>> targets) {
+    return new NotNullLazyValue<>() {
+      @Override
+      protected @NotNull Collection<? extends T> compute() {
+        if (!ApplicationManager.getApplication().isDispatchThread()) {
+          return ReadAction.compute(targets::get);
+        }
+        return ProgressManager.getInstance().runProcessWithProgressSynchronously(
+          () -> ReadAction.compute(targets::get), GuiceBundle.message("gutter.searching.targets"), true, project);
+      }
+
+      @Override
+      public @NotNull Collection<? extends T> getValue() {
+        try {
+          return super.getValue();
+        }
+        catch (ProcessCanceledException e) {
+          if (!ApplicationManager.getApplication().isDispatchThread()) throw e;
+          return Collections.emptyList();
+        }
+      }
+    };
+  }
+}
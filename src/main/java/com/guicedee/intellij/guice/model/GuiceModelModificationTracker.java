@@ -0,0 +1,290 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.util.UserDataHolder;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project-level modification tracker for the Guice model.
+ * <p>
+ * Unlike {@link com.intellij.psi.util.PsiModificationTracker#MODIFICATION_COUNT}, it only increments on structural changes
+ * of the Guice model: edits to declarations, annotations and modifier lists of Java files that mention Guice
+ * ({@code bind(}, inject annotations, {@code @Provides}, modules, scopes), and edits to {@code bind()} chains and the other
+ * {@code Binder} calls in method bodies. Typing elsewhere in a method body or a field initializer keeps the cached module
+ * classes and binding descriptors alive. Both the {@code before*} and the final events are checked, so removing a binding
+ * is seen as well.
+ * <p>
+ * Changed files are also reported to {@link GuiceBindingGraph} and {@link GuiceModuleClassSet}, so they can recompute only
+ * their contributions. Edits to class declarations, class modifier lists, constructors and {@code extends}/{@code implements}
+ * lists count in every Java file, since a class can become a Guice module or a just-in-time implementation without
+ * mentioning Guice itself. Changes other files resolve through — classes added, removed or renamed, annotations of
+ * annotation types — and events that do not name a file, such as file moves, directory changes or external changes to
+ * files whose PSI is not loaded (a VCS update, generated sources), rebuild the whole model.
+ */
+public final class GuiceModelModificationTracker extends SimpleModificationTracker implements Disposable {
+  private static final Logger LOG = Logger.getInstance(GuiceModelModificationTracker.class);
+
+  private static final List<String> GUICE_MARKERS = List.of(
+    "bind", "BindingAnnotation", "Inject", "Provides", "Module", "Singleton", "Scoped", "ImplementedBy", "ProvidedBy", "Endpoint", "ConfigProperty"
+  );
+
+  /**
+   * Calls in method bodies that change the bindings of a module; the calls chained to them, such as {@code to(..)} or
+   * {@code in(..)}, are found through their qualifier.
+   */
+  private static final Set<String> BINDER_CALLS = Set.of(
+    "bind", "bindConstant", "bindProperties", "install", "newSetBinder", "newMapBinder", "newOptionalBinder", "addBinding", "setBinding", "setDefault",
+    "requestInjection", "requestStaticInjection", "bindScope", "bindInterceptor", "bindListener"
+  );
+
+  private final Project myProject;
+  private final AtomicLong myLookups = new AtomicLong();
+  private final AtomicLong myMisses = new AtomicLong();
+
+  public GuiceModelModificationTracker(@NotNull Project project) {
+    myProject = project;
+    PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+      @Override
+      public void beforeChildrenChange(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void childAdded(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void beforeChildRemoval(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void beforeChildReplacement(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void childMoved(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+
+      @Override
+      public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+        onChange(event);
+      }
+    }, this);
+  }
+
+  public static @NotNull GuiceModelModificationTracker getInstance(@NotNull Project project) {
+    return project.getService(GuiceModelModificationTracker.class);
+  }
+
+  private void onChange(@NotNull PsiTreeChangeEvent event) {
+    final PsiFile file = event.getFile();
+    if (file == null) {
+      // file added, removed, moved or renamed, a directory change, or an external change to files whose PSI is not loaded
+      // a Java file adds or removes classes other files resolve to, and PROP_UNLOADED_PSI or directory events do not say
+      // which Java files changed
+      final PsiElement changed = event.getChild() != null ? event.getChild() : event.getElement();
+      if (changed instanceof PsiJavaFile || !(changed instanceof PsiFile)) {
+        invalidateAll();
+      }
+      return;
+    }
+    if (!(file instanceof PsiJavaFile) || !file.isPhysical()) return;
+
+    if (isStructuralChange(file, event)) {
+      if (isDeclarationChange(event)) {
+        invalidateAll();
+      }
+      else {
+        markDirty(file);
+        incModificationCount();
+      }
+    }
+  }
+
+  /**
+   * Returns {@code true} if the event may change what other files resolve to: a class added, removed or renamed, the
+   * package statement, or the annotations of an annotation type, such as {@code @BindingAnnotation} on a qualifier. The
+   * contributions of the other files hold keys and class names resolved through them, so the whole model is rebuilt.
+   */
+  private static boolean isDeclarationChange(@NotNull PsiTreeChangeEvent event) {
+    final PsiElement parent = event.getParent();
+    final PsiElement child = event.getChild() != null ? event.getChild() : event.getOldChild();
+    if (parent == null || child instanceof PsiClass || child instanceof PsiPackageStatement) return true;
+    if (parent instanceof PsiClass && child instanceof PsiIdentifier) return true;
+    if (PsiTreeUtil.getParentOfType(parent, PsiPackageStatement.class, false) != null) return true;
+    final PsiModifierList modifierList = PsiTreeUtil.getParentOfType(parent, PsiModifierList.class, false, PsiMember.class);
+    return modifierList != null && modifierList.getParent() instanceof PsiClass psiClass && psiClass.isAnnotationType();
+  }
+
+  private static boolean isStructuralChange(@NotNull PsiFile file, @NotNull PsiTreeChangeEvent event) {
+    final PsiElement parent = event.getParent();
+    final PsiElement child = event.getChild() != null ? event.getChild() : event.getOldChild();
+    if (child instanceof PsiWhiteSpace || child instanceof PsiComment) return false;
+    if (parent == null) return true;
+    if (parent instanceof PsiFile) {
+      // a generic event for the whole file comes with the specific events of the same change, which are checked instead
+      return child != null && (child instanceof PsiClass || isGuiceFile(file));
+    }
+    // members of anonymous and local classes are declarations, not body code
+    if (PsiTreeUtil.getParentOfType(parent, PsiCodeBlock.class, false, PsiClass.class) != null) {
+      return isBinderCallChange(parent, event.getChild()) || isBinderCallChange(parent, event.getOldChild());
+    }
+    if (isInFieldInitializer(parent)) return false;
+    return isHierarchyChange(parent, child) || isGuiceFile(file);
+  }
+
+  /**
+   * Returns {@code true} if the event may change which classes a file declares, what they extend or whether Guice can create
+   * them just in time: a class that inherits a Guice module or implements an injected interface need not mention Guice at all.
+   */
+  private static boolean isHierarchyChange(@NotNull PsiElement parent, @Nullable PsiElement child) {
+    if (child instanceof PsiClass || child instanceof PsiReferenceList) return true;
+    if (parent instanceof PsiClass && child instanceof PsiIdentifier) return true;
+    if (child instanceof PsiMethod method && method.isConstructor()) return true;
+    final PsiMethod method = PsiTreeUtil.getParentOfType(parent, PsiMethod.class, false, PsiClass.class);
+    if (method != null && method.isConstructor()) return true;
+    final PsiModifierList modifierList = PsiTreeUtil.getParentOfType(parent, PsiModifierList.class, false, PsiMember.class);
+    if (modifierList != null && modifierList.getParent() instanceof PsiClass) return true;
+    return PsiTreeUtil.getParentOfType(parent, PsiReferenceList.class, false) != null;
+  }
+
+  private static boolean isInFieldInitializer(@NotNull PsiElement element) {
+    final PsiField field = PsiTreeUtil.getParentOfType(element, PsiField.class, false);
+    return field != null && PsiTreeUtil.isAncestor(field.getInitializer(), element, false);
+  }
+
+  /**
+   * Returns {@code true} if a change below {@code parent}, inside a method body, touches a {@code bind()} chain or another
+   * {@link #BINDER_CALLS binder call}: either {@code child} contains one, or the change is inside one.
+   */
+  private static boolean isBinderCallChange(@NotNull PsiElement parent, @Nullable PsiElement child) {
+    if (child instanceof PsiIdentifier && BINDER_CALLS.contains(child.getText())) return true;
+    if (child != null && !(child instanceof PsiJavaToken)) {
+      for (PsiMethodCallExpression call : PsiTreeUtil.findChildrenOfType(child, PsiMethodCallExpression.class)) {
+        if (isBinderCall(call)) return true;
+      }
+      if (child instanceof PsiMethodCallExpression call && isBinderCall(call)) return true;
+    }
+    for (PsiElement element = parent; element != null && !(element instanceof PsiCodeBlock); element = element.getParent()) {
+      if (element instanceof PsiMethodCallExpression call && isBinderCall(call)) return true;
+    }
+    return false;
+  }
+
+  private static boolean isBinderCall(@NotNull PsiMethodCallExpression call) {
+    PsiExpression expression = call;
+    while (expression instanceof PsiMethodCallExpression methodCall) {
+      if (BINDER_CALLS.contains(methodCall.getMethodExpression().getReferenceName())) return true;
+      expression = methodCall.getMethodExpression().getQualifierExpression();
+    }
+    return false;
+  }
+
+  private void invalidateAll() {
+    final GuiceBindingGraph graph = myProject.getServiceIfCreated(GuiceBindingGraph.class);
+    if (graph != null) {
+      graph.invalidate();
+    }
+    final GuiceModuleClassSet moduleClasses = myProject.getServiceIfCreated(GuiceModuleClassSet.class);
+    if (moduleClasses != null) {
+      moduleClasses.invalidate();
+    }
+    incModificationCount();
+  }
+
+  private void markDirty(@NotNull PsiFile file) {
+    final VirtualFile virtualFile = file.getViewProvider().getVirtualFile();
+    final GuiceBindingGraph graph = myProject.getServiceIfCreated(GuiceBindingGraph.class);
+    if (graph != null) {
+      graph.markDirty(virtualFile);
+    }
+    final GuiceModuleClassSet moduleClasses = myProject.getServiceIfCreated(GuiceModuleClassSet.class);
+    if (moduleClasses != null) {
+      moduleClasses.markDirty(virtualFile);
+    }
+  }
+
+  /**
+   * Returns {@code true} if the PSI text of {@code file} mentions any Guice construct. Inside a {@code before*} event this is
+   * still the text before the change. Only checked for changes outside method bodies, which are rare while typing.
+   */
+  public static boolean isGuiceFile(@NotNull PsiFile file) {
+    final CharSequence text = file.getNode().getChars();
+    for (String marker : GUICE_MARKERS) {
+      if (StringUtil.contains(text, marker)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Dependencies every Guice model {@link CachedValue} should be created with.
+   */
+  public Object @NotNull [] getDependencies() {
+    return new Object[]{this, ProjectRootManager.getInstance(myProject)};
+  }
+
+  /**
+   * Returns the cached value stored under {@code key}, counting the lookup and, when {@code provider} has to run, the miss.
+   */
+  public <T> T getCachedValue(@NotNull UserDataHolder holder,
+                              @NotNull Key<CachedValue<T>> key,
+                              @NotNull CachedValueProvider<T> provider) {
+    myLookups.incrementAndGet();
+    return CachedValuesManager.getManager(myProject).getCachedValue(holder, key, () -> {
+      myMisses.incrementAndGet();
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Guice model cache miss for " + key + ": " + getStatistics());
+      }
+      return provider.compute();
+    }, false);
+  }
+
+  public long getHitCount() {
+    return Math.max(0, myLookups.get() - myMisses.get());
+  }
+
+  public long getMissCount() {
+    return myMisses.get();
+  }
+
+  public @NotNull String getStatistics() {
+    return "hits=" + getHitCount() + ", misses=" + getMissCount() + ", modifications=" + getModificationCount();
+  }
+
+  @Override
+  public void dispose() {
+    LOG.debug("Guice model cache statistics: " + getStatistics());
+  }
+}
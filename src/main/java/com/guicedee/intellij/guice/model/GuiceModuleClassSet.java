@@ -0,0 +1,238 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.DirectClassInheritorsSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Project-level set of the qualified names of all Guice module classes — inheritors of {@link GuiceClasses#ABSTRACT_MODULE}
+ * and {@link GuiceClasses#GUICEDEE_ABSTRACT_MODULE} — in sources and libraries.
+ * <p>
+ * The set is built once by walking the direct-inheritors index down from the two roots and is shared by all IntelliJ
+ * modules. Afterwards only the files reported by {@link GuiceModelModificationTracker} are re-checked: classes that
+ * became modules are added together with their inheritors, and when a class stops being a module the remaining members
+ * are validated again. The whole set is rebuilt when project roots change. Each update publishes an immutable snapshot, so
+ * queries never wait for an update running on another thread.
+ */
+public final class GuiceModuleClassSet {
+  private static final Logger LOG = Logger.getInstance(GuiceModuleClassSet.class);
+
+  private static final List<String> ROOTS = List.of(GuiceClasses.ABSTRACT_MODULE, GuiceClasses.GUICEDEE_ABSTRACT_MODULE);
+
+  /**
+   * Immutable state of the set, published as a whole; updates copy the previous state and apply the dirty files to the copy.
+   */
+  private static final class Snapshot {
+    private final long myRootsModificationCount;
+    private final long myInvalidationCount;
+    private final Set<String> myModuleClasses;
+    private final Map<VirtualFile, Set<String>> myModuleClassesByFile;
+
+    private Snapshot(long rootsModificationCount,
+                     long invalidationCount,
+                     @NotNull Set<String> moduleClasses,
+                     @NotNull Map<VirtualFile, Set<String>> moduleClassesByFile) {
+      myRootsModificationCount = rootsModificationCount;
+      myInvalidationCount = invalidationCount;
+      myModuleClasses = Set.copyOf(moduleClasses);
+      Map<VirtualFile, Set<String>> byFile = new HashMap<>();
+      moduleClassesByFile.forEach((file, names) -> {
+        if (!names.isEmpty()) {
+          byFile.put(file, Set.copyOf(names));
+        }
+      });
+      myModuleClassesByFile = Collections.unmodifiableMap(byFile);
+    }
+  }
+
+  private final Project myProject;
+  // dirty files with the stamp of their last change, so an update only clears the changes it has seen
+  private final Map<VirtualFile, Long> myDirtyFiles = new ConcurrentHashMap<>();
+  private final AtomicLong myDirtyStamp = new AtomicLong();
+  private final AtomicLong myInvalidationCount = new AtomicLong();
+  private final AtomicReference<Snapshot> mySnapshot = new AtomicReference<>();
+
+  public GuiceModuleClassSet(@NotNull Project project) {
+    myProject = project;
+    // the tracker only reports changed files to services that exist, so make sure it listens from now on
+    GuiceModelModificationTracker.getInstance(project);
+  }
+
+  public static @NotNull GuiceModuleClassSet getInstance(@NotNull Project project) {
+    return project.getService(GuiceModuleClassSet.class);
+  }
+
+  void markDirty(@NotNull VirtualFile file) {
+    myDirtyFiles.put(file, myDirtyStamp.incrementAndGet());
+  }
+
+  void invalidate() {
+    myInvalidationCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the qualified names of all Guice module classes in the project and its libraries.
+   */
+  public @NotNull Set<String> getModuleClassNames() {
+    return getSnapshot().myModuleClasses;
+  }
+
+  /**
+   * Returns the published snapshot, first building a new one if files changed since. No lock is held while building, so a
+   * cancelled update only discards its copy: the published snapshot and the dirty files stay as they were and the next
+   * query resumes from there. Threads racing to update may do the same work twice; the first to publish wins and the
+   * others retry on top of its snapshot.
+   */
+  private @NotNull Snapshot getSnapshot() {
+    while (true) {
+      final Snapshot snapshot = mySnapshot.get();
+      final long rootsModificationCount = ProjectRootManager.getInstance(myProject).getModificationCount();
+      final long invalidationCount = myInvalidationCount.get();
+      final boolean rebuild = snapshot == null ||
+                              snapshot.myRootsModificationCount != rootsModificationCount ||
+                              snapshot.myInvalidationCount != invalidationCount;
+      if (!rebuild && myDirtyFiles.isEmpty()) return snapshot;
+
+      final Map<VirtualFile, Long> dirty = new HashMap<>(myDirtyFiles);
+      Set<String> moduleClasses = new HashSet<>();
+      Map<VirtualFile, Set<String>> moduleClassesByFile = new HashMap<>();
+      if (rebuild) {
+        for (PsiClass root : findRoots()) {
+          addWithInheritors(root, moduleClasses, moduleClassesByFile);
+        }
+      }
+      else {
+        moduleClasses.addAll(snapshot.myModuleClasses);
+        snapshot.myModuleClassesByFile.forEach((file, names) -> moduleClassesByFile.put(file, new HashSet<>(names)));
+        update(dirty.keySet(), moduleClasses, moduleClassesByFile);
+      }
+
+      final Snapshot updated = new Snapshot(rootsModificationCount, invalidationCount, moduleClasses, moduleClassesByFile);
+      if (mySnapshot.compareAndSet(snapshot, updated)) {
+        for (Map.Entry<VirtualFile, Long> entry : dirty.entrySet()) {
+          myDirtyFiles.remove(entry.getKey(), entry.getValue());
+        }
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Guice module classes " + (rebuild ? "rebuilt: " : "updated from " + dirty.size() + " file(s): ") +
+                    updated.myModuleClasses.size());
+        }
+        return updated;
+      }
+    }
+  }
+
+  private void update(@NotNull Collection<VirtualFile> dirty,
+                      @NotNull Set<String> moduleClasses,
+                      @NotNull Map<VirtualFile, Set<String>> moduleClassesByFile) {
+    final List<PsiClass> roots = findRoots();
+    boolean removed = false;
+    for (VirtualFile file : dirty) {
+      ProgressManager.checkCanceled();
+      final Set<String> before = moduleClassesByFile.remove(file);
+      final Set<String> after = new HashSet<>();
+      final PsiFile psiFile = file.isValid() ? PsiManager.getInstance(myProject).findFile(file) : null;
+      if (psiFile instanceof PsiJavaFile) {
+        for (PsiClass psiClass : PsiTreeUtil.findChildrenOfType(psiFile, PsiClass.class)) {
+          final String name = psiClass.getQualifiedName();
+          if (name != null && isModuleClass(psiClass, roots)) {
+            after.add(name);
+            if (!moduleClasses.contains(name)) {
+              addWithInheritors(psiClass, moduleClasses, moduleClassesByFile);
+            }
+          }
+        }
+      }
+      if (before != null) {
+        for (String name : before) {
+          if (!after.contains(name)) {
+            removed |= moduleClasses.remove(name);
+          }
+        }
+      }
+      if (!after.isEmpty()) {
+        moduleClassesByFile.computeIfAbsent(file, f -> new HashSet<>()).addAll(after);
+      }
+    }
+
+    if (removed) {
+      // inheritors of a class that is no longer a module may have lost their Guice super class as well
+      final JavaPsiFacade facade = JavaPsiFacade.getInstance(myProject);
+      final GlobalSearchScope scope = GlobalSearchScope.allScope(myProject);
+      moduleClasses.removeIf(name -> {
+        ProgressManager.checkCanceled();
+        final PsiClass psiClass = facade.findClass(name, scope);
+        return psiClass == null || !isModuleClass(psiClass, roots);
+      });
+      moduleClassesByFile.values().forEach(names -> names.retainAll(moduleClasses));
+    }
+  }
+
+  private @NotNull List<PsiClass> findRoots() {
+    final JavaPsiFacade facade = JavaPsiFacade.getInstance(myProject);
+    final GlobalSearchScope scope = GlobalSearchScope.allScope(myProject);
+    List<PsiClass> roots = new ArrayList<>();
+    for (String name : ROOTS) {
+      final PsiClass root = facade.findClass(name, scope);
+      if (root != null) {
+        roots.add(root);
+      }
+    }
+    return roots;
+  }
+
+  private static boolean isModuleClass(@NotNull PsiClass psiClass, @NotNull List<PsiClass> roots) {
+    for (PsiClass root : roots) {
+      if (psiClass.isInheritor(root, true)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Adds {@code psiClass}, unless it is one of the roots, and walks its direct inheritors breadth first.
+   */
+  private void addWithInheritors(@NotNull PsiClass psiClass,
+                                 @NotNull Set<String> moduleClasses,
+                                 @NotNull Map<VirtualFile, Set<String>> moduleClassesByFile) {
+    final GlobalSearchScope scope = GlobalSearchScope.allScope(myProject);
+    final boolean isRoot = ROOTS.contains(psiClass.getQualifiedName());
+    Deque<PsiClass> queue = new ArrayDeque<>();
+    queue.add(psiClass);
+    while (!queue.isEmpty()) {
+      ProgressManager.checkCanceled();
+      final PsiClass current = queue.poll();
+      if (current != psiClass || !isRoot) {
+        final String name = current.getQualifiedName();
+        if (name == null || !moduleClasses.add(name)) continue;
+        final VirtualFile file = getSourceFile(current);
+        if (file != null) {
+          moduleClassesByFile.computeIfAbsent(file, f -> new HashSet<>()).add(name);
+        }
+      }
+      for (PsiClass inheritor : DirectClassInheritorsSearch.search(current, scope, false).findAll()) {
+        queue.add(inheritor);
+      }
+    }
+  }
+
+  private @Nullable VirtualFile getSourceFile(@NotNull PsiClass psiClass) {
+    final PsiFile file = psiClass.getContainingFile();
+    final VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+    return virtualFile != null && ProjectFileIndex.getInstance(myProject).isInSourceContent(virtualFile) ? virtualFile : null;
+  }
+}
@@ -0,0 +1,131 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceAnnotations;
+import com.guicedee.intellij.guice.index.GuiceBindingIndex;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The Guice scopes the plugin understands, ordered by how long an instance lives.
+ */
+public enum GuiceScope {
+  UNSCOPED(List.of()),
+  REQUEST(List.of(GuiceAnnotations.REQUEST_SCOPED)),
+  SESSION(List.of(GuiceAnnotations.SESSION_SCOPED)),
+  SINGLETON(List.of(GuiceAnnotations.SINGLETON, GuiceAnnotations.JAVAX_SINGLETON, GuiceAnnotations.JAKARTA_SINGLETON));
+
+  private final List<String> myAnnotations;
+
+  GuiceScope(@NotNull List<String> annotations) {
+    myAnnotations = annotations;
+  }
+
+  /**
+   * Returns {@code true} if an instance of this scope outlives one of {@code other}, so injecting it directly keeps the
+   * narrower instance alive past its scope. Unscoped instances live as long as whatever holds them.
+   */
+  public boolean isWiderThan(@NotNull GuiceScope other) {
+    return other != UNSCOPED && compareTo(other) > 0;
+  }
+
+  public @NotNull String getPresentableName() {
+    return this == UNSCOPED ? "unscoped" : "@" + myAnnotations.get(0).substring(myAnnotations.get(0).lastIndexOf('.') + 1);
+  }
+
+  public static @NotNull GuiceScope forAnnotation(@Nullable String annotation) {
+    for (GuiceScope scope : values()) {
+      if (scope.myAnnotations.contains(annotation)) return scope;
+    }
+    return UNSCOPED;
+  }
+
+  /**
+   * Returns the scope declared directly on a class or {@code @Provides} method; scope annotations are not inherited.
+   */
+  public static @NotNull GuiceScope of(@NotNull PsiModifierListOwner owner) {
+    final PsiModifierList modifierList = owner.getModifierList();
+    if (modifierList == null) return UNSCOPED;
+    GuiceScope result = UNSCOPED;
+    for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+      final GuiceScope scope = forAnnotation(annotation.getQualifiedName());
+      if (scope.compareTo(result) > 0) {
+        result = scope;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the scope instances of {@code provision} live in: the {@code in(..)} of a binding, else the scope declared on
+   * the class that ends up being instantiated.
+   */
+  public static @NotNull GuiceScope of(@NotNull GuiceBindingGraph.Provision provision) {
+    final PsiElement element = provision.getElement();
+    if (element == null) return UNSCOPED;
+    return switch (provision.getKind()) {
+      case BINDING -> element instanceof PsiMethodCallExpression anchor ? ofBinding(provision, anchor) : UNSCOPED;
+      case IMPLEMENTED_BY -> ofClasses(element.getProject(), provision.getTargets());
+      case PROVIDES, PROVIDED_BY, JIT -> element instanceof PsiModifierListOwner owner ? of(owner) : UNSCOPED;
+    };
+  }
+
+  /**
+   * Returns the narrowest scope among {@code provisions} of one key, preferring explicit bindings over just-in-time ones.
+   */
+  public static @NotNull GuiceScope of(@NotNull Collection<GuiceBindingGraph.Provision> provisions) {
+    final boolean hasExplicit = ContainerUtil.exists(provisions, GuiceBindingGraph.Provision::isExplicit);
+    GuiceScope result = null;
+    for (GuiceBindingGraph.Provision provision : provisions) {
+      if (hasExplicit && !provision.isExplicit()) continue;
+      final GuiceScope scope = of(provision);
+      if (scope != UNSCOPED && (result == null || scope.compareTo(result) < 0)) {
+        result = scope;
+      }
+    }
+    return result != null ? result : UNSCOPED;
+  }
+
+  private static @NotNull GuiceScope ofBinding(@NotNull GuiceBindingGraph.Provision provision, @NotNull PsiMethodCallExpression anchor) {
+    if ("asEagerSingleton".equals(anchor.getMethodExpression().getReferenceName())) return SINGLETON;
+
+    final PsiExpression scope = PsiUtil.skipParenthesizedExprDown(GuiceUtils.findScopeForBinding(anchor));
+    if (scope instanceof PsiClassObjectAccessExpression classObject) {
+      return classObject.getOperand().getType() instanceof PsiClassType classType
+             ? forAnnotation(classType.rawType().getCanonicalText())
+             : UNSCOPED;
+    }
+    if (scope != null) {
+      return forAnnotation(GuiceUtils.getScopeAnnotationForScopeExpression(scope));
+    }
+
+    final GuiceBindingIndex.Kind kind = provision.getBindingKind();
+    if (kind == GuiceBindingIndex.Kind.TO_INSTANCE) return SINGLETON;
+    if (kind == GuiceBindingIndex.Kind.TO) return ofClasses(anchor.getProject(), provision.getTargets());
+    if (kind == GuiceBindingIndex.Kind.UNTARGETTED) return ofClasses(anchor.getProject(), List.of(provision.getKey().getType()));
+    return UNSCOPED;
+  }
+
+  private static @NotNull GuiceScope ofClasses(@NotNull Project project, @NotNull Iterable<String> classNames) {
+    final JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+    final GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+    GuiceScope result = UNSCOPED;
+    for (String className : classNames) {
+      final PsiClass psiClass = facade.findClass(className, scope);
+      final GuiceScope classScope = psiClass != null ? of(psiClass) : UNSCOPED;
+      if (classScope.compareTo(result) > 0) {
+        result = classScope;
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,306 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.guicedee.intellij.guice.index.GuiceBindingIndex;
+import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Memoized reachability of scoped components over the {@link GuiceBindingGraph}, to find scope widening through unscoped
+ * components: {@code @Singleton A -> B -> @RequestScoped C} pins {@code C} in {@code A} as surely as injecting it directly.
+ * <p>
+ * Every key visited gets a node id, and one {@link BitSet} per scope over the node ids records which nodes reach a
+ * component of that scope through unscoped components only. A scoped node reaches just its own scope: what it injects lives
+ * as long as it does and is checked at its own injection points. {@code Provider} injections are not followed, since they
+ * look the instance up on each call. Reachability is resolved per strongly connected component with
+ * {@link StronglyConnectedComponents} and propagated over the condensed graph, so all nodes of an injection cycle reach the
+ * same scopes; each node is expanded once, and the analysis is linear in the size of the graph.
+ * <p>
+ * An instance is shared until the Guice model changes, see {@link GuiceModelModificationTracker}.
+ */
+public final class GuiceScopeReachability {
+  private static final Key<CachedValue<GuiceScopeReachability>> SCOPE_REACHABILITY = Key.create("guice.scope.reachability");
+
+  private static final class Node {
+    private final @NotNull BindingKey myKey;
+    private final @NotNull GuiceScope myScope;
+    private final @NotNull Set<GuiceBindingGraph.Provision> myProvisions;
+    private final @Nullable PsiClass myJitClass;
+    // ids of the injected nodes, null until expanded
+    private @Nullable List<Integer> mySuccessors;
+    // set once the component of the node has been resolved
+    private boolean myResolved;
+    // per scope, the node through which this one reaches it
+    private final int[] myNext = new int[GuiceScope.values().length];
+
+    private Node(@NotNull BindingKey key,
+                 @NotNull GuiceScope scope,
+                 @NotNull Set<GuiceBindingGraph.Provision> provisions,
+                 @Nullable PsiClass jitClass) {
+      myKey = key;
+      myScope = scope;
+      myProvisions = provisions;
+      myJitClass = jitClass;
+      Arrays.fill(myNext, -1);
+    }
+  }
+
+  private final Project myProject;
+  private final GuiceBindingGraph myGraph;
+  private final GlobalSearchScope myAllScope;
+  private final Map<BindingKey, Integer> myIds = new HashMap<>();
+  private final List<Node> myNodes = new ArrayList<>();
+  private final BitSet[] myReaches = new BitSet[GuiceScope.values().length];
+  private final Map<String, GuiceScope> myConsumerScopes = new HashMap<>();
+
+  private GuiceScopeReachability(@NotNull Project project) {
+    myProject = project;
+    myGraph = GuiceBindingGraph.getInstance(project);
+    myAllScope = GlobalSearchScope.allScope(project);
+    for (int i = 0; i < myReaches.length; i++) {
+      myReaches[i] = new BitSet();
+    }
+  }
+
+  public static @NotNull GuiceScopeReachability getInstance(@NotNull Project project) {
+    final GuiceModelModificationTracker tracker = GuiceModelModificationTracker.getInstance(project);
+    return tracker.getCachedValue(project, SCOPE_REACHABILITY, () -> CachedValueProvider.Result.create(
+      new GuiceScopeReachability(project), tracker.getDependencies()));
+  }
+
+  /**
+   * Returns the keys leading from the injected {@code key} to a component that {@code consumerScope} outlives, ending with
+   * that component, or an empty list if the injection does not widen any scope.
+   */
+  public synchronized @NotNull List<BindingKey> findWidening(@NotNull BindingKey key, @NotNull GuiceScope consumerScope) {
+    if (consumerScope == GuiceScope.UNSCOPED || GuiceClasses.PROVIDERS.contains(key.getType())) return Collections.emptyList();
+
+    final int id = resolve(key);
+    for (GuiceScope scope : GuiceScope.values()) {
+      if (consumerScope.isWiderThan(scope) && myReaches[scope.ordinal()].get(id)) {
+        return getPath(id, scope);
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Same as {@link #findWidening(BindingKey, GuiceScope)} for the key of a field or parameter injection point.
+   */
+  public @NotNull List<BindingKey> findWidening(@NotNull PsiModifierListOwner injectionPoint, @NotNull GuiceScope consumerScope) {
+    final BindingKey key = new InjectionPointDescriptor(injectionPoint).getKey();
+    return key != null ? findWidening(key, consumerScope) : Collections.emptyList();
+  }
+
+  /**
+   * Returns the scope of the component {@code key} resolves to.
+   */
+  public synchronized @NotNull GuiceScope getScope(@NotNull BindingKey key) {
+    return myNodes.get(getNode(key)).myScope;
+  }
+
+  /**
+   * Returns the scope of the {@code @Provides} method or class declaring {@code dependency}, including the scope of bindings
+   * that instantiate the class.
+   */
+  public synchronized @NotNull GuiceScope getConsumerScope(@NotNull GuiceBindingGraph.Dependency dependency) {
+    if (dependency.getConsumerProvision() != null) return GuiceScope.of(dependency.getConsumerProvision());
+    final String consumerClass = dependency.getConsumerClass();
+    return consumerClass != null ? getClassScope(consumerClass) : GuiceScope.UNSCOPED;
+  }
+
+  private @NotNull GuiceScope getClassScope(@NotNull String className) {
+    final GuiceScope cached = myConsumerScopes.get(className);
+    if (cached != null) return cached;
+
+    final PsiClass psiClass = JavaPsiFacade.getInstance(myProject).findClass(className, myAllScope);
+    GuiceScope result = psiClass != null ? GuiceScope.of(psiClass) : GuiceScope.UNSCOPED;
+    for (GuiceBindingGraph.Provision provision : myGraph.getProvisionsInvolving(className)) {
+      if (instantiates(provision, className)) {
+        final GuiceScope scope = GuiceScope.of(provision);
+        if (scope.compareTo(result) > 0) {
+          result = scope;
+        }
+      }
+    }
+    myConsumerScopes.put(className, result);
+    return result;
+  }
+
+  private static boolean instantiates(@NotNull GuiceBindingGraph.Provision provision, @NotNull String className) {
+    if (provision.getKind() != GuiceBindingGraph.ProvisionKind.BINDING) return false;
+    if (provision.getBindingKind() == GuiceBindingIndex.Kind.TO) return provision.getTargets().contains(className);
+    return provision.getBindingKind() == GuiceBindingIndex.Kind.UNTARGETTED && className.equals(provision.getKey().getType());
+  }
+
+  /**
+   * Returns the id of the node of {@code key}, first resolving the strongly connected components reachable from it that are
+   * not resolved yet. Components come in reverse topological order, so those a component injects are always resolved before
+   * it; a cancelled pass only leaves unresolved nodes behind, which the next query picks up again.
+   */
+  private int resolve(@NotNull BindingKey key) {
+    final int id = getNode(key);
+    if (!myNodes.get(id).myResolved) {
+      StronglyConnectedComponents.compute(List.of(id), this::getUnresolvedSuccessors, this::resolveComponent);
+    }
+    return id;
+  }
+
+  private int getNode(@NotNull BindingKey key) {
+    final Integer known = myIds.get(key);
+    if (known != null) return known;
+    ProgressManager.checkCanceled();
+
+    final Set<GuiceBindingGraph.Provision> provisions = myGraph.getEffectiveProvisions(key);
+    final PsiClass jitClass = provisions.isEmpty() ? findJitClass(key) : null;
+    final GuiceScope scope = jitClass != null ? GuiceScope.of(jitClass) : GuiceScope.of(provisions);
+
+    final int id = myNodes.size();
+    myNodes.add(new Node(key, scope, provisions, jitClass));
+    myIds.put(key, id);
+    return id;
+  }
+
+  /**
+   * Returns the nodes injected by node {@code id}. A scoped node injects nothing as far as widening goes: what it injects
+   * lives as long as it does and is checked at its own injection points.
+   */
+  private @NotNull List<Integer> getSuccessors(int id) {
+    final Node node = myNodes.get(id);
+    if (node.mySuccessors != null) return node.mySuccessors;
+
+    Set<Integer> successors = new LinkedHashSet<>();
+    if (node.myScope == GuiceScope.UNSCOPED) {
+      final List<GuiceBindingGraph.Dependency> injected =
+        node.myJitClass != null ? myGraph.getMemberDependencies(node.myKey.getType()) : getInjectedDependencies(node.myProvisions);
+      for (GuiceBindingGraph.Dependency dependency : injected) {
+        if (!GuiceClasses.PROVIDERS.contains(dependency.getKey().getType())) {
+          successors.add(getNode(dependency.getKey()));
+        }
+      }
+    }
+    node.mySuccessors = List.copyOf(successors);
+    return node.mySuccessors;
+  }
+
+  private @NotNull Iterator<Integer> getUnresolvedSuccessors(int id) {
+    return ContainerUtil.filter(getSuccessors(id), next -> !myNodes.get(next).myResolved).iterator();
+  }
+
+  /**
+   * Sets the reachability of a component whose successors outside of it are all resolved: a scoped node reaches its own
+   * scope, and an unscoped component reaches what any edge leaving it reaches. Within the component the scope spreads
+   * against the edges from the nodes where it leaves, which also records the shortest way out for {@link #getPath}.
+   */
+  private void resolveComponent(@NotNull List<Integer> component) {
+    final Set<Integer> members = new HashSet<>(component);
+    Map<Integer, List<Integer>> predecessors = new HashMap<>();
+    if (component.size() > 1) {
+      for (int id : component) {
+        for (int next : getSuccessors(id)) {
+          if (members.contains(next)) {
+            predecessors.computeIfAbsent(next, k -> new ArrayList<>()).add(id);
+          }
+        }
+      }
+    }
+
+    for (GuiceScope scope : GuiceScope.values()) {
+      if (scope == GuiceScope.UNSCOPED) continue;
+      final BitSet reaches = myReaches[scope.ordinal()];
+      Deque<Integer> queue = new ArrayDeque<>();
+      for (int id : component) {
+        final Node node = myNodes.get(id);
+        if (node.myScope == scope) {
+          reaches.set(id);
+          continue;
+        }
+        for (int next : getSuccessors(id)) {
+          if (!members.contains(next) && reaches.get(next)) {
+            reaches.set(id);
+            node.myNext[scope.ordinal()] = next;
+            queue.add(id);
+            break;
+          }
+        }
+      }
+      while (!queue.isEmpty()) {
+        final int reached = queue.poll();
+        for (int id : predecessors.getOrDefault(reached, Collections.emptyList())) {
+          if (!reaches.get(id)) {
+            reaches.set(id);
+            myNodes.get(id).myNext[scope.ordinal()] = reached;
+            queue.add(id);
+          }
+        }
+      }
+    }
+    for (int id : component) {
+      myNodes.get(id).myResolved = true;
+    }
+  }
+
+  private @Nullable PsiClass findJitClass(@NotNull BindingKey key) {
+    if (key.getQualifier() != null) return null;
+    final PsiClass psiClass = JavaPsiFacade.getInstance(myProject).findClass(key.getType(), myAllScope);
+    return psiClass != null && GuiceUtils.isInstantiable(psiClass) ? psiClass : null;
+  }
+
+  /**
+   * Returns what the instances created for {@code provisions} inject: the parameters of {@code @Provides} methods, or the
+   * injection points of the instantiated classes.
+   */
+  private @NotNull List<GuiceBindingGraph.Dependency> getInjectedDependencies(@NotNull Collection<GuiceBindingGraph.Provision> provisions) {
+    List<GuiceBindingGraph.Dependency> result = new ArrayList<>();
+    for (GuiceBindingGraph.Provision provision : provisions) {
+      if (provision.getKind() == GuiceBindingGraph.ProvisionKind.PROVIDES) {
+        result.addAll(myGraph.getDependencies(provision));
+      }
+      for (String instantiated : provision.getInstantiatedClasses()) {
+        result.addAll(myGraph.getMemberDependencies(instantiated));
+      }
+    }
+    return result;
+  }
+
+  private @NotNull List<BindingKey> getPath(int id, @NotNull GuiceScope scope) {
+    List<BindingKey> path = new ArrayList<>();
+    int current = id;
+    while (current >= 0 && path.size() <= myNodes.size()) {
+      final Node node = myNodes.get(current);
+      path.add(node.myKey);
+      if (node.myScope != GuiceScope.UNSCOPED) break;
+      current = node.myNext[scope.ordinal()];
+    }
+    return path;
+  }
+
+  /**
+   * Presents a path found by {@link #findWidening} as {@code Consumer -> A -> B}, with short class names.
+   */
+  public static @NotNull String getPresentablePath(@Nullable String consumerClass, @NotNull List<BindingKey> path) {
+    StringJoiner joiner = new StringJoiner(" -> ");
+    if (consumerClass != null) {
+      joiner.add(StringUtil.getShortName(consumerClass));
+    }
+    for (BindingKey key : path) {
+      joiner.add(StringUtil.getShortName(key.getType()));
+    }
+    return joiner.toString();
+  }
+}
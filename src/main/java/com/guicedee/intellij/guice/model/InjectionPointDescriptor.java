@@ -1,6 +1,7 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.model;
 
+import com.intellij.openapi.util.NullableLazyValue;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -10,6 +11,12 @@ import java.util.Set;
 
 public class InjectionPointDescriptor {
   private final PsiModifierListOwner myOwner;
+  private final NullableLazyValue<BindingKey> myKey = new NullableLazyValue<>() {
+    @Override
+    protected @Nullable BindingKey compute() {
+      return BindingKey.forInjectionPoint(InjectionPointDescriptor.this);
+    }
+  };
 
   public InjectionPointDescriptor(PsiModifierListOwner owner) {
     myOwner = owner;
@@ -26,6 +33,13 @@ public class InjectionPointDescriptor {
     return GuiceInjectorManager.getBindingAnnotations(myOwner);
   }
 
+  /**
+   * Returns the canonical key this injection point is resolved by, or {@code null} if its type is unknown.
+   */
+  public @Nullable BindingKey getKey() {
+    return myKey.getValue();
+  }
+
   public @NotNull PsiModifierListOwner getOwner() {
     return myOwner;
   }
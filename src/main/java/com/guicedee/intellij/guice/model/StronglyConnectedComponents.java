@@ -0,0 +1,88 @@
+// Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.guicedee.intellij.guice.model;
+
+import com.intellij.openapi.progress.ProgressManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Iterative Tarjan's algorithm over a graph given by its successor function, shared by {@link GuiceDependencyCycles} and
+ * {@link GuiceScopeReachability}.
+ */
+final class StronglyConnectedComponents {
+  private static final class Frame<N> {
+    private final @NotNull N myNode;
+    private final @NotNull Iterator<? extends N> mySuccessors;
+    private int myLowLink;
+
+    private Frame(@NotNull N node, @NotNull Iterator<? extends N> successors, int lowLink) {
+      myNode = node;
+      mySuccessors = successors;
+      myLowLink = lowLink;
+    }
+  }
+
+  private StronglyConnectedComponents() { }
+
+  /**
+   * Passes each strongly connected component reachable from {@code roots} to {@code consumer}, after every component it has
+   * edges to, that is in reverse topological order of the condensed graph. Each node is expanded once, so the pass is linear
+   * in the number of nodes and edges.
+   *
+   * @return the number of nodes visited
+   */
+  static <N> int compute(@NotNull Iterable<? extends N> roots,
+                         @NotNull Function<? super N, ? extends Iterator<? extends N>> successors,
+                         @NotNull Consumer<? super List<N>> consumer) {
+    Map<N, Integer> indices = new HashMap<>();
+    Set<N> onStack = new HashSet<>();
+    Deque<N> stack = new ArrayDeque<>();
+    for (N root : roots) {
+      if (indices.containsKey(root)) continue;
+
+      Deque<Frame<N>> frames = new ArrayDeque<>();
+      indices.put(root, indices.size());
+      stack.push(root);
+      onStack.add(root);
+      frames.push(new Frame<>(root, successors.apply(root), indices.get(root)));
+      while (!frames.isEmpty()) {
+        ProgressManager.checkCanceled();
+        final Frame<N> frame = frames.peek();
+        if (frame.mySuccessors.hasNext()) {
+          final N target = frame.mySuccessors.next();
+          final Integer index = indices.get(target);
+          if (index == null) {
+            indices.put(target, indices.size());
+            stack.push(target);
+            onStack.add(target);
+            frames.push(new Frame<>(target, successors.apply(target), indices.get(target)));
+          }
+          else if (onStack.contains(target)) {
+            frame.myLowLink = Math.min(frame.myLowLink, index);
+          }
+          continue;
+        }
+
+        frames.pop();
+        if (!frames.isEmpty()) {
+          frames.peek().myLowLink = Math.min(frames.peek().myLowLink, frame.myLowLink);
+        }
+        if (frame.myLowLink != indices.get(frame.myNode)) continue;
+
+        List<N> component = new ArrayList<>();
+        N member;
+        do {
+          member = stack.pop();
+          onStack.remove(member);
+          component.add(member);
+        }
+        while (!member.equals(frame.myNode));
+        consumer.accept(component);
+      }
+    }
+    return indices.size();
+  }
+}
@@ -1,59 +1,120 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.model.beans;
 
+import com.guicedee.intellij.guice.model.BindingKey;
 import com.guicedee.intellij.guice.utils.GuiceUtils;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.NullableLazyValue;
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 
+/**
+ * A {@code bind()} chain, identified by its anchor call.
+ * <p>
+ * Descriptors are cached in large sets, so they do not retain PSI: the call is kept as a {@link SmartPsiElementPointer} and
+ * the resolved classes as qualified names, which are restored to PSI only when a caller asks for them. Two descriptors are
+ * equal when their pointers restore the same call, wherever edits have moved it since; the hash code only depends on the
+ * file, which does not move.
+ */
 public abstract class BindDescriptor {
-   private final PsiMethodCallExpression myCallExpression;
-   private final NullableLazyValue<PsiClass> myBoundClass = new NullableLazyValue<>() {
-     @Override
-     protected @Nullable PsiClass compute() {
-       return GuiceUtils.findImplementedClassForBinding(getBindExpression());
-     }
-   };
-
-  private final NullableLazyValue<PsiClass> myBindingClass = new NullableLazyValue<>() {
+  private final SmartPsiElementPointer<PsiMethodCallExpression> myCallPointer;
+  private final @Nullable VirtualFile myFile;
+
+  private final NullableLazyValue<String> myBoundClassName = new NullableLazyValue<>() {
+    @Override
+    protected @Nullable String compute() {
+      final PsiMethodCallExpression expression = getBindExpression();
+      return expression != null ? getQualifiedName(GuiceUtils.findImplementedClassForBinding(expression)) : null;
+    }
+  };
+
+  private final NullableLazyValue<String> myBindingClassName = new NullableLazyValue<>() {
     @Override
-    protected @Nullable PsiClass compute() {
-      return calculateBindingClass();
+    protected @Nullable String compute() {
+      return getQualifiedName(calculateBindingClass());
+    }
+  };
+
+  private final NullableLazyValue<BindingKey> myKey = new NullableLazyValue<>() {
+    @Override
+    protected @Nullable BindingKey compute() {
+      return BindingKey.forBinding(BindDescriptor.this);
     }
   };
 
   public BindDescriptor(@NotNull PsiMethodCallExpression callExpression) {
-    myCallExpression = callExpression;
+    myCallPointer = SmartPointerManager.createPointer(callExpression);
+    final PsiFile file = callExpression.getContainingFile();
+    myFile = file != null ? file.getViewProvider().getVirtualFile() : null;
+  }
 
+  public @Nullable String getBoundClassName() {
+    return myBoundClassName.getValue();
   }
 
   public @Nullable PsiClass getBoundClass() {
-    return myBoundClass.getValue();
+    return findClass(getBoundClassName());
+  }
+
+  /**
+   * Qualified name of the linked class, or {@code null} if it does not resolve or is anonymous or local.
+   */
+  public @Nullable String getBindingClassName() {
+    return myBindingClassName.getValue();
   }
 
   public @Nullable PsiClass getBindingClass() {
-    return myBindingClass.getValue();
+    final String name = getBindingClassName();
+    return name != null ? findClass(name) : calculateBindingClass();
+  }
+
+  /**
+   * Returns the canonical key of the bound type and its {@code annotatedWith(..)} qualifier, or {@code null} if the bound
+   * type can not be resolved.
+   */
+  public @Nullable BindingKey getKey() {
+    return myKey.getValue();
   }
 
   public abstract @Nullable PsiClass calculateBindingClass();
 
-  public @NotNull PsiMethodCallExpression getBindExpression() {
-    return myCallExpression;
+  /**
+   * Restores the anchor call, or returns {@code null} if it has been removed since the descriptor was created.
+   */
+  public @Nullable PsiMethodCallExpression getBindExpression() {
+    return myCallPointer.getElement();
+  }
+
+  public @NotNull Project getProject() {
+    return myCallPointer.getProject();
+  }
+
+  protected @Nullable PsiClass findClass(@Nullable String qualifiedName) {
+    if (qualifiedName == null) return null;
+    final Project project = getProject();
+    return JavaPsiFacade.getInstance(project).findClass(qualifiedName, GlobalSearchScope.allScope(project));
+  }
+
+  protected static @Nullable String getQualifiedName(@Nullable PsiClass psiClass) {
+    return psiClass != null ? psiClass.getQualifiedName() : null;
   }
 
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
     if (!(o instanceof BindDescriptor that)) return false;
-    return Objects.equals(myCallExpression, that.myCallExpression);
+    return getClass() == that.getClass() &&
+           Objects.equals(myFile, that.myFile) &&
+           SmartPointerManager.getInstance(getProject()).pointToSameElement(myCallPointer, that.myCallPointer);
   }
 
   @Override
   public int hashCode() {
-    return myCallExpression.hashCode();
+    return 31 * Objects.hashCode(myFile) + getClass().hashCode();
   }
 }
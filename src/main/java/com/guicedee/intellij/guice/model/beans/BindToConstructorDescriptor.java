@@ -15,6 +15,7 @@ public class BindToConstructorDescriptor extends BindDescriptor {
 
   @Override
   public @Nullable PsiClass calculateBindingClass() {
-    return GuiceInjectionUtil.getCallExpressionType(getBindExpression(), "toConstructor");
+    final PsiMethodCallExpression expression = getBindExpression();
+    return expression != null ? GuiceInjectionUtil.getCallExpressionType(expression, "toConstructor") : null;
   }
 }
@@ -15,6 +15,7 @@ public class BindToDescriptor extends BindDescriptor {
 
   @Override
   public @Nullable PsiClass calculateBindingClass() {
-    return GuiceInjectionUtil.getCallExpressionType(getBindExpression(), "to");
+    final PsiMethodCallExpression expression = getBindExpression();
+    return expression != null ? GuiceInjectionUtil.getCallExpressionType(expression, "to") : null;
   }
 }
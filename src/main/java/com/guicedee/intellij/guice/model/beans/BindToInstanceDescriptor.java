@@ -15,6 +15,7 @@ public class BindToInstanceDescriptor extends BindDescriptor {
 
   @Override
   public @Nullable PsiClass calculateBindingClass() {
-    return GuiceInjectionUtil.getCallExpressionType(getBindExpression(), "toInstance");
+    final PsiMethodCallExpression expression = getBindExpression();
+    return expression != null ? GuiceInjectionUtil.getCallExpressionType(expression, "toInstance") : null;
   }
 }
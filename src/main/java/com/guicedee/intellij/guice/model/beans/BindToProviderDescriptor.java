@@ -10,10 +10,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class BindToProviderDescriptor extends BindDescriptor {
-  private final NullableLazyValue<PsiClass> myProviderClass = new NullableLazyValue<>() {
+  private final NullableLazyValue<String> myProviderClassName = new NullableLazyValue<>() {
     @Override
-    protected @Nullable PsiClass compute() {
-      return GuiceInjectionUtil.getCallExpressionType(getBindExpression(), "toProvider");
+    protected @Nullable String compute() {
+      return getQualifiedName(calculateProviderClass());
     }
   };
 
@@ -30,7 +30,20 @@ public class BindToProviderDescriptor extends BindDescriptor {
     return null;
   }
 
+  /**
+   * Qualified name of the provider class, or {@code null} if it does not resolve or is anonymous or local.
+   */
+  public @Nullable String getProviderClassName() {
+    return myProviderClassName.getValue();
+  }
+
   public @Nullable PsiClass getProviderClass() {
-    return myProviderClass.getValue();
+    final String name = getProviderClassName();
+    return name != null ? findClass(name) : calculateProviderClass();
+  }
+
+  private @Nullable PsiClass calculateProviderClass() {
+    final PsiMethodCallExpression expression = getBindExpression();
+    return expression != null ? GuiceInjectionUtil.getCallExpressionType(expression, "toProvider") : null;
   }
 }
@@ -1,8 +1,10 @@
 // Copyright 2000-2026 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.guicedee.intellij.guice.model.jam;
 
+import com.guicedee.intellij.guice.model.BindingKey;
 import com.guicedee.intellij.guice.model.GuiceInjectorManager;
 import com.guicedee.intellij.guice.model.InjectionPointDescriptor;
+import com.intellij.openapi.util.NullableLazyValue;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,6 +15,12 @@ import java.util.Set;
 
 public abstract class GuiceProvides<T extends PsiMember> {
   private final T myPsiElement;
+  private final NullableLazyValue<BindingKey> myKey = new NullableLazyValue<>() {
+    @Override
+    protected @Nullable BindingKey compute() {
+      return BindingKey.forProvides(GuiceProvides.this);
+    }
+  };
 
   protected GuiceProvides(T psiElement) {
     myPsiElement = psiElement;
@@ -30,6 +38,13 @@ public abstract class GuiceProvides<T extends PsiMember> {
 
   public abstract @Nullable PsiType getProductType();
 
+  /**
+   * Returns the canonical key of the provided product, or {@code null} if the product type is unknown.
+   */
+  public @Nullable BindingKey getKey() {
+    return myKey.getValue();
+  }
+
   public static final class Method extends GuiceProvides<PsiMethod> {
     public Method(PsiMethod method) {
       super(method);
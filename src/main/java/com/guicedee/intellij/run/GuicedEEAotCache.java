@@ -0,0 +1,298 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.CantRunException;
+import com.intellij.execution.configurations.JavaParameters;
+import com.intellij.execution.process.BaseProcessHandler;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.openapi.util.SystemInfo;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.PathsList;
+import com.intellij.util.TimeoutUtil;
+import com.intellij.util.io.DigestUtil;
+import com.intellij.util.lang.JavaVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Ahead-of-time class loading cache of a Guiced EE run configuration, kept in the IDE system directory.
+ * <p>
+ * The first launch is a training run that records the classes loaded up to the end of startup; later launches start
+ * from the cache. JDK 25 and later use the AOT cache ({@code -XX:AOTCacheOutput}, {@code -XX:AOTCache}), JDK 13 to 24
+ * a dynamic AppCDS archive ({@code -XX:ArchiveClassesAtExit}, {@code -XX:SharedArchiveFile}).
+ * <p>
+ * The JVM only archives classes loaded from JAR files, so compiled output directories on the class or module path are
+ * packed into JARs next to the cache, which are only rebuilt when the directory changes. The cache is recorded again
+ * whenever the JDK, the main class or any entry of the class or module path changes.
+ * <p>
+ * The JVM only writes the cache when it exits normally, so {@link #stopTrainingRun} asks the training run to shut down
+ * instead of killing it. On Windows, where there is no signal for that, the cache is dumped with {@code jcmd} first:
+ * {@code AOT.end_recording} on JDK 25 and later, {@code VM.cds dynamic_dump} of a {@code -XX:+RecordDynamicDumpInfo}
+ * process on JDK 17 to 24.
+ */
+public class GuicedEEAotCache {
+
+    private static final Logger LOG = Logger.getInstance(GuicedEEAotCache.class);
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String CACHED_STARTUP = "startup.cached";
+    private static final String UNCACHED_STARTUP = "startup.uncached";
+    private static final int STOP_TIMEOUT_MILLIS = 60_000;
+
+    public enum Mode {
+        /**
+         * Training run, the cache is written when {@link GuicedEEAotCache#stopTrainingRun} stops it.
+         */
+        RECORD,
+        /**
+         * The process starts from an up-to-date cache.
+         */
+        USE,
+        /**
+         * The JDK of the module does not support dynamic archives, or on Windows can not write one from a running process.
+         */
+        UNSUPPORTED
+    }
+
+    private final Path directory;
+    private final String baseName;
+    @Nullable
+    private String[] dumpCommand;
+
+    public GuicedEEAotCache(@NotNull GuicedEEApplicationConfiguration configuration) {
+        this(configuration.getProject(), configuration.getName());
+    }
+
+    public GuicedEEAotCache(@NotNull Project project, @NotNull String configurationName) {
+        directory = Path.of(PathManager.getSystemPath(), "guicedee-aot", project.getLocationHash());
+        baseName = FileUtil.sanitizeFileName(configurationName);
+    }
+
+    /**
+     * Adds the options recording or using the cache to {@code params}, after replacing output directories by JARs.
+     */
+    @NotNull
+    public Mode prepare(@NotNull JavaParameters params, @Nullable JavaVersion jdkVersion) throws CantRunException {
+        if (jdkVersion == null || jdkVersion.feature < (SystemInfo.isWindows ? 17 : 13)) {
+            return Mode.UNSUPPORTED;
+        }
+        boolean aotCache = jdkVersion.feature >= 25;
+        Path cacheFile = directory.resolve(baseName + (aotCache ? ".aot" : ".jsa"));
+        try {
+            Files.createDirectories(directory);
+            packDirectories(params.getClassPath());
+            packDirectories(params.getModulePath());
+
+            String fingerprint = computeFingerprint(params, jdkVersion);
+            Properties state = loadState();
+            if (Files.isRegularFile(cacheFile) && fingerprint.equals(state.getProperty(FINGERPRINT))) {
+                params.getVMParametersList().add((aotCache ? "-XX:AOTCache=" : "-XX:SharedArchiveFile=") + cacheFile);
+                return Mode.USE;
+            }
+
+            delete();
+            state.remove(CACHED_STARTUP);
+            state.setProperty(FINGERPRINT, fingerprint);
+            saveState(state);
+            if (SystemInfo.isWindows && !aotCache) {
+                // ArchiveClassesAtExit does not allow dumping from jcmd
+                params.getVMParametersList().add("-XX:+RecordDynamicDumpInfo");
+                dumpCommand = new String[]{"VM.cds", "dynamic_dump", cacheFile.toString()};
+            } else {
+                params.getVMParametersList().add((aotCache ? "-XX:AOTCacheOutput=" : "-XX:ArchiveClassesAtExit=") + cacheFile);
+                dumpCommand = SystemInfo.isWindows ? new String[]{"AOT.end_recording"} : null;
+            }
+            return Mode.RECORD;
+        } catch (IOException e) {
+            throw new CantRunException("Cannot prepare the AOT cache in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the training run so that the JVM writes the cache: on Windows it is dumped with {@code jcmd} before the process is
+     * killed, elsewhere the process is sent {@code SIGTERM} and exits normally. The process is only killed without writing
+     * the cache if it did not stop within a minute, or if {@code jcmd} failed. Must not be called on the event dispatch thread.
+     *
+     * @return an error message, or {@code null} if the cache was written or the process was asked to write it on exit
+     */
+    @Nullable
+    public String stopTrainingRun(@NotNull ProcessHandler handler, @Nullable Sdk jdk) {
+        if (dumpCommand != null) {
+            String error = GuicedEEJcmd.execute(handler, jdk, dumpCommand);
+            if (error == null) {
+                waitForCache();
+            }
+            handler.destroyProcess();
+            return error;
+        }
+        if (!(handler instanceof BaseProcessHandler<?> processHandler)) {
+            handler.destroyProcess();
+            return "the process of the training run is unknown";
+        }
+        // SIGTERM runs the shutdown hooks and exits normally, which writes the cache
+        processHandler.getProcess().destroy();
+        if (!handler.waitFor(STOP_TIMEOUT_MILLIS)) {
+            handler.destroyProcess();
+            return "the training run did not stop within " + STOP_TIMEOUT_MILLIS / 1000 + " s";
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the JVM to finish writing a cache it was asked to dump; JDK 25 assembles the AOT cache in a child process.
+     */
+    private void waitForCache() {
+        long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        while (!exists() && System.currentTimeMillis() < deadline) {
+            TimeoutUtil.sleep(100);
+        }
+    }
+
+    /**
+     * Returns {@code true} if a training run left a cache behind.
+     */
+    public boolean exists() {
+        return Files.isRegularFile(directory.resolve(baseName + ".aot")) || Files.isRegularFile(directory.resolve(baseName + ".jsa"));
+    }
+
+    /**
+     * Deletes the cache, so that the next launch records it again.
+     */
+    public void delete() {
+        FileUtil.delete(directory.resolve(baseName + ".aot").toFile());
+        FileUtil.delete(directory.resolve(baseName + ".jsa").toFile());
+    }
+
+    /**
+     * Stores the startup time of a launch with the cache, or of a plain launch without it; the training run is slowed
+     * down by the recording and is not stored.
+     */
+    public void recordStartup(boolean cached, long millis) {
+        try {
+            Properties state = loadState();
+            state.setProperty(cached ? CACHED_STARTUP : UNCACHED_STARTUP, Long.toString(millis));
+            saveState(state);
+        } catch (IOException e) {
+            LOG.warn("Cannot store the startup time of " + baseName, e);
+        }
+    }
+
+    /**
+     * Returns the last startup time with or without the cache, or {@code -1} if it was not measured yet.
+     */
+    public long getStartupMillis(boolean cached) {
+        try {
+            String value = loadState().getProperty(cached ? CACHED_STARTUP : UNCACHED_STARTUP);
+            return value != null ? Long.parseLong(value) : -1;
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @NotNull
+    private String computeFingerprint(@NotNull JavaParameters params, @NotNull JavaVersion jdkVersion) {
+        StringBuilder builder = new StringBuilder();
+        Sdk jdk = params.getJdk();
+        builder.append(jdk != null ? jdk.getHomePath() + ' ' + jdk.getVersionString() : jdkVersion.toString()).append('\n');
+        builder.append(params.getModuleName()).append('/').append(params.getMainClass()).append('\n');
+        List<String> entries = new ArrayList<>(params.getClassPath().getPathList());
+        entries.add("--module-path");
+        entries.addAll(params.getModulePath().getPathList());
+        for (String entry : entries) {
+            File file = new File(entry);
+            builder.append(entry).append(' ').append(file.length()).append(' ').append(file.lastModified()).append('\n');
+        }
+        return DigestUtil.sha256Hex(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replaces the directories of {@code paths} by JARs of their content.
+     */
+    private void packDirectories(@NotNull PathsList paths) throws IOException {
+        List<String> entries = new ArrayList<>(paths.getPathList());
+        boolean changed = false;
+        for (int i = 0; i < entries.size(); i++) {
+            Path entry = Path.of(entries.get(i));
+            if (Files.isDirectory(entry)) {
+                entries.set(i, packDirectory(entry).toString());
+                changed = true;
+            }
+        }
+        if (changed) {
+            paths.clear();
+            paths.addAll(entries);
+        }
+    }
+
+    @NotNull
+    private Path packDirectory(@NotNull Path classesDirectory) throws IOException {
+        String name = FileUtil.sanitizeFileName(classesDirectory.getParent() != null
+                ? classesDirectory.getParent().getFileName() + "-" + classesDirectory.getFileName()
+                : classesDirectory.getFileName().toString());
+        String hash = DigestUtil.sha256Hex(classesDirectory.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 8);
+        Path jar = directory.resolve("classes").resolve(name + "-" + hash + ".jar");
+        Path stampFile = directory.resolve("classes").resolve(name + "-" + hash + ".stamp");
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(classesDirectory)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+        long lastModified = 0;
+        long size = 0;
+        for (Path file : files) {
+            lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+            size += Files.size(file);
+        }
+        String stamp = files.size() + " " + size + " " + lastModified;
+        if (Files.isRegularFile(jar) && Files.isRegularFile(stampFile) && stamp.equals(Files.readString(stampFile))) {
+            // keep the JAR, and its timestamp, so that the cache stays valid
+            return jar;
+        }
+
+        Files.createDirectories(jar.getParent());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Path file : files) {
+                JarEntry jarEntry = new JarEntry(FileUtil.toSystemIndependentName(classesDirectory.relativize(file).toString()));
+                jarEntry.setTime(Files.getLastModifiedTime(file).toMillis());
+                out.putNextEntry(jarEntry);
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+        Files.writeString(stampFile, stamp);
+        return jar;
+    }
+
+    @NotNull
+    private Properties loadState() throws IOException {
+        Properties properties = new Properties();
+        Path stateFile = directory.resolve(baseName + ".properties");
+        if (Files.isRegularFile(stateFile)) {
+            try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+
+    private void saveState(@NotNull Properties properties) throws IOException {
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(baseName + ".properties"), StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.guicedee.intellij.run;
+
+import com.guicedee.intellij.run.blocking.BlockedThreadOutputParser;
+import com.guicedee.intellij.run.blocking.BlockingRecording;
+import com.guicedee.intellij.run.blocking.BlockingReport;
+import com.guicedee.intellij.run.blocking.EventLoopBlockingToolWindowFactory;
+import com.guicedee.intellij.run.profiler.StartupProfile;
+import com.guicedee.intellij.run.profiler.StartupProfilerToolWindowFactory;
+import com.guicedee.intellij.run.profiler.StartupRecording;
+import com.intellij.codeInsight.daemon.impl.analysis.JavaModuleGraphUtil;
+import com.intellij.execution.CantRunException;
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.configurations.JavaCommandLineState;
+import com.intellij.execution.configurations.JavaParameters;
+import com.intellij.execution.process.OSProcessHandler;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.execution.runners.ExecutionEnvironment;
+import com.intellij.execution.util.JavaParametersUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.openapi.util.SystemInfo;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaModule;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.lang.JavaVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the command line of a {@link GuicedEEApplicationConfiguration}.
+ * <p>
+ * When the main class belongs to a named module, the application is started with {@code --module module/mainClass},
+ * with the module and its dependencies on the module path, so that {@code ServiceLoader} lookups of the GuicedEE SPIs
+ * see the {@code provides} clauses of the {@code module-info.java} files.
+ */
+public class GuicedEEApplicationCommandLineState extends JavaCommandLineState {
+
+    private final GuicedEEApplicationConfiguration configuration;
+    private GuicedEEAotCache aotCache;
+    private GuicedEEAotCache.Mode aotMode;
+    private StartupRecording startupRecording;
+    private BlockingRecording blockingRecording;
+    private Sdk jdk;
+
+    public GuicedEEApplicationCommandLineState(@NotNull GuicedEEApplicationConfiguration configuration,
+                                               @NotNull ExecutionEnvironment environment) {
+        super(environment);
+        this.configuration = configuration;
+    }
+
+    @NotNull
+    public GuicedEEApplicationConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    protected JavaParameters createJavaParameters() throws ExecutionException {
+        Module module = configuration.getModule();
+        if (module == null) {
+            throw new CantRunException("Module '" + configuration.getModuleName() + "' not found");
+        }
+        String mainClassName = configuration.getMainClassName();
+        if (StringUtil.isEmptyOrSpaces(mainClassName)) {
+            throw new CantRunException("Main class is not specified");
+        }
+
+        JavaParameters params = new JavaParameters();
+        params.configureByModule(module, JavaParameters.JDK_AND_CLASSES);
+        params.setMainClass(mainClassName);
+        params.setWorkingDirectory(getWorkingDirectory(module));
+
+        if (configuration.isUseModulePath()) {
+            PsiJavaModule javaModule = ReadAction.compute(() -> findJavaModule(module, mainClassName));
+            if (javaModule != null) {
+                params.setModuleName(ReadAction.compute(javaModule::getName));
+                JavaParametersUtil.putDependenciesOnModulePath(params, javaModule, false);
+            }
+        }
+
+        JavaVersion jdkVersion = getJdkVersion(params.getJdk());
+        GuicedEEPerformancePreset.addVmOptions(params.getVMParametersList(), configuration.getPresetVmOptions(), jdkVersion);
+        // user VM options come last so that they override the preset
+        params.getVMParametersList().addParametersString(configuration.getVmParameters());
+        params.getProgramParametersList().addParametersString(configuration.getProgramParameters());
+
+        if (configuration.isAotCacheEnabled()) {
+            aotCache = new GuicedEEAotCache(configuration);
+            aotMode = aotCache.prepare(params, jdkVersion);
+        }
+        if (GuicedEEProfileStartupExecutor.EXECUTOR_ID.equals(getEnvironment().getExecutor().getId())) {
+            startupRecording = StartupRecording.create(configuration.getProject(), configuration.getName());
+            startupRecording.addVmOptions(params, jdkVersion);
+        }
+        if (GuicedEEDetectBlockingExecutor.EXECUTOR_ID.equals(getEnvironment().getExecutor().getId())) {
+            blockingRecording = BlockingRecording.create(configuration.getProject(), configuration.getName(),
+                    configuration.getEventLoopCheckIntervalMillis(), configuration.getEventLoopBlockingThresholdMillis());
+            try {
+                blockingRecording.addVmOptions(params, jdkVersion);
+            } catch (IOException e) {
+                throw new CantRunException("Cannot write the flight recorder settings: " + e.getMessage());
+            }
+        }
+        jdk = params.getJdk();
+        return params;
+    }
+
+    @NotNull
+    @Override
+    protected OSProcessHandler startProcess() throws ExecutionException {
+        OSProcessHandler handler = super.startProcess();
+        if (aotCache != null) {
+            attachAotCacheListeners(handler);
+        } else if (startupRecording == null && blockingRecording == null) {
+            attachUncachedStartupListener(handler);
+        }
+        if (startupRecording != null) {
+            attachStartupRecordingListeners(handler);
+        }
+        if (blockingRecording != null) {
+            attachBlockingListeners(handler);
+        }
+        return handler;
+    }
+
+    /**
+     * Feeds the warnings of the Vert.x blocked thread checker, and the blocking events of the flight recording once the
+     * process has stopped, to the GuicedEE Event Loop tool window.
+     */
+    private void attachBlockingListeners(@NotNull OSProcessHandler handler) {
+        BlockingRecording recording = blockingRecording;
+        BlockingReport report = new BlockingReport(recording.getCheckIntervalMillis());
+        Project project = configuration.getProject();
+        EventLoopBlockingToolWindowFactory.show(project, configuration.getName(), report);
+
+        GuicedEEStartupMonitor.printMessage(handler, recording.isRecording()
+                ? "Detecting event loop blocking, blocking JDK calls are read from the recording when the application stops"
+                : "Detecting event loop blocking from the Vert.x warnings only, recording blocking JDK calls needs JDK 11 or later");
+        handler.addProcessListener(new BlockedThreadOutputParser(report::add));
+        if (!recording.isRecording()) {
+            return;
+        }
+        handler.addProcessListener(new ProcessListener() {
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                if (!Files.isRegularFile(recording.getRecordingFile())) {
+                    return;
+                }
+                ApplicationManager.getApplication().invokeLater(() -> new Task.Backgroundable(project, "Reading GuicedEE event loop recording", true) {
+                    @Override
+                    public void run(@NotNull ProgressIndicator indicator) {
+                        try {
+                            recording.read(report::add);
+                        } catch (IOException e) {
+                            GuicedEEStartupMonitor.printMessage(handler, "Cannot read the event loop recording: " + e.getMessage());
+                        }
+                    }
+                }.queue(), project.getDisposed());
+            }
+        });
+    }
+
+    /**
+     * Stops the startup recording once the application has started, or else when it stops, and shows its analysis in the
+     * GuicedEE Startup tool window.
+     */
+    private void attachStartupRecordingListeners(@NotNull OSProcessHandler handler) {
+        StartupRecording recording = startupRecording;
+        Sdk processJdk = jdk;
+        AtomicBoolean analysed = new AtomicBoolean();
+        Runnable analyse = () -> {
+            if (analysed.compareAndSet(false, true)) {
+                analyseRecording(handler, recording);
+            }
+        };
+
+        Pattern startupPattern = configuration.compileStartupCompletePattern();
+        GuicedEEStartupMonitor.printMessage(handler, startupPattern != null
+                ? "Profiling the startup, the recording stops once the application has started"
+                : "Profiling the startup, the recording stops when the application stops");
+        if (startupPattern != null) {
+            handler.addProcessListener(new GuicedEEStartupMonitor(startupPattern, (processHandler, millis) ->
+                    ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                        String error = recording.stop(processHandler, processJdk);
+                        if (error == null) {
+                            GuicedEEStartupMonitor.printMessage(processHandler, "Started in " + millis + " ms, recording stopped");
+                            analyse.run();
+                        } else {
+                            GuicedEEStartupMonitor.printMessage(processHandler,
+                                    "Cannot stop the recording (" + error + "), it is written when the application stops");
+                        }
+                    })));
+        }
+        handler.addProcessListener(new ProcessListener() {
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                if (Files.isRegularFile(recording.getRecordingFile())) {
+                    analyse.run();
+                }
+            }
+        });
+    }
+
+    private void analyseRecording(@NotNull ProcessHandler handler, @NotNull StartupRecording recording) {
+        Project project = configuration.getProject();
+        String title = configuration.getName();
+        ApplicationManager.getApplication().invokeLater(() -> new Task.Backgroundable(project, "Analysing GuicedEE startup recording", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    StartupProfilerToolWindowFactory.show(project, title, StartupProfile.read(project, recording.getRecordingFile()));
+                } catch (IOException e) {
+                    GuicedEEStartupMonitor.printMessage(handler, "Cannot read the startup recording: " + e.getMessage());
+                }
+            }
+        }.queue(), project.getDisposed());
+    }
+
+    /**
+     * Stores the startup time of a plain launch, without the cache and without any recording, which is what launches
+     * with the AOT cache are compared to.
+     */
+    private void attachUncachedStartupListener(@NotNull OSProcessHandler handler) {
+        Pattern startupPattern = configuration.compileStartupCompletePattern();
+        if (startupPattern == null) {
+            return;
+        }
+        GuicedEEAotCache cache = new GuicedEEAotCache(configuration);
+        handler.addProcessListener(new GuicedEEStartupMonitor(startupPattern,
+                (processHandler, millis) -> cache.recordStartup(false, millis)));
+    }
+
+    /**
+     * Stops a training run once the application has started, gracefully so that the JVM writes the cache,
+     * and reports the startup time with the cache next to the one of the last plain launch. The training run
+     * is slowed down by the recording, so its time is reported as such and not used for the comparison.
+     */
+    private void attachAotCacheListeners(@NotNull OSProcessHandler handler) {
+        GuicedEEAotCache cache = aotCache;
+        GuicedEEAotCache.Mode mode = aotMode;
+        Sdk processJdk = jdk;
+        if (mode == GuicedEEAotCache.Mode.UNSUPPORTED) {
+            GuicedEEStartupMonitor.printMessage(handler, SystemInfo.isWindows
+                    ? "AOT cache skipped: it needs JDK 17 or later on Windows"
+                    : "AOT cache skipped: it needs JDK 13 or later");
+            return;
+        }
+        if (mode == GuicedEEAotCache.Mode.RECORD) {
+            GuicedEEStartupMonitor.printMessage(handler, "AOT training run: the cache is written when the application stops");
+            handler.addProcessListener(new ProcessListener() {
+                @Override
+                public void processTerminated(@NotNull ProcessEvent event) {
+                    GuicedEEStartupMonitor.printMessage(handler, cache.exists()
+                            ? "AOT cache written, the next launch starts from it"
+                            : "The JVM did not write the AOT cache, see the output above");
+                }
+            });
+        }
+
+        Pattern startupPattern = configuration.compileStartupCompletePattern();
+        if (startupPattern == null) {
+            return;
+        }
+        handler.addProcessListener(new GuicedEEStartupMonitor(startupPattern, (processHandler, millis) -> {
+            if (mode == GuicedEEAotCache.Mode.USE) {
+                cache.recordStartup(true, millis);
+                long uncached = cache.getStartupMillis(false);
+                GuicedEEStartupMonitor.printMessage(processHandler, uncached >= 0
+                        ? "Started in " + millis + " ms with the AOT cache, " + uncached + " ms in the last launch without it"
+                        : "Started in " + millis + " ms with the AOT cache");
+            } else {
+                GuicedEEStartupMonitor.printMessage(processHandler,
+                        "Started in " + millis + " ms in the AOT training run, stopping it");
+                ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                    String error = cache.stopTrainingRun(processHandler, processJdk);
+                    if (error != null) {
+                        GuicedEEStartupMonitor.printMessage(processHandler, "Cannot stop the AOT training run gracefully (" + error + ")");
+                    }
+                });
+            }
+        }));
+    }
+
+    /**
+     * Returns the {@code module-info.java} declaring the main class, or {@code null} when it is on the class path.
+     */
+    @Nullable
+    private static PsiJavaModule findJavaModule(@NotNull Module module, @NotNull String mainClassName) {
+        PsiClass mainClass = JavaPsiFacade.getInstance(module.getProject())
+                .findClass(mainClassName, GlobalSearchScope.moduleScope(module));
+        return mainClass != null ? JavaModuleGraphUtil.findDescriptorByElement(mainClass) : null;
+    }
+
+    @NotNull
+    private String getWorkingDirectory(@NotNull Module module) {
+        String workingDirectory = configuration.getWorkingDirectory();
+        if (!StringUtil.isEmptyOrSpaces(workingDirectory)) {
+            return workingDirectory;
+        }
+        VirtualFile moduleDir = ProjectUtil.guessModuleDir(module);
+        if (moduleDir != null) {
+            return moduleDir.getPath();
+        }
+        String basePath = module.getProject().getBasePath();
+        return basePath != null ? basePath : ".";
+    }
+
+    @Nullable
+    private static JavaVersion getJdkVersion(@Nullable Sdk jdk) {
+        String versionString = jdk != null ? jdk.getVersionString() : null;
+        return versionString != null ? JavaVersion.tryParse(versionString) : null;
+    }
+}
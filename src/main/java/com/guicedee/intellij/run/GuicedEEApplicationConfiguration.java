@@ -3,20 +3,178 @@ package com.guicedee.intellij.run;
 import com.intellij.execution.Executor;
 import com.intellij.execution.configurations.*;
 import com.intellij.execution.runners.ExecutionEnvironment;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
 /**
  * Run configuration for Guiced EE applications.
+ * Launches the main class of a module, on the module path when the module has a {@code module-info.java},
+ * with the VM options of the selected {@link GuicedEEPerformancePreset}, and optionally from a {@link GuicedEEAotCache}.
  */
-public class GuicedEEApplicationConfiguration extends RunConfigurationBase<RunConfigurationOptions> {
+public class GuicedEEApplicationConfiguration extends RunConfigurationBase<GuicedEEApplicationConfigurationOptions>
+        implements RunProfileWithCompileBeforeLaunchOption {
 
     protected GuicedEEApplicationConfiguration(@NotNull Project project, @NotNull ConfigurationFactory factory, String name) {
         super(project, factory, name);
     }
 
+    @NotNull
+    @Override
+    protected GuicedEEApplicationConfigurationOptions getOptions() {
+        return (GuicedEEApplicationConfigurationOptions) super.getOptions();
+    }
+
+    public String getMainClassName() {
+        return getOptions().getMainClassName();
+    }
+
+    public void setMainClassName(String mainClassName) {
+        getOptions().setMainClassName(mainClassName);
+    }
+
+    public String getModuleName() {
+        return getOptions().getModuleName();
+    }
+
+    public void setModuleName(String moduleName) {
+        getOptions().setModuleName(moduleName);
+    }
+
+    public String getVmParameters() {
+        return getOptions().getVmParameters();
+    }
+
+    public void setVmParameters(String vmParameters) {
+        getOptions().setVmParameters(vmParameters);
+    }
+
+    public String getProgramParameters() {
+        return getOptions().getProgramParameters();
+    }
+
+    public void setProgramParameters(String programParameters) {
+        getOptions().setProgramParameters(programParameters);
+    }
+
+    public String getWorkingDirectory() {
+        return getOptions().getWorkingDirectory();
+    }
+
+    public void setWorkingDirectory(String workingDirectory) {
+        getOptions().setWorkingDirectory(workingDirectory);
+    }
+
+    public boolean isUseModulePath() {
+        return getOptions().isUseModulePath();
+    }
+
+    public void setUseModulePath(boolean useModulePath) {
+        getOptions().setUseModulePath(useModulePath);
+    }
+
+    @NotNull
+    public GuicedEEPerformancePreset getPerformancePreset() {
+        return GuicedEEPerformancePreset.fromName(getOptions().getPerformancePreset());
+    }
+
+    public void setPerformancePreset(@NotNull GuicedEEPerformancePreset preset) {
+        getOptions().setPerformancePreset(preset.name());
+    }
+
+    public String getPresetVmOptions() {
+        return getOptions().getPresetVmOptions();
+    }
+
+    public void setPresetVmOptions(String presetVmOptions) {
+        getOptions().setPresetVmOptions(presetVmOptions);
+    }
+
+    public boolean isAotCacheEnabled() {
+        return getOptions().isAotCacheEnabled();
+    }
+
+    public void setAotCacheEnabled(boolean aotCacheEnabled) {
+        getOptions().setAotCacheEnabled(aotCacheEnabled);
+    }
+
+    public String getStartupCompletePattern() {
+        return getOptions().getStartupCompletePattern();
+    }
+
+    public void setStartupCompletePattern(String startupCompletePattern) {
+        getOptions().setStartupCompletePattern(startupCompletePattern);
+    }
+
+    public int getEventLoopCheckIntervalMillis() {
+        return getOptions().getEventLoopCheckIntervalMillis();
+    }
+
+    public void setEventLoopCheckIntervalMillis(int eventLoopCheckIntervalMillis) {
+        getOptions().setEventLoopCheckIntervalMillis(eventLoopCheckIntervalMillis);
+    }
+
+    public int getEventLoopBlockingThresholdMillis() {
+        return getOptions().getEventLoopBlockingThresholdMillis();
+    }
+
+    public void setEventLoopBlockingThresholdMillis(int eventLoopBlockingThresholdMillis) {
+        getOptions().setEventLoopBlockingThresholdMillis(eventLoopBlockingThresholdMillis);
+    }
+
+    /**
+     * Returns the compiled {@link #getStartupCompletePattern()}, or {@code null} if it is empty or invalid.
+     */
+    @Nullable
+    public Pattern compileStartupCompletePattern() {
+        String pattern = getStartupCompletePattern();
+        if (StringUtil.isEmptyOrSpaces(pattern)) {
+            return null;
+        }
+        try {
+            return Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public Module getModule() {
+        String moduleName = getModuleName();
+        return StringUtil.isEmpty(moduleName) ? null : ModuleManager.getInstance(getProject()).findModuleByName(moduleName);
+    }
+
+    @Override
+    public Module @NotNull [] getModules() {
+        Module module = getModule();
+        return module != null ? new Module[]{module} : Module.EMPTY_ARRAY;
+    }
+
+    @Override
+    public void checkConfiguration() throws RuntimeConfigurationException {
+        if (StringUtil.isEmptyOrSpaces(getMainClassName())) {
+            throw new RuntimeConfigurationError("Main class is not specified");
+        }
+        if (getModule() == null) {
+            throw new RuntimeConfigurationError(StringUtil.isEmpty(getModuleName())
+                    ? "Module is not specified"
+                    : "Module '" + getModuleName() + "' not found");
+        }
+        if (!StringUtil.isEmptyOrSpaces(getStartupCompletePattern()) && compileStartupCompletePattern() == null) {
+            throw new RuntimeConfigurationError("Startup complete pattern is not a valid regular expression");
+        }
+        if (isAotCacheEnabled() && StringUtil.isEmptyOrSpaces(getStartupCompletePattern())) {
+            throw new RuntimeConfigurationWarning("Without a startup complete pattern, AOT training runs must be stopped manually");
+        }
+    }
+
     @NotNull
     @Override
     public SettingsEditor<? extends RunConfiguration> getConfigurationEditor() {
@@ -26,14 +184,6 @@ public class GuicedEEApplicationConfiguration extends RunConfigurationBase<RunCo
     @Nullable
     @Override
     public RunProfileState getState(@NotNull Executor executor, @NotNull ExecutionEnvironment environment) {
-        return new JavaCommandLineState(environment) {
-            @Override
-            protected JavaParameters createJavaParameters() {
-                JavaParameters params = new JavaParameters();
-                // Configure the Java parameters for running the application
-                // This would typically include setting the main class, classpath, JVM args, etc.
-                return params;
-            }
-        };
+        return new GuicedEEApplicationCommandLineState(this, environment);
     }
 }
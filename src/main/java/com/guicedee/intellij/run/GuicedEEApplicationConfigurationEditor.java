@@ -1,19 +1,50 @@
 package com.guicedee.intellij.run;
 
+import com.intellij.application.options.ModulesComboBox;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.module.Module;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
-import com.intellij.ui.components.JBPanel;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.ui.TextFieldWithBrowseButton;
+import com.intellij.ui.RawCommandLineEditor;
+import com.intellij.ui.SimpleListCellRenderer;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.util.ui.FormBuilder;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
+import java.awt.event.ItemEvent;
 
 /**
  * Editor for Guiced EE application run configurations.
+ * Selecting a performance preset replaces the preset VM options with its defaults, which can then be edited.
+ * The startup complete output ends AOT training runs and is used to measure the startup time.
+ * The event loop settings only apply when running with Detect Event-Loop Blocking.
  */
 public class GuicedEEApplicationConfigurationEditor extends SettingsEditor<GuicedEEApplicationConfiguration> {
 
     private final Project myProject;
-    private JBPanel<?> myMainPanel;
+    private JPanel myMainPanel;
+    private final JBTextField myMainClassField = new JBTextField();
+    private final ModulesComboBox myModuleComboBox = new ModulesComboBox();
+    private final JBCheckBox myModulePathCheckBox = new JBCheckBox("Launch on the module path when the module has a module-info.java");
+    private final ComboBox<GuicedEEPerformancePreset> myPresetComboBox = new ComboBox<>(GuicedEEPerformancePreset.values());
+    private final RawCommandLineEditor myPresetVmOptionsEditor = new RawCommandLineEditor();
+    private final RawCommandLineEditor myVmParametersEditor = new RawCommandLineEditor();
+    private final RawCommandLineEditor myProgramParametersEditor = new RawCommandLineEditor();
+    private final TextFieldWithBrowseButton myWorkingDirectoryField = new TextFieldWithBrowseButton();
+    private final JBCheckBox myAotCacheCheckBox = new JBCheckBox("Start from an AOT cache, recorded by a training run on the first launch");
+    private final JBTextField myStartupPatternField = new JBTextField();
+    private final JButton myDeleteAotCacheButton = new JButton("Delete AOT Cache");
+    private final JBLabel myStartupTimesLabel = new JBLabel();
+    private final JBIntSpinner myEventLoopCheckIntervalSpinner = new JBIntSpinner(100, 10, 60_000, 10);
+    private final JBIntSpinner myEventLoopThresholdSpinner = new JBIntSpinner(50, 1, 60_000, 10);
+    private boolean myResetting;
+    private String myConfigurationName;
 
     public GuicedEEApplicationConfigurationEditor(Project project) {
         myProject = project;
@@ -21,19 +52,97 @@ public class GuicedEEApplicationConfigurationEditor extends SettingsEditor<Guice
 
     @Override
     protected void resetEditorFrom(@NotNull GuicedEEApplicationConfiguration configuration) {
-        // Reset the editor from the configuration
+        myResetting = true;
+        try {
+            myMainClassField.setText(configuration.getMainClassName());
+            myModuleComboBox.setSelectedModule(configuration.getModule());
+            myModulePathCheckBox.setSelected(configuration.isUseModulePath());
+            myPresetComboBox.setSelectedItem(configuration.getPerformancePreset());
+            myPresetVmOptionsEditor.setText(configuration.getPresetVmOptions());
+            myVmParametersEditor.setText(configuration.getVmParameters());
+            myProgramParametersEditor.setText(configuration.getProgramParameters());
+            myWorkingDirectoryField.setText(configuration.getWorkingDirectory());
+            myAotCacheCheckBox.setSelected(configuration.isAotCacheEnabled());
+            myStartupPatternField.setText(configuration.getStartupCompletePattern());
+            myEventLoopCheckIntervalSpinner.setNumber(configuration.getEventLoopCheckIntervalMillis());
+            myEventLoopThresholdSpinner.setNumber(configuration.getEventLoopBlockingThresholdMillis());
+            myConfigurationName = configuration.getName();
+            GuicedEEAotCache aotCache = new GuicedEEAotCache(myProject, myConfigurationName);
+            myDeleteAotCacheButton.setEnabled(aotCache.exists());
+            myStartupTimesLabel.setText(getStartupTimesText(aotCache));
+        } finally {
+            myResetting = false;
+        }
     }
 
     @Override
     protected void applyEditorTo(@NotNull GuicedEEApplicationConfiguration configuration) {
-        // Apply the editor settings to the configuration
+        configuration.setMainClassName(myMainClassField.getText().trim());
+        Module module = myModuleComboBox.getSelectedModule();
+        configuration.setModuleName(module != null ? module.getName() : "");
+        configuration.setUseModulePath(myModulePathCheckBox.isSelected());
+        GuicedEEPerformancePreset preset = (GuicedEEPerformancePreset) myPresetComboBox.getSelectedItem();
+        configuration.setPerformancePreset(preset != null ? preset : GuicedEEPerformancePreset.NONE);
+        configuration.setPresetVmOptions(myPresetVmOptionsEditor.getText());
+        configuration.setVmParameters(myVmParametersEditor.getText());
+        configuration.setProgramParameters(myProgramParametersEditor.getText());
+        configuration.setWorkingDirectory(myWorkingDirectoryField.getText().trim());
+        configuration.setAotCacheEnabled(myAotCacheCheckBox.isSelected());
+        configuration.setStartupCompletePattern(myStartupPatternField.getText().trim());
+        configuration.setEventLoopCheckIntervalMillis(myEventLoopCheckIntervalSpinner.getNumber());
+        configuration.setEventLoopBlockingThresholdMillis(myEventLoopThresholdSpinner.getNumber());
     }
 
     @NotNull
     @Override
     protected JComponent createEditor() {
-        myMainPanel = new JBPanel<>();
-        // Create the editor UI
+        myModuleComboBox.fillModules(myProject);
+        myPresetComboBox.setRenderer(SimpleListCellRenderer.create("", GuicedEEPerformancePreset::getPresentableName));
+        myPresetComboBox.addItemListener(e -> {
+            if (e.getStateChange() == ItemEvent.SELECTED && !myResetting) {
+                myPresetVmOptionsEditor.setText(((GuicedEEPerformancePreset) e.getItem()).getVmOptions());
+            }
+        });
+        myWorkingDirectoryField.addBrowseFolderListener(myProject, FileChooserDescriptorFactory.createSingleFolderDescriptor());
+        myStartupPatternField.getEmptyText().setText("Regular expression matching the output printed once started");
+        myDeleteAotCacheButton.addActionListener(e -> {
+            if (myConfigurationName != null) {
+                new GuicedEEAotCache(myProject, myConfigurationName).delete();
+            }
+            myDeleteAotCacheButton.setEnabled(false);
+        });
+
+        myMainPanel = FormBuilder.createFormBuilder()
+                .addLabeledComponent("Main class:", myMainClassField)
+                .addLabeledComponent("Module:", myModuleComboBox)
+                .addComponent(myModulePathCheckBox)
+                .addSeparator()
+                .addLabeledComponent("Performance preset:", myPresetComboBox)
+                .addLabeledComponent("Preset VM options:", myPresetVmOptionsEditor)
+                .addLabeledComponent("VM options:", myVmParametersEditor)
+                .addLabeledComponent("Program arguments:", myProgramParametersEditor)
+                .addLabeledComponent("Working directory:", myWorkingDirectoryField)
+                .addSeparator()
+                .addLabeledComponent("Startup complete output:", myStartupPatternField)
+                .addComponent(myAotCacheCheckBox)
+                .addComponent(myDeleteAotCacheButton)
+                .addComponent(myStartupTimesLabel)
+                .addSeparator()
+                .addLabeledComponent("Event loop check interval (ms):", myEventLoopCheckIntervalSpinner)
+                .addLabeledComponent("Event loop blocking threshold (ms):", myEventLoopThresholdSpinner)
+                .addComponentFillVertically(new JPanel(), 0)
+                .getPanel();
         return myMainPanel;
     }
-}
\ No newline at end of file
+
+    @NotNull
+    private static String getStartupTimesText(@NotNull GuicedEEAotCache aotCache) {
+        long cached = aotCache.getStartupMillis(true);
+        long uncached = aotCache.getStartupMillis(false);
+        if (cached < 0 && uncached < 0) {
+            return "";
+        }
+        return "Last startup: " + (cached >= 0 ? cached + " ms" : "not measured") + " with the AOT cache, "
+                + (uncached >= 0 ? uncached + " ms" : "not measured") + " without it";
+    }
+}
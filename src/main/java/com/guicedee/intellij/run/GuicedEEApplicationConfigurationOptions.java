@@ -0,0 +1,140 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.configurations.RunConfigurationOptions;
+import com.intellij.openapi.components.StoredProperty;
+
+/**
+ * Persisted state of a Guiced EE application run configuration.
+ */
+public class GuicedEEApplicationConfigurationOptions extends RunConfigurationOptions {
+
+    /**
+     * Matches the output GuicedEE prints once {@code IGuiceContext} has run the post startup hooks.
+     */
+    public static final String DEFAULT_STARTUP_COMPLETE_PATTERN = "(?i)post[ -]?startup.*(complete|finish|done)|startup complete";
+
+    private final StoredProperty<String> mainClassName = string("").provideDelegate(this, "mainClassName");
+    private final StoredProperty<String> moduleName = string("").provideDelegate(this, "moduleName");
+    private final StoredProperty<String> vmParameters = string("").provideDelegate(this, "vmParameters");
+    private final StoredProperty<String> programParameters = string("").provideDelegate(this, "programParameters");
+    private final StoredProperty<String> workingDirectory = string("").provideDelegate(this, "workingDirectory");
+    private final StoredProperty<Boolean> useModulePath = property(true).provideDelegate(this, "useModulePath");
+    private final StoredProperty<String> performancePreset =
+            string(GuicedEEPerformancePreset.NONE.name()).provideDelegate(this, "performancePreset");
+    private final StoredProperty<String> presetVmOptions = string("").provideDelegate(this, "presetVmOptions");
+    private final StoredProperty<Boolean> aotCacheEnabled = property(false).provideDelegate(this, "aotCacheEnabled");
+    private final StoredProperty<String> startupCompletePattern =
+            string(DEFAULT_STARTUP_COMPLETE_PATTERN).provideDelegate(this, "startupCompletePattern");
+    private final StoredProperty<Integer> eventLoopCheckIntervalMillis =
+            property(100).provideDelegate(this, "eventLoopCheckIntervalMillis");
+    private final StoredProperty<Integer> eventLoopBlockingThresholdMillis =
+            property(50).provideDelegate(this, "eventLoopBlockingThresholdMillis");
+
+    public String getMainClassName() {
+        return mainClassName.getValue(this);
+    }
+
+    public void setMainClassName(String value) {
+        mainClassName.setValue(this, value);
+    }
+
+    public String getModuleName() {
+        return moduleName.getValue(this);
+    }
+
+    public void setModuleName(String value) {
+        moduleName.setValue(this, value);
+    }
+
+    public String getVmParameters() {
+        return vmParameters.getValue(this);
+    }
+
+    public void setVmParameters(String value) {
+        vmParameters.setValue(this, value);
+    }
+
+    public String getProgramParameters() {
+        return programParameters.getValue(this);
+    }
+
+    public void setProgramParameters(String value) {
+        programParameters.setValue(this, value);
+    }
+
+    public String getWorkingDirectory() {
+        return workingDirectory.getValue(this);
+    }
+
+    public void setWorkingDirectory(String value) {
+        workingDirectory.setValue(this, value);
+    }
+
+    public boolean isUseModulePath() {
+        return useModulePath.getValue(this);
+    }
+
+    public void setUseModulePath(boolean value) {
+        useModulePath.setValue(this, value);
+    }
+
+    public String getPerformancePreset() {
+        return performancePreset.getValue(this);
+    }
+
+    public void setPerformancePreset(String value) {
+        performancePreset.setValue(this, value);
+    }
+
+    /**
+     * VM options of the performance preset as edited for this configuration.
+     */
+    public String getPresetVmOptions() {
+        return presetVmOptions.getValue(this);
+    }
+
+    public void setPresetVmOptions(String value) {
+        presetVmOptions.setValue(this, value);
+    }
+
+    public boolean isAotCacheEnabled() {
+        return aotCacheEnabled.getValue(this);
+    }
+
+    public void setAotCacheEnabled(boolean value) {
+        aotCacheEnabled.setValue(this, value);
+    }
+
+    /**
+     * Regular expression matching the process output printed when the application has started.
+     */
+    public String getStartupCompletePattern() {
+        return startupCompletePattern.getValue(this);
+    }
+
+    public void setStartupCompletePattern(String value) {
+        startupCompletePattern.setValue(this, value);
+    }
+
+    /**
+     * Interval of the Vert.x blocked thread checker when running with Detect Event-Loop Blocking.
+     */
+    public int getEventLoopCheckIntervalMillis() {
+        return eventLoopCheckIntervalMillis.getValue(this);
+    }
+
+    public void setEventLoopCheckIntervalMillis(int value) {
+        eventLoopCheckIntervalMillis.setValue(this, value);
+    }
+
+    /**
+     * Time an event loop may run a task before it is reported as blocked when running with Detect Event-Loop Blocking.
+     */
+    public int getEventLoopBlockingThresholdMillis() {
+        return eventLoopBlockingThresholdMillis.getValue(this);
+    }
+
+    public void setEventLoopBlockingThresholdMillis(int value) {
+        eventLoopBlockingThresholdMillis.setValue(this, value);
+    }
+}
@@ -5,6 +5,7 @@ import com.intellij.execution.configurations.ConfigurationType;
 import com.intellij.execution.configurations.ConfigurationTypeBase;
 import com.intellij.execution.configurations.RunConfiguration;
 import com.intellij.icons.AllIcons;
+import com.intellij.openapi.components.BaseState;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,6 +29,11 @@ public class GuicedEEApplicationConfigurationType extends ConfigurationTypeBase
             public @NotNull String getId() {
                 return "GuicedEEApplicationConfigurationFactory";
             }
+
+            @Override
+            public @NotNull Class<? extends BaseState> getOptionsClass() {
+                return GuicedEEApplicationConfigurationOptions.class;
+            }
         });
     }
     
@@ -0,0 +1,80 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.Executor;
+import com.intellij.execution.ExecutorRegistry;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.wm.ToolWindowId;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+
+/**
+ * Runs a Guiced EE application with a tight Vert.x blocked thread checker and a recording of blocking calls on its event
+ * loops, shown in the event loop blocking tool window.
+ */
+public class GuicedEEDetectBlockingExecutor extends Executor {
+
+    public static final String EXECUTOR_ID = "GuicedEEDetectBlocking";
+
+    @Nullable
+    public static Executor getInstance() {
+        return ExecutorRegistry.getInstance().getExecutorById(EXECUTOR_ID);
+    }
+
+    @NotNull
+    @Override
+    public String getToolWindowId() {
+        return ToolWindowId.RUN;
+    }
+
+    @NotNull
+    @Override
+    public Icon getToolWindowIcon() {
+        return AllIcons.Toolwindows.ToolWindowRun;
+    }
+
+    @NotNull
+    @Override
+    public Icon getIcon() {
+        return AllIcons.Actions.Pause;
+    }
+
+    @Override
+    public Icon getDisabledIcon() {
+        return null;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Run the selected GuicedEE configuration and report blocking calls on Vert.x event loops";
+    }
+
+    @NotNull
+    @Override
+    public String getActionName() {
+        return "Detect Event-Loop Blocking";
+    }
+
+    @NotNull
+    @Override
+    public String getId() {
+        return EXECUTOR_ID;
+    }
+
+    @NotNull
+    @Override
+    public String getStartActionText() {
+        return "Detect Event-Loop Blocking";
+    }
+
+    @Override
+    public String getContextActionId() {
+        return "GuicedEEDetectBlockingContext";
+    }
+
+    @Override
+    public String getHelpId() {
+        return null;
+    }
+}
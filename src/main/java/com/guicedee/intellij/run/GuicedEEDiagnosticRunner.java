@@ -0,0 +1,45 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.ExecutionResult;
+import com.intellij.execution.configurations.RunProfile;
+import com.intellij.execution.configurations.RunProfileState;
+import com.intellij.execution.configurations.RunnerSettings;
+import com.intellij.execution.runners.ExecutionEnvironment;
+import com.intellij.execution.runners.GenericProgramRunner;
+import com.intellij.execution.runners.RunContentBuilder;
+import com.intellij.execution.ui.RunContentDescriptor;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs Guiced EE application configurations with the {@link GuicedEEProfileStartupExecutor} and the
+ * {@link GuicedEEDetectBlockingExecutor}. The recordings themselves are set up by {@link GuicedEEApplicationCommandLineState}.
+ */
+public class GuicedEEDiagnosticRunner extends GenericProgramRunner<RunnerSettings> {
+
+    @NotNull
+    @Override
+    public String getRunnerId() {
+        return "GuicedEEDiagnosticRunner";
+    }
+
+    @Override
+    public boolean canRun(@NotNull String executorId, @NotNull RunProfile profile) {
+        return (GuicedEEProfileStartupExecutor.EXECUTOR_ID.equals(executorId) || GuicedEEDetectBlockingExecutor.EXECUTOR_ID.equals(executorId))
+                && profile instanceof GuicedEEApplicationConfiguration;
+    }
+
+    @Nullable
+    @Override
+    protected RunContentDescriptor doExecute(@NotNull RunProfileState state, @NotNull ExecutionEnvironment environment)
+            throws ExecutionException {
+        FileDocumentManager.getInstance().saveAllDocuments();
+        ExecutionResult result = state.execute(environment.getExecutor(), this);
+        if (result == null) {
+            return null;
+        }
+        return new RunContentBuilder(result, environment).showRunContent(environment.getContentToReuse());
+    }
+}
@@ -0,0 +1,248 @@
+package com.guicedee.intellij.run;
+
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Indexes the GuicedEE entry points: {@code main} methods calling {@code IGuiceContext.instance()}, {@code inject()} or
+ * {@code registerModule(..)}, keyed by the qualified name of the main class, with the offsets of their name identifiers.
+ * <p>
+ * The indexer cannot resolve references, so it records the methods whose calls look like GuicedEE calls as written.
+ * {@link #isEntryPoint(PsiMethod)} then resolves the calls of the candidates only, and caches the result until the next
+ * change, so that run markers and run configuration producers do not walk every main method on each highlighting pass.
+ */
+public class GuicedEEEntryPointIndex extends FileBasedIndexExtension<String, List<Integer>> {
+
+    public static final ID<String, List<Integer>> NAME = ID.create("com.guicedee.run.entryPoints");
+
+    private static final Set<String> CONTEXT_METHODS = Set.of("instance", "inject", "registerModule");
+    private static final Set<String> CONTEXT_CLASS_NAMES = Set.of("IGuiceContext", "GuiceContext");
+
+    @NotNull
+    @Override
+    public ID<String, List<Integer>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+        return inputData -> {
+            CharSequence text = inputData.getContentAsText();
+            if (!StringUtil.contains(text, "GuiceContext") || !StringUtil.contains(text, "main")) {
+                return Collections.emptyMap();
+            }
+            Map<String, List<Integer>> result = new HashMap<>();
+            inputData.getPsiFile().accept(new JavaRecursiveElementWalkingVisitor() {
+                @Override
+                public void visitMethod(@NotNull PsiMethod method) {
+                    super.visitMethod(method);
+                    PsiClass containingClass = method.getContainingClass();
+                    PsiIdentifier nameIdentifier = method.getNameIdentifier();
+                    String className = containingClass != null ? containingClass.getQualifiedName() : null;
+                    if (className != null && nameIdentifier != null && isMainSignature(method) && callsContextAsWritten(method)) {
+                        result.computeIfAbsent(className, k -> new ArrayList<>()).add(nameIdentifier.getTextRange().getStartOffset());
+                    }
+                }
+            });
+            return result;
+        };
+    }
+
+    /**
+     * Checks the signature of a launchable {@code main} method without resolving its parameter type.
+     */
+    private static boolean isMainSignature(@NotNull PsiMethod method) {
+        PsiTypeElement returnType = method.getReturnTypeElement();
+        return "main".equals(method.getName())
+                && method.hasModifierProperty(PsiModifier.STATIC)
+                && returnType != null && PsiTypes.voidType().equals(returnType.getType())
+                && method.getParameterList().getParametersCount() <= 1;
+    }
+
+    private static boolean callsContextAsWritten(@NotNull PsiMethod method) {
+        boolean[] found = {false};
+        method.accept(new JavaRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+                if (found[0]) {
+                    return;
+                }
+                super.visitMethodCallExpression(expression);
+                PsiReferenceExpression methodExpression = expression.getMethodExpression();
+                if (!CONTEXT_METHODS.contains(methodExpression.getReferenceName())) {
+                    return;
+                }
+                // IGuiceContext.registerModule(..), IGuiceContext.instance().inject(), or a static import
+                PsiExpression qualifier = methodExpression.getQualifierExpression();
+                while (qualifier instanceof PsiMethodCallExpression call) {
+                    qualifier = call.getMethodExpression().getQualifierExpression();
+                }
+                if (qualifier == null || qualifier instanceof PsiReferenceExpression reference
+                        && CONTEXT_CLASS_NAMES.contains(reference.getReferenceName())) {
+                    found[0] = true;
+                }
+            }
+        });
+        return found[0];
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<Integer>> getValueExternalizer() {
+        return new DataExternalizer<>() {
+            @Override
+            public void save(@NotNull DataOutput out, List<Integer> value) throws IOException {
+                DataInputOutputUtil.writeINT(out, value.size());
+                for (int offset : value) {
+                    DataInputOutputUtil.writeINT(out, offset);
+                }
+            }
+
+            @Override
+            public List<Integer> read(@NotNull DataInput in) throws IOException {
+                int size = DataInputOutputUtil.readINT(in);
+                List<Integer> offsets = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    offsets.add(DataInputOutputUtil.readINT(in));
+                }
+                return offsets;
+            }
+        };
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code method} is a GuicedEE entry point. Needs a read action and smart mode.
+     */
+    public static boolean isEntryPoint(@NotNull PsiMethod method) {
+        PsiIdentifier nameIdentifier = method.getNameIdentifier();
+        PsiFile file = method.getContainingFile();
+        VirtualFile virtualFile = file != null ? file.getViewProvider().getVirtualFile() : null;
+        if (nameIdentifier == null || virtualFile == null) {
+            return false;
+        }
+        int offset = nameIdentifier.getTextRange().getStartOffset();
+        Map<String, List<Integer>> fileData = FileBasedIndex.getInstance().getFileData(NAME, virtualFile, method.getProject());
+        for (List<Integer> offsets : fileData.values()) {
+            if (offsets.contains(offset)) {
+                return callsGuiceContext(method);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the entry points declared within {@code scope}. Needs a read action and smart mode.
+     */
+    @NotNull
+    public static List<PsiMethod> findEntryPoints(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        Set<VirtualFile> files = new LinkedHashSet<>();
+        index.processAllKeys(NAME, className -> {
+            files.addAll(index.getContainingFiles(NAME, className, scope));
+            return true;
+        }, scope, null);
+
+        PsiManager psiManager = PsiManager.getInstance(project);
+        List<PsiMethod> entryPoints = new ArrayList<>();
+        for (VirtualFile virtualFile : files) {
+            PsiFile file = psiManager.findFile(virtualFile);
+            if (file == null) {
+                continue;
+            }
+            for (List<Integer> offsets : index.getFileData(NAME, virtualFile, project).values()) {
+                for (int offset : offsets) {
+                    PsiElement element = file.findElementAt(offset);
+                    if (element instanceof PsiIdentifier && element.getParent() instanceof PsiMethod method
+                            && callsGuiceContext(method)) {
+                        entryPoints.add(method);
+                    }
+                }
+            }
+        }
+        return entryPoints;
+    }
+
+    /**
+     * Resolves the calls of {@code method}, looking for the {@code IGuiceContext} methods.
+     */
+    private static boolean callsGuiceContext(@NotNull PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, () -> {
+            boolean[] found = {false};
+            method.accept(new JavaRecursiveElementWalkingVisitor() {
+                @Override
+                public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+                    if (found[0]) {
+                        return;
+                    }
+                    super.visitMethodCallExpression(expression);
+                    if (!CONTEXT_METHODS.contains(expression.getMethodExpression().getReferenceName())) {
+                        return;
+                    }
+                    PsiMethod called = expression.resolveMethod();
+                    PsiClass calledClass = called != null ? called.getContainingClass() : null;
+                    if (InheritanceUtil.isInheritor(calledClass, GuiceClasses.GUICE_CONTEXT)) {
+                        found[0] = true;
+                    }
+                }
+            });
+            return CachedValueProvider.Result.create(found[0], PsiModificationTracker.MODIFICATION_COUNT);
+        });
+    }
+
+    /**
+     * Returns the entry point among the methods of {@code psiClass}, or {@code null}.
+     */
+    @Nullable
+    public static PsiMethod findEntryPoint(@NotNull PsiClass psiClass) {
+        for (PsiMethod method : psiClass.findMethodsByName("main", false)) {
+            if (isEntryPoint(method)) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
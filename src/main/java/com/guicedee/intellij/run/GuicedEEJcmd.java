@@ -0,0 +1,57 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.intellij.execution.process.BaseProcessHandler;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessOutput;
+import com.intellij.execution.util.ExecUtil;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.openapi.util.SystemInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs diagnostic commands against a running Guiced EE application with {@code jcmd} of the JDK it was started with.
+ */
+public final class GuicedEEJcmd {
+
+    private static final int TIMEOUT_MILLIS = 30_000;
+
+    private GuicedEEJcmd() {
+    }
+
+    /**
+     * Runs {@code jcmd <pid> command...} for the process of {@code handler}. Must not be called on the event dispatch thread.
+     *
+     * @return an error message, or {@code null} if the command succeeded
+     */
+    @Nullable
+    public static String execute(@NotNull ProcessHandler handler, @Nullable Sdk jdk, @NotNull String... command) {
+        String homePath = jdk != null ? jdk.getHomePath() : null;
+        if (homePath == null || !(handler instanceof BaseProcessHandler<?> processHandler)) {
+            return "the JDK of the process is unknown";
+        }
+        Path jcmd = Path.of(homePath, "bin", SystemInfo.isWindows ? "jcmd.exe" : "jcmd");
+        if (!Files.isRegularFile(jcmd)) {
+            return jcmd + " not found";
+        }
+        List<String> arguments = new ArrayList<>();
+        arguments.add(jcmd.toString());
+        arguments.add(Long.toString(processHandler.getProcess().pid()));
+        arguments.addAll(List.of(command));
+        try {
+            ProcessOutput output = ExecUtil.execAndGetOutput(new GeneralCommandLine(arguments), TIMEOUT_MILLIS);
+            if (output.getExitCode() != 0 || output.isTimeout()) {
+                return "jcmd failed: " + (output.isTimeout() ? "timed out" : output.getStdout() + output.getStderr()).trim();
+            }
+            return null;
+        } catch (Exception e) {
+            return "jcmd failed: " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.configurations.ParametersList;
+import com.intellij.util.lang.JavaVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JVM tuning presets offered by Guiced EE run configurations.
+ * The preset only seeds the VM options of a configuration, which can then be edited and are stored with it.
+ */
+public enum GuicedEEPerformancePreset {
+    NONE("None", ""),
+    THROUGHPUT("Throughput",
+            "-XX:+UseParallelGC -XX:+UseNUMA -XX:+AlwaysPreTouch -XX:MaxRAMPercentage=75"),
+    LOW_LATENCY("Low latency",
+            "-XX:+UseZGC -XX:+ZGenerational -XX:+AlwaysPreTouch -XX:MaxRAMPercentage=75"),
+    LOW_MEMORY("Low memory",
+            "-XX:+UseSerialGC -XX:MaxRAMPercentage=50 -XX:MaxMetaspaceSize=128m -XX:CompressedClassSpaceSize=32m "
+                    + "-XX:ReservedCodeCacheSize=32m -Xss512k"),
+    STARTUP("Fast startup",
+            "-XX:TieredStopAtLevel=1 -XX:+UseSerialGC -Xshare:auto -XX:-UsePerfData");
+
+    private static final String Z_GENERATIONAL = "-XX:+ZGenerational";
+
+    private final String presentableName;
+    private final String vmOptions;
+
+    GuicedEEPerformancePreset(@NotNull String presentableName, @NotNull String vmOptions) {
+        this.presentableName = presentableName;
+        this.vmOptions = vmOptions;
+    }
+
+    @NotNull
+    public String getPresentableName() {
+        return presentableName;
+    }
+
+    /**
+     * Returns the default VM options of this preset.
+     */
+    @NotNull
+    public String getVmOptions() {
+        return vmOptions;
+    }
+
+    @NotNull
+    public static GuicedEEPerformancePreset fromName(@Nullable String name) {
+        for (GuicedEEPerformancePreset preset : values()) {
+            if (preset.name().equals(name)) {
+                return preset;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Adds preset VM options to {@code vmParameters}, dropping the flags the target JDK does not accept:
+     * {@code -XX:+ZGenerational} is unknown before JDK 21 and obsolete from JDK 24, where ZGC is always generational.
+     */
+    public static void addVmOptions(@NotNull ParametersList vmParameters, @Nullable String options,
+                                    @Nullable JavaVersion jdkVersion) {
+        if (options == null || options.isBlank()) {
+            return;
+        }
+        boolean zGenerational = jdkVersion != null && jdkVersion.feature >= 21 && jdkVersion.feature < 24;
+        for (String option : ParametersList.parse(options)) {
+            if (Z_GENERATIONAL.equals(option) && !zGenerational) {
+                continue;
+            }
+            vmParameters.add(option);
+        }
+    }
+}
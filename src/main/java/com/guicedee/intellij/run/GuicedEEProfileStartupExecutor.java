@@ -0,0 +1,79 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.Executor;
+import com.intellij.execution.ExecutorRegistry;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.wm.ToolWindowId;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+
+/**
+ * Runs a Guiced EE application with a Java Flight Recording of its startup, shown in the startup profiler tool window.
+ */
+public class GuicedEEProfileStartupExecutor extends Executor {
+
+    public static final String EXECUTOR_ID = "GuicedEEProfileStartup";
+
+    @Nullable
+    public static Executor getInstance() {
+        return ExecutorRegistry.getInstance().getExecutorById(EXECUTOR_ID);
+    }
+
+    @NotNull
+    @Override
+    public String getToolWindowId() {
+        return ToolWindowId.RUN;
+    }
+
+    @NotNull
+    @Override
+    public Icon getToolWindowIcon() {
+        return AllIcons.Toolwindows.ToolWindowRun;
+    }
+
+    @NotNull
+    @Override
+    public Icon getIcon() {
+        return AllIcons.Actions.ProfileCPU;
+    }
+
+    @Override
+    public Icon getDisabledIcon() {
+        return null;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Run the selected GuicedEE configuration and profile its startup";
+    }
+
+    @NotNull
+    @Override
+    public String getActionName() {
+        return "Profile Startup";
+    }
+
+    @NotNull
+    @Override
+    public String getId() {
+        return EXECUTOR_ID;
+    }
+
+    @NotNull
+    @Override
+    public String getStartActionText() {
+        return "Profile Startup";
+    }
+
+    @Override
+    public String getContextActionId() {
+        return "GuicedEEProfileStartupContext";
+    }
+
+    @Override
+    public String getHelpId() {
+        return null;
+    }
+}
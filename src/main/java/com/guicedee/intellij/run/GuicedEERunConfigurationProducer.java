@@ -3,12 +3,15 @@ package com.guicedee.intellij.run;
 import com.intellij.execution.actions.ConfigurationContext;
 import com.intellij.execution.actions.LazyRunConfigurationProducer;
 import com.intellij.execution.configurations.ConfigurationFactory;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.util.Comparing;
 import com.intellij.openapi.util.Ref;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Produces run configurations for Guiced EE applications.
+ * Produces run configurations for Guiced EE applications, the main methods found by {@link GuicedEEEntryPointIndex}.
  */
 public class GuicedEERunConfigurationProducer extends LazyRunConfigurationProducer<GuicedEEApplicationConfiguration> {
 
@@ -37,14 +40,20 @@ public class GuicedEERunConfigurationProducer extends LazyRunConfigurationProduc
             return false;
         }
 
-        // Check if the method contains GuiceContext.inject() call
-        if (!containsGuiceContextInject(method)) {
+        // Check if the method calls IGuiceContext
+        if (!GuicedEEEntryPointIndex.isEntryPoint(method)) {
+            return false;
+        }
+
+        String mainClassName = containingClass.getQualifiedName();
+        Module module = ModuleUtilCore.findModuleForPsiElement(containingClass);
+        if (mainClassName == null || module == null) {
             return false;
         }
 
-        // Set up the configuration
         configuration.setName(containingClass.getName());
-        // Additional configuration setup would go here
+        configuration.setMainClassName(mainClassName);
+        configuration.setModuleName(module.getName());
 
         sourceElement.set(method);
         return true;
@@ -68,9 +77,11 @@ public class GuicedEERunConfigurationProducer extends LazyRunConfigurationProduc
             return false;
         }
 
-        // Check if the configuration matches the context
-        return containsGuiceContextInject(method) && 
-               configuration.getName().equals(containingClass.getName());
+        Module module = ModuleUtilCore.findModuleForPsiElement(containingClass);
+        return module != null &&
+               Comparing.strEqual(containingClass.getQualifiedName(), configuration.getMainClassName()) &&
+               module.getName().equals(configuration.getModuleName()) &&
+               GuicedEEEntryPointIndex.isEntryPoint(method);
     }
 
     private PsiMethod findMainMethod(PsiElement element) {
@@ -118,22 +129,4 @@ public class GuicedEERunConfigurationProducer extends LazyRunConfigurationProduc
         }
         return null;
     }
-
-    private boolean containsGuiceContextInject(PsiMethod method) {
-        final boolean[] containsInject = {false};
-        
-        method.accept(new JavaRecursiveElementVisitor() {
-            @Override
-            public void visitMethodCallExpression(PsiMethodCallExpression expression) {
-                super.visitMethodCallExpression(expression);
-                
-                String methodCall = expression.getMethodExpression().getText();
-                if (methodCall.contains("GuiceContext") && methodCall.contains("inject")) {
-                    containsInject[0] = true;
-                }
-            }
-        });
-        
-        return containsInject[0];
-    }
-}
\ No newline at end of file
+}
@@ -3,14 +3,16 @@ package com.guicedee.intellij.run;
 import com.intellij.execution.lineMarker.ExecutorAction;
 import com.intellij.execution.lineMarker.RunLineMarkerContributor;
 import com.intellij.icons.AllIcons;
-import com.intellij.psi.*;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiMethod;
 import com.intellij.psi.util.PsiMethodUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Provides run line markers for Guiced EE applications.
- * A Guiced EE Application is identified by having GuiceContext.inject() inside a public static void main method.
+ * A Guiced EE Application is identified by a main method calling IGuiceContext, as found by {@link GuicedEEEntryPointIndex}.
  */
 public class GuicedEERunLineMarkerContributor extends RunLineMarkerContributor {
 
@@ -24,8 +26,8 @@ public class GuicedEERunLineMarkerContributor extends RunLineMarkerContributor {
 
             // Check if it's a main method
             if (PsiMethodUtil.isMainMethod(method)) {
-                // Check if the method contains GuiceContext.inject() call
-                if (containsGuiceContextInject(method)) {
+                // Check if the method calls IGuiceContext
+                if (GuicedEEEntryPointIndex.isEntryPoint(method)) {
                     return new Info(
                         AllIcons.RunConfigurations.Application,
                         ExecutorAction.getActions(0),
@@ -36,25 +38,4 @@ public class GuicedEERunLineMarkerContributor extends RunLineMarkerContributor {
         }
         return null;
     }
-
-    private boolean containsGuiceContextInject(PsiMethod method) {
-        final boolean[] containsInject = {false};
-
-        method.accept(new JavaRecursiveElementVisitor() {
-            @Override
-            public void visitMethodCallExpression(PsiMethodCallExpression expression) {
-                super.visitMethodCallExpression(expression);
-
-                String methodCall = expression.getMethodExpression().getText();
-                if (methodCall.contains("GuiceContext") && methodCall.contains("inject")) {
-                    containsInject[0] = true;
-                }
-                if (methodCall.contains("IGuiceContext") && methodCall.contains("registerModule")) {
-                    containsInject[0] = true;
-                }
-            }
-        });
-
-        return containsInject[0];
-    }
 }
@@ -0,0 +1,59 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.openapi.util.Key;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the startup time of a Guiced EE application, from the start of the process to the first line of output
+ * matching the startup complete pattern of its run configuration.
+ */
+public class GuicedEEStartupMonitor implements ProcessListener {
+
+    public interface Callback {
+        void startupCompleted(@NotNull ProcessHandler handler, long millis);
+    }
+
+    private final Pattern pattern;
+    private final Callback callback;
+    private volatile long startNanos;
+    private volatile boolean completed;
+
+    public GuicedEEStartupMonitor(@NotNull Pattern pattern, @NotNull Callback callback) {
+        this.pattern = pattern;
+        this.callback = callback;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public void startNotified(@NotNull ProcessEvent event) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+        if (completed || outputType == ProcessOutputTypes.SYSTEM) {
+            return;
+        }
+        if (pattern.matcher(event.getText()).find()) {
+            completed = true;
+            callback.startupCompleted(event.getProcessHandler(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Prints a message of the IDE, rather than of the application, to the console of {@code handler}.
+     */
+    public static void printMessage(@NotNull ProcessHandler handler, @NotNull String message) {
+        handler.notifyTextAvailable(message + "\n", ProcessOutputTypes.SYSTEM);
+    }
+}
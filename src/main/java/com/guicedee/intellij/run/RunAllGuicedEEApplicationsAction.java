@@ -0,0 +1,104 @@
+package com.guicedee.intellij.run;
+
+import com.intellij.execution.RunManager;
+import com.intellij.execution.RunnerAndConfigurationSettings;
+import com.intellij.execution.executors.DefaultRunExecutor;
+import com.intellij.execution.runners.ExecutionUtil;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs every GuicedEE application of the project found by {@link GuicedEEEntryPointIndex}, reusing the existing run
+ * configuration of each main class and creating the missing ones.
+ */
+public class RunAllGuicedEEApplicationsAction extends AnAction {
+
+    private record EntryPoint(String name, String mainClassName, String moduleName) {
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        ReadAction.nonBlocking(() -> findEntryPoints(project))
+                .inSmartMode(project)
+                .expireWith(project)
+                .finishOnUiThread(ModalityState.nonModal(), entryPoints -> run(project, entryPoints))
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    @NotNull
+    private static List<EntryPoint> findEntryPoints(@NotNull Project project) {
+        List<EntryPoint> entryPoints = new ArrayList<>();
+        for (PsiMethod method : GuicedEEEntryPointIndex.findEntryPoints(project, GlobalSearchScope.projectScope(project))) {
+            PsiClass mainClass = method.getContainingClass();
+            String mainClassName = mainClass != null ? mainClass.getQualifiedName() : null;
+            Module module = ModuleUtilCore.findModuleForPsiElement(method);
+            if (mainClassName != null && module != null) {
+                entryPoints.add(new EntryPoint(mainClass.getName(), mainClassName, module.getName()));
+            }
+        }
+        return entryPoints;
+    }
+
+    private static void run(@NotNull Project project, @NotNull List<EntryPoint> entryPoints) {
+        if (entryPoints.isEmpty()) {
+            Messages.showInfoMessage(project, "No main method calling IGuiceContext was found in the project.",
+                    "Run All GuicedEE Applications");
+            return;
+        }
+        for (EntryPoint entryPoint : entryPoints) {
+            ExecutionUtil.runConfiguration(findOrCreateSettings(project, entryPoint), DefaultRunExecutor.getRunExecutorInstance());
+        }
+    }
+
+    @NotNull
+    private static RunnerAndConfigurationSettings findOrCreateSettings(@NotNull Project project, @NotNull EntryPoint entryPoint) {
+        RunManager runManager = RunManager.getInstance(project);
+        for (RunnerAndConfigurationSettings settings :
+                runManager.getConfigurationSettingsList(GuicedEEApplicationConfigurationType.getInstance())) {
+            if (settings.getConfiguration() instanceof GuicedEEApplicationConfiguration configuration
+                    && entryPoint.mainClassName().equals(configuration.getMainClassName())
+                    && entryPoint.moduleName().equals(configuration.getModuleName())) {
+                return settings;
+            }
+        }
+        RunnerAndConfigurationSettings settings = runManager.createConfiguration(entryPoint.name(),
+                GuicedEEApplicationConfigurationType.getInstance().getConfigurationFactories()[0]);
+        GuicedEEApplicationConfiguration configuration = (GuicedEEApplicationConfiguration) settings.getConfiguration();
+        configuration.setMainClassName(entryPoint.mainClassName());
+        configuration.setModuleName(entryPoint.moduleName());
+        runManager.addConfiguration(settings);
+        return settings;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(project != null && !DumbService.isDumb(project));
+    }
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,103 @@
+package com.guicedee.intellij.run.blocking;
+
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the warnings of the Vert.x blocked thread checker from the process output:
+ * <pre>
+ * Thread Thread[#31,vert.x-eventloop-thread-1,5,main] has been blocked for 2531 ms, time limit is 2000 ms
+ * io.vertx.core.VertxException: Thread blocked
+ *     at java.base/java.lang.Thread.sleep(Native Method)
+ *     at com.example.HelloResource.hello(HelloResource.java:20)
+ * </pre>
+ * The stack trace is only printed once the thread is blocked for longer than the warning exception time.
+ */
+public class BlockedThreadOutputParser implements ProcessListener {
+
+    private static final Pattern WARNING = Pattern.compile("Thread Thread\\[(?:#\\d+,)?([^,\\]]+)[^\\]]*\\] has been blocked for (\\d+) ms");
+    private static final Pattern FRAME = Pattern.compile("^\\s*at (?:[^/(\\s]*/)*([\\w$.<>]+)\\.([\\w$<>]+)\\(([^)]*)\\)");
+
+    private final Consumer<BlockingIncident> consumer;
+    private final StringBuilder pending = new StringBuilder();
+    private String threadName;
+    private long blockedMillis;
+    private final List<BlockingIncident.Frame> frames = new ArrayList<>();
+
+    public BlockedThreadOutputParser(@NotNull Consumer<BlockingIncident> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public synchronized void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+        if (outputType == ProcessOutputTypes.SYSTEM) {
+            return;
+        }
+        pending.append(event.getText());
+        int end;
+        while ((end = pending.indexOf("\n")) >= 0) {
+            String line = pending.substring(0, end);
+            pending.delete(0, end + 1);
+            processLine(StringUtil.trimTrailing(line));
+        }
+    }
+
+    @Override
+    public synchronized void processTerminated(@NotNull ProcessEvent event) {
+        if (!pending.isEmpty()) {
+            processLine(pending.toString());
+            pending.setLength(0);
+        }
+        flush();
+    }
+
+    private void processLine(@NotNull String line) {
+        Matcher warning = WARNING.matcher(line);
+        if (warning.find()) {
+            flush();
+            threadName = warning.group(1);
+            blockedMillis = Long.parseLong(warning.group(2));
+            return;
+        }
+        if (threadName == null) {
+            return;
+        }
+        Matcher frame = FRAME.matcher(line);
+        if (frame.find()) {
+            frames.add(parseFrame(frame));
+        } else if (!frames.isEmpty() || !line.contains("Thread blocked")) {
+            // the exception line precedes the frames, anything else ends the warning
+            flush();
+        }
+    }
+
+    @NotNull
+    private static BlockingIncident.Frame parseFrame(@NotNull Matcher frame) {
+        String location = frame.group(3);
+        int colon = location.lastIndexOf(':');
+        if (colon > 0) {
+            int line = StringUtil.parseInt(location.substring(colon + 1), -1);
+            return new BlockingIncident.Frame(frame.group(1), frame.group(2), location.substring(0, colon), line);
+        }
+        String fileName = location.endsWith(".java") ? location : null;
+        return new BlockingIncident.Frame(frame.group(1), frame.group(2), fileName, -1);
+    }
+
+    private void flush() {
+        if (threadName != null) {
+            consumer.accept(new BlockingIncident(threadName, blockedMillis, BlockingIncident.VERTX_CHECKER, List.copyOf(frames)));
+        }
+        threadName = null;
+        frames.clear();
+    }
+}
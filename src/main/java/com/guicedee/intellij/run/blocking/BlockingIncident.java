@@ -0,0 +1,35 @@
+package com.guicedee.intellij.run.blocking;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * An event loop thread blocked for longer than the threshold, with the stack trace of the blocking call, innermost first.
+ *
+ * @param source the Vert.x blocked thread checker, or the name of the JFR event
+ */
+public record BlockingIncident(@NotNull String threadName, long blockedMillis, @NotNull String source,
+                               @NotNull List<Frame> frames) {
+
+    public static final String VERTX_CHECKER = "Vert.x blocked thread checker";
+
+    /**
+     * A frame of the stack trace, with its binary class name.
+     */
+    public record Frame(@NotNull String className, @NotNull String methodName, @Nullable String fileName, int line) {
+
+        @Override
+        public String toString() {
+            String location = fileName != null ? fileName + (line > 0 ? ":" + line : "") : "Unknown Source";
+            return StringUtil.getShortName(className) + "." + methodName + "(" + location + ")";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return threadName + " blocked for " + blockedMillis + " ms (" + source + ")";
+    }
+}
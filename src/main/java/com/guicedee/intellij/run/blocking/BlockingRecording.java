@@ -0,0 +1,144 @@
+package com.guicedee.intellij.run.blocking;
+
+import com.intellij.execution.configurations.JavaParameters;
+import com.intellij.execution.configurations.ParametersList;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.lang.JavaVersion;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Sets up the detection of blocking calls on the Vert.x event loops of a Guiced EE application.
+ * <p>
+ * The Vert.x blocked thread checker is tightened through the {@code vertx.options.*} system properties, and its warnings are
+ * read by {@link BlockedThreadOutputParser}. Since the application may create its {@code Vertx} with options of its own,
+ * a Java Flight Recording of the thread park, monitor, sleep, socket and file events longer than the threshold is taken
+ * as well, and the events of event loop threads are read from it when the process exits.
+ */
+public final class BlockingRecording {
+
+    private static final String EVENT_LOOP_THREAD_PREFIX = "vert.x-eventloop-thread";
+    private static final List<String> BLOCKING_EVENTS = List.of(
+            "jdk.ThreadPark", "jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadSleep",
+            "jdk.SocketRead", "jdk.SocketWrite", "jdk.FileRead", "jdk.FileWrite"
+    );
+
+    private final Path recordingFile;
+    private final Path settingsFile;
+    private final int checkIntervalMillis;
+    private final int thresholdMillis;
+    private boolean recording;
+
+    private BlockingRecording(@NotNull Path recordingFile, @NotNull Path settingsFile, int checkIntervalMillis, int thresholdMillis) {
+        this.recordingFile = recordingFile;
+        this.settingsFile = settingsFile;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @NotNull
+    public static BlockingRecording create(@NotNull Project project, @NotNull String configurationName,
+                                           int checkIntervalMillis, int thresholdMillis) {
+        Path directory = Path.of(PathManager.getSystemPath(), "guicedee-blocking", project.getLocationHash());
+        String baseName = FileUtil.sanitizeFileName(configurationName) + "-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        return new BlockingRecording(directory.resolve(baseName + ".jfr"), directory.resolve(baseName + ".jfc"),
+                checkIntervalMillis, thresholdMillis);
+    }
+
+    public int getCheckIntervalMillis() {
+        return checkIntervalMillis;
+    }
+
+    /**
+     * Returns {@code true} if a flight recording was started, which needs JDK 11.
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    @NotNull
+    public Path getRecordingFile() {
+        return recordingFile;
+    }
+
+    /**
+     * Adds the Vert.x checker options, and the options starting the recording if the JDK supports it, to {@code params}.
+     */
+    public void addVmOptions(@NotNull JavaParameters params, @Nullable JavaVersion jdkVersion) throws IOException {
+        ParametersList vmParameters = params.getVMParametersList();
+        vmParameters.addProperty("vertx.options.blockedThreadCheckInterval", Integer.toString(checkIntervalMillis));
+        vmParameters.addProperty("vertx.options.blockedThreadCheckIntervalUnit", "MILLISECONDS");
+        vmParameters.addProperty("vertx.options.maxEventLoopExecuteTime", Integer.toString(thresholdMillis));
+        vmParameters.addProperty("vertx.options.maxEventLoopExecuteTimeUnit", "MILLISECONDS");
+        // print the stack trace with the first warning
+        vmParameters.addProperty("vertx.options.warningExceptionTime", Integer.toString(thresholdMillis));
+        vmParameters.addProperty("vertx.options.warningExceptionTimeUnit", "MILLISECONDS");
+
+        if (jdkVersion == null || jdkVersion.feature < 11) {
+            return;
+        }
+        StringBuilder events = new StringBuilder();
+        for (String event : BLOCKING_EVENTS) {
+            events.append("""
+                      <event name="%s">
+                        <setting name="enabled">true</setting>
+                        <setting name="stackTrace">true</setting>
+                        <setting name="threshold">%d ms</setting>
+                      </event>
+                    """.formatted(event, thresholdMillis));
+        }
+        Files.createDirectories(settingsFile.getParent());
+        Files.writeString(settingsFile, """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <configuration version="2.0" label="GuicedEE Event Loop Blocking" provider="GuicedEE">
+                %s</configuration>
+                """.formatted(events), StandardCharsets.UTF_8);
+        vmParameters.add("-XX:StartFlightRecording=name=guicedee-blocking,settings=" + settingsFile
+                + ",filename=" + recordingFile + ",dumponexit=true");
+        recording = true;
+    }
+
+    /**
+     * Reads the events of event loop threads from the recording written on exit. Must be called in a background task.
+     */
+    public void read(@NotNull Consumer<BlockingIncident> consumer) throws IOException {
+        try (RecordingFile file = new RecordingFile(recordingFile)) {
+            while (file.hasMoreEvents()) {
+                ProgressManager.checkCanceled();
+                RecordedEvent event = file.readEvent();
+                RecordedThread thread = event.getThread();
+                String threadName = thread != null ? thread.getJavaName() : null;
+                if (threadName == null || !threadName.startsWith(EVENT_LOOP_THREAD_PREFIX) || event.getStackTrace() == null) {
+                    continue;
+                }
+                List<BlockingIncident.Frame> frames = new ArrayList<>();
+                for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                    if (frame.isJavaFrame() && frame.getMethod() != null) {
+                        String className = frame.getMethod().getType().getName();
+                        frames.add(new BlockingIncident.Frame(className, frame.getMethod().getName(),
+                                null, frame.getLineNumber()));
+                    }
+                }
+                consumer.accept(new BlockingIncident(threadName, event.getDuration().toMillis(),
+                        event.getEventType().getLabel(), frames));
+            }
+        }
+    }
+}
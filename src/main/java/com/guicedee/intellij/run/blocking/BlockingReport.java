@@ -0,0 +1,76 @@
+package com.guicedee.intellij.run.blocking;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The blocking incidents of one run, collected from any thread and shown by {@link EventLoopBlockingPanel}.
+ * <p>
+ * The Vert.x checker warns about a blocked thread at every check until it is released, so a warning for the same thread
+ * that grew by about the time elapsed since the previous one replaces it instead of counting as a new incident.
+ */
+public final class BlockingReport {
+
+    private record LastWarning(int index, long blockedMillis, long receivedMillis) {
+    }
+
+    private final long checkIntervalMillis;
+    private final List<BlockingIncident> incidents = new ArrayList<>();
+    private final Map<String, LastWarning> lastWarnings = new HashMap<>();
+    private Runnable listener;
+
+    public BlockingReport(long checkIntervalMillis) {
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    public void add(@NotNull BlockingIncident incident) {
+        Runnable toNotify;
+        synchronized (this) {
+            if (BlockingIncident.VERTX_CHECKER.equals(incident.source())) {
+                long now = System.currentTimeMillis();
+                LastWarning last = lastWarnings.get(incident.threadName());
+                boolean continued = last != null && incident.blockedMillis() > last.blockedMillis()
+                        && Math.abs((now - last.receivedMillis()) - (incident.blockedMillis() - last.blockedMillis()))
+                        <= checkIntervalMillis + 50;
+                int index;
+                if (continued && (incident.frames().size() >= incidents.get(last.index()).frames().size())) {
+                    index = last.index();
+                    incidents.set(index, incident);
+                } else if (continued) {
+                    // keep the stack trace of the earlier warning
+                    index = last.index();
+                    BlockingIncident previous = incidents.get(index);
+                    incidents.set(index, new BlockingIncident(previous.threadName(), incident.blockedMillis(),
+                            previous.source(), previous.frames()));
+                } else {
+                    index = incidents.size();
+                    incidents.add(incident);
+                }
+                lastWarnings.put(incident.threadName(), new LastWarning(index, incident.blockedMillis(), now));
+            } else {
+                incidents.add(incident);
+            }
+            toNotify = listener;
+        }
+        if (toNotify != null) {
+            toNotify.run();
+        }
+    }
+
+    @NotNull
+    public synchronized List<BlockingIncident> getIncidents() {
+        return List.copyOf(incidents);
+    }
+
+    /**
+     * Sets the listener called, on any thread, after an incident is added.
+     */
+    public synchronized void setListener(@Nullable Runnable listener) {
+        this.listener = listener;
+    }
+}
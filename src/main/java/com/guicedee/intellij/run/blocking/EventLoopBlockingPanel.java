@@ -0,0 +1,237 @@
+package com.guicedee.intellij.run.blocking;
+
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.ui.ColoredTreeCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.PsiNavigateUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shows a {@link BlockingReport} as a tree of the incidents grouped by their first frame in the project sources, most
+ * frequent first. Double-clicking a group or a frame navigates to its source.
+ */
+final class EventLoopBlockingPanel extends JPanel {
+
+    private static final String NO_PROJECT_FRAME = "No frame in the project sources";
+
+    private final Project project;
+    private final BlockingReport report;
+    private final Tree tree = new Tree();
+    private final JBLabel summary = new JBLabel();
+    private final Map<String, Boolean> projectClasses = new ConcurrentHashMap<>();
+
+    EventLoopBlockingPanel(@NotNull Project project, @NotNull BlockingReport report) {
+        super(new BorderLayout());
+        this.project = project;
+        this.report = report;
+
+        tree.setRootVisible(false);
+        tree.setShowsRootHandles(true);
+        tree.setCellRenderer(new BlockingTreeCellRenderer());
+        tree.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                TreePath path = tree.getSelectionPath();
+                if (e.getClickCount() != 2 || path == null
+                        || !(path.getLastPathComponent() instanceof DefaultMutableTreeNode node)) {
+                    return;
+                }
+                if (node.getUserObject() instanceof BlockingIncident.Frame frame) {
+                    navigate(frame);
+                } else if (node.getUserObject() instanceof Group group && group.frame != null) {
+                    navigate(group.frame);
+                }
+            }
+        });
+        summary.setBorder(JBUI.Borders.empty(4, 8));
+
+        add(summary, BorderLayout.NORTH);
+        add(new JBScrollPane(tree), BorderLayout.CENTER);
+        summary.setText("No blocked event loop reported yet");
+        report.setListener(this::queueRefresh);
+        queueRefresh();
+    }
+
+    /**
+     * Groups the incidents in a background read action, once indexing is done, and shows them on the EDT. Refreshes
+     * queued while one is pending are coalesced into the latest.
+     */
+    private void queueRefresh() {
+        ReadAction.nonBlocking(() -> groupIncidents(report.getIncidents()))
+                .inSmartMode(project)
+                .coalesceBy(this)
+                .expireWith(project)
+                .finishOnUiThread(ModalityState.nonModal(), this::show)
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    @NotNull
+    private List<Group> groupIncidents(@NotNull List<BlockingIncident> incidents) {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        for (BlockingIncident incident : incidents) {
+            BlockingIncident.Frame frame = findProjectFrame(incident);
+            String key = frame != null ? frame.className() + "." + frame.methodName() : NO_PROJECT_FRAME;
+            groups.computeIfAbsent(key, k -> new Group(frame)).add(incident);
+        }
+        List<Group> sorted = new ArrayList<>(groups.values());
+        sorted.sort(Comparator.comparingInt((Group group) -> group.incidents.size())
+                .thenComparingLong(group -> group.totalMillis).reversed());
+        for (Group group : sorted) {
+            group.incidents.sort(Comparator.comparingLong(BlockingIncident::blockedMillis).reversed());
+        }
+        return sorted;
+    }
+
+    private void show(@NotNull List<Group> groups) {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode();
+        int incidentCount = 0;
+        for (Group group : groups) {
+            DefaultMutableTreeNode groupNode = new DefaultMutableTreeNode(group);
+            for (BlockingIncident incident : group.incidents) {
+                DefaultMutableTreeNode incidentNode = new DefaultMutableTreeNode(incident);
+                for (BlockingIncident.Frame frame : incident.frames()) {
+                    incidentNode.add(new DefaultMutableTreeNode(frame, false));
+                }
+                groupNode.add(incidentNode);
+            }
+            root.add(groupNode);
+            incidentCount += group.incidents.size();
+        }
+        tree.setModel(new DefaultTreeModel(root));
+
+        summary.setText(incidentCount == 0
+                ? "No blocked event loop reported yet"
+                : incidentCount + " blocked event loop " + StringUtil.pluralize("incident", incidentCount)
+                  + " at " + groups.size() + " " + StringUtil.pluralize("location", groups.size()));
+    }
+
+    /**
+     * Returns the innermost frame of {@code incident} in a class of the project sources, which is where the blocking call
+     * is made rather than where the JDK or a library blocks. Needs a read action and smart mode.
+     */
+    @Nullable
+    private BlockingIncident.Frame findProjectFrame(@NotNull BlockingIncident incident) {
+        for (BlockingIncident.Frame frame : incident.frames()) {
+            if (isProjectClass(frame.className())) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private boolean isProjectClass(@NotNull String className) {
+        return projectClasses.computeIfAbsent(className, name -> {
+            if (name.startsWith("java.") || name.startsWith("jdk.") || name.startsWith("sun.")
+                    || name.startsWith("io.vertx.") || name.startsWith("io.netty.")) {
+                return false;
+            }
+            return findClass(name, GlobalSearchScope.projectScope(project)) != null;
+        });
+    }
+
+    private void navigate(@NotNull BlockingIncident.Frame frame) {
+        if (DumbService.getInstance(project).isDumb()) {
+            return;
+        }
+        PsiElement target = ReadAction.compute(() -> {
+            PsiClass psiClass = findClass(frame.className(), GlobalSearchScope.allScope(project));
+            if (psiClass == null) {
+                return null;
+            }
+            PsiMethod[] methods = "<init>".equals(frame.methodName())
+                    ? psiClass.getConstructors()
+                    : psiClass.findMethodsByName(frame.methodName(), false);
+            return methods.length > 0 ? methods[0] : psiClass;
+        });
+        if (target == null) {
+            return;
+        }
+        VirtualFile file = target.getContainingFile() != null ? target.getContainingFile().getVirtualFile() : null;
+        if (file != null && frame.line() > 0 && frame.fileName() != null) {
+            new OpenFileDescriptor(project, file, frame.line() - 1, 0).navigate(true);
+        } else {
+            PsiNavigateUtil.navigate(target);
+        }
+    }
+
+    @Nullable
+    private PsiClass findClass(@NotNull String binaryName, @NotNull GlobalSearchScope scope) {
+        JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+        PsiClass psiClass = facade.findClass(binaryName.replace('$', '.'), scope);
+        int nested = binaryName.indexOf('$');
+        if (psiClass == null && nested > 0) {
+            // anonymous and local classes cannot be found by name, use the top-level class
+            psiClass = facade.findClass(binaryName.substring(0, nested), scope);
+        }
+        return psiClass;
+    }
+
+    private static final class Group {
+        private final BlockingIncident.Frame frame;
+        private final List<BlockingIncident> incidents = new ArrayList<>();
+        private long maxMillis;
+        private long totalMillis;
+
+        private Group(@Nullable BlockingIncident.Frame frame) {
+            this.frame = frame;
+        }
+
+        private void add(@NotNull BlockingIncident incident) {
+            incidents.add(incident);
+            maxMillis = Math.max(maxMillis, incident.blockedMillis());
+            totalMillis += incident.blockedMillis();
+        }
+    }
+
+    private static final class BlockingTreeCellRenderer extends ColoredTreeCellRenderer {
+        @Override
+        public void customizeCellRenderer(@NotNull JTree tree, Object value, boolean selected, boolean expanded,
+                                          boolean leaf, int row, boolean hasFocus) {
+            Object userObject = value instanceof DefaultMutableTreeNode node ? node.getUserObject() : null;
+            if (userObject instanceof Group group) {
+                append(group.frame != null ? group.frame.toString() : NO_PROJECT_FRAME,
+                        group.frame != null ? SimpleTextAttributes.REGULAR_BOLD_ATTRIBUTES : SimpleTextAttributes.GRAYED_BOLD_ATTRIBUTES);
+                append("  " + group.incidents.size() + " " + StringUtil.pluralize("time", group.incidents.size())
+                        + ", max " + group.maxMillis + " ms, total " + group.totalMillis + " ms",
+                        SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            } else if (userObject instanceof BlockingIncident incident) {
+                append(incident.threadName() + " blocked for " + incident.blockedMillis() + " ms");
+                append("  " + incident.source(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            } else if (userObject instanceof BlockingIncident.Frame frame) {
+                append(frame.className() + "." + frame.methodName(), SimpleTextAttributes.REGULAR_ATTRIBUTES);
+                append("  " + frame, SimpleTextAttributes.GRAYED_ATTRIBUTES);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.guicedee.intellij.run.blocking;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+
+/**
+ * The GuicedEE Event Loop tool window, with one tab per run with Detect Event-Loop Blocking.
+ */
+public class EventLoopBlockingToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+    public static final String TOOL_WINDOW_ID = "GuicedEE Event Loop";
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        JBLabel placeholder = new JBLabel("Run a GuicedEE configuration with Detect Event-Loop Blocking to see its blocked event loops",
+                SwingConstants.CENTER);
+        Content content = ContentFactory.getInstance().createContent(placeholder, "", false);
+        content.setCloseable(false);
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    /**
+     * Adds a tab showing {@code report}, which is updated as incidents are added, and shows the tool window.
+     */
+    public static void show(@NotNull Project project, @NotNull String title, @NotNull BlockingReport report) {
+        ApplicationManager.getApplication().invokeLater(() -> {
+            ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(TOOL_WINDOW_ID);
+            if (toolWindow == null) {
+                return;
+            }
+            Content content = ContentFactory.getInstance().createContent(new EventLoopBlockingPanel(project, report), title, false);
+            content.setCloseable(true);
+            toolWindow.getContentManager().addContent(content);
+            toolWindow.getContentManager().setSelectedContent(content);
+            toolWindow.show();
+        }, project.getDisposed());
+    }
+}
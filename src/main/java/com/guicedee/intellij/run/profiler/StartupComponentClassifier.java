@@ -0,0 +1,85 @@
+package com.guicedee.intellij.run.profiler;
+
+import com.guicedee.intellij.guice.constants.GuiceClasses;
+import com.guicedee.intellij.guice.model.GuiceScope;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.InheritanceUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tells which recorded frames belong to a {@link StartupComponentKind}, from the classes of the project and its libraries.
+ * Nested, anonymous and lambda classes count as their top-level class. Must be used in a read action.
+ */
+final class StartupComponentClassifier {
+
+    private final JavaPsiFacade facade;
+    private final GlobalSearchScope scope;
+    private final Map<String, Optional<StartupComponentKind>> kinds = new HashMap<>();
+
+    StartupComponentClassifier(@NotNull Project project) {
+        facade = JavaPsiFacade.getInstance(project);
+        scope = GlobalSearchScope.allScope(project);
+    }
+
+    /**
+     * Returns the kind a frame of {@code methodName} in the class with the binary name {@code className} is attributed to.
+     * Singletons only count their constructors, all other kinds every method.
+     */
+    @Nullable
+    StartupComponentKind classify(@NotNull String className, @NotNull String methodName) {
+        StartupComponentKind kind = kinds.computeIfAbsent(className, name -> Optional.ofNullable(computeKind(name))).orElse(null);
+        if (kind == StartupComponentKind.SINGLETON && !"<init>".equals(methodName)) {
+            return null;
+        }
+        return kind;
+    }
+
+    @Nullable
+    private StartupComponentKind computeKind(@NotNull String className) {
+        if (className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")
+                || className.startsWith("com.google.inject.")) {
+            return null;
+        }
+        PsiClass psiClass = findClass(facade, scope, className);
+        if (psiClass == null || psiClass.isInterface()) {
+            return null;
+        }
+        if (InheritanceUtil.isInheritor(psiClass, GuiceClasses.DATABASE_MODULE)) {
+            return StartupComponentKind.DATABASE_MODULE;
+        }
+        if (InheritanceUtil.isInheritor(psiClass, GuiceClasses.GUICE_PRE_STARTUP)) {
+            return StartupComponentKind.PRE_STARTUP;
+        }
+        if (InheritanceUtil.isInheritor(psiClass, GuiceClasses.GUICE_POST_STARTUP)) {
+            return StartupComponentKind.POST_STARTUP;
+        }
+        if (InheritanceUtil.isInheritor(psiClass, GuiceClasses.MODULE)
+                || InheritanceUtil.isInheritor(psiClass, GuiceClasses.GUICEDEE_ABSTRACT_MODULE)) {
+            return StartupComponentKind.GUICE_MODULE;
+        }
+        if (className.indexOf('$') < 0 && GuiceScope.of(psiClass) == GuiceScope.SINGLETON) {
+            return StartupComponentKind.SINGLETON;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the class of a binary name, or its top-level class for anonymous and synthetic classes.
+     */
+    @Nullable
+    static PsiClass findClass(@NotNull JavaPsiFacade facade, @NotNull GlobalSearchScope scope, @NotNull String className) {
+        PsiClass psiClass = facade.findClass(className.replace('$', '.'), scope);
+        if (psiClass == null && className.indexOf('$') > 0) {
+            psiClass = facade.findClass(className.substring(0, className.indexOf('$')), scope);
+        }
+        return psiClass;
+    }
+}
@@ -0,0 +1,25 @@
+package com.guicedee.intellij.run.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The parts of a Guiced EE startup the startup profiler attributes time and allocations to.
+ */
+public enum StartupComponentKind {
+    GUICE_MODULE("Guice module"),
+    DATABASE_MODULE("Database module"),
+    PRE_STARTUP("Pre-startup hook"),
+    POST_STARTUP("Post-startup hook"),
+    SINGLETON("Singleton constructor");
+
+    private final String presentableName;
+
+    StartupComponentKind(@NotNull String presentableName) {
+        this.presentableName = presentableName;
+    }
+
+    @NotNull
+    public String getPresentableName() {
+        return presentableName;
+    }
+}
@@ -0,0 +1,171 @@
+package com.guicedee.intellij.run.profiler;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.ui.JBColor;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Flame graph of the CPU samples of a {@link StartupProfile}, callers on top. Methods of Guice modules, lifecycle hooks
+ * and singletons are highlighted. Clicking a frame zooms into it, clicking the top frame zooms out, and double-clicking
+ * navigates to the method.
+ */
+final class StartupFlameGraph extends JComponent {
+
+    private static final Color FRAME_COLOR = new JBColor(new Color(0xF2C57C), new Color(0x8A6A30));
+    private static final Color COMPONENT_COLOR = new JBColor(new Color(0x9CC3F0), new Color(0x3D6A99));
+
+    private record Box(StartupProfile.FlameNode node, Rectangle bounds) {
+    }
+
+    private final StartupProfile.FlameNode root;
+    private final Set<String> componentClasses;
+    private final Consumer<StartupProfile.FlameNode> navigator;
+    private final List<Box> boxes = new ArrayList<>();
+    private final List<StartupProfile.FlameNode> zoomPath = new ArrayList<>();
+
+    StartupFlameGraph(@NotNull StartupProfile.FlameNode root, @NotNull Set<String> componentClasses,
+                      @NotNull Consumer<StartupProfile.FlameNode> navigator) {
+        this.root = root;
+        this.componentClasses = componentClasses;
+        this.navigator = navigator;
+        zoomPath.add(root);
+        setFont(JBUI.Fonts.label());
+        setToolTipText("");
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                Box box = findBox(e.getPoint());
+                if (box == null) {
+                    return;
+                }
+                if (e.getClickCount() == 2) {
+                    navigator.accept(box.node());
+                } else if (box.bounds().y == 0 && zoomPath.size() > 1) {
+                    zoomPath.remove(zoomPath.size() - 1);
+                    revalidate();
+                    repaint();
+                } else if (box.bounds().y > 0) {
+                    zoomTo(box.node());
+                }
+            }
+        });
+    }
+
+    private void zoomTo(@NotNull StartupProfile.FlameNode node) {
+        List<StartupProfile.FlameNode> path = new ArrayList<>();
+        if (findPath(zoomPath.get(zoomPath.size() - 1), node, path)) {
+            zoomPath.addAll(path);
+            revalidate();
+            repaint();
+        }
+    }
+
+    private static boolean findPath(@NotNull StartupProfile.FlameNode from, @NotNull StartupProfile.FlameNode to,
+                                    @NotNull List<StartupProfile.FlameNode> path) {
+        for (StartupProfile.FlameNode child : from.getChildren()) {
+            path.add(child);
+            if (child == to || findPath(child, to, path)) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+        }
+        return false;
+    }
+
+    private int getRowHeight() {
+        return getFontMetrics(getFont()).getHeight() + JBUI.scale(4);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(JBUI.scale(400), getRowHeight() * (depth(zoomPath.get(zoomPath.size() - 1)) + 1));
+    }
+
+    private static int depth(@NotNull StartupProfile.FlameNode node) {
+        int depth = 0;
+        for (StartupProfile.FlameNode child : node.getChildren()) {
+            depth = Math.max(depth, depth(child));
+        }
+        return depth + 1;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            UIUtil.applyRenderingHints(g2);
+            g2.setColor(UIUtil.getPanelBackground());
+            g2.fillRect(0, 0, getWidth(), getHeight());
+            boxes.clear();
+            StartupProfile.FlameNode focus = zoomPath.get(zoomPath.size() - 1);
+            if (focus.getSamples() > 0) {
+                paintNode(g2, focus, 0, getWidth(), 0);
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    private void paintNode(@NotNull Graphics2D g, @NotNull StartupProfile.FlameNode node, double x, double width, int row) {
+        int rowHeight = getRowHeight();
+        Rectangle bounds = new Rectangle((int) x, row * rowHeight, Math.max(1, (int) width - 1), rowHeight - 1);
+        boxes.add(new Box(node, bounds));
+        g.setColor(componentClasses.contains(node.getClassName()) ? COMPONENT_COLOR : FRAME_COLOR);
+        g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+
+        String label = row == 0 && zoomPath.size() > 1 ? "← " + node.getPresentableName() : node.getPresentableName();
+        FontMetrics metrics = g.getFontMetrics();
+        if (bounds.width > metrics.charWidth('m') * 3) {
+            g.setColor(UIUtil.getLabelForeground());
+            Shape clip = g.getClip();
+            g.clipRect(bounds.x, bounds.y, bounds.width, bounds.height);
+            g.drawString(label, bounds.x + JBUI.scale(2), bounds.y + metrics.getAscent() + JBUI.scale(2));
+            g.setClip(clip);
+        }
+
+        double childX = x;
+        for (StartupProfile.FlameNode child : node.getChildren()) {
+            double childWidth = width * child.getSamples() / node.getSamples();
+            if (childWidth >= 1) {
+                paintNode(g, child, childX, childWidth, row + 1);
+            }
+            childX += childWidth;
+        }
+    }
+
+    @Nullable
+    private Box findBox(@NotNull Point point) {
+        for (Box box : boxes) {
+            if (box.bounds().contains(point)) {
+                return box;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        Box box = findBox(event.getPoint());
+        if (box == null) {
+            return null;
+        }
+        StartupProfile.FlameNode node = box.node();
+        long percent = root.getSamples() > 0 ? node.getSamples() * 100 / root.getSamples() : 0;
+        return "<html><b>" + StringUtil.escapeXmlEntities(node.getClassName() + "." + node.getMethodName()) + "</b><br>"
+                + node.getSamples() + " samples, ~" + node.getSamples() * StartupRecording.SAMPLE_PERIOD_MILLIS + " ms, "
+                + percent + "% of all samples</html>";
+    }
+}
@@ -0,0 +1,267 @@
+package com.guicedee.intellij.run.profiler;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * A startup recording read back: the CPU samples as a call tree for the flame graph, and the CPU samples, allocations and
+ * class loads attributed to the Guice modules, lifecycle hooks and singletons of the application.
+ * <p>
+ * An event is attributed to the innermost frame of its stack trace that belongs to a {@link StartupComponentKind}, so a
+ * singleton built by a post-startup hook counts for the singleton, not the hook.
+ */
+public final class StartupProfile {
+
+    /**
+     * A Guice module, lifecycle hook or singleton and what was attributed to it.
+     */
+    public static final class Component {
+        private final StartupComponentKind kind;
+        private final String className;
+        private final Map<String, Long> methodSamples = new HashMap<>();
+        private long samples;
+        private long allocatedBytes;
+        private int classesLoaded;
+        private long classLoadingNanos;
+
+        private Component(@NotNull StartupComponentKind kind, @NotNull String className) {
+            this.kind = kind;
+            this.className = className;
+        }
+
+        @NotNull
+        public StartupComponentKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the binary name of the class.
+         */
+        @NotNull
+        public String getClassName() {
+            return className;
+        }
+
+        @NotNull
+        public String getPresentableName() {
+            return StringUtil.getShortName(className, '.');
+        }
+
+        /**
+         * Returns the method of the class with the most CPU samples, the constructor for classes without any.
+         */
+        @NotNull
+        public String getHottestMethod() {
+            return methodSamples.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse("<init>");
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public int getClassesLoaded() {
+            return classesLoaded;
+        }
+
+        public long getClassLoadingNanos() {
+            return classLoadingNanos;
+        }
+    }
+
+    /**
+     * A method of the call tree of the CPU samples.
+     */
+    public static final class FlameNode {
+        private final String className;
+        private final String methodName;
+        private final Map<String, FlameNode> children = new LinkedHashMap<>();
+        private long samples;
+
+        private FlameNode(@NotNull String className, @NotNull String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+        }
+
+        @NotNull
+        public String getClassName() {
+            return className;
+        }
+
+        @NotNull
+        public String getMethodName() {
+            return methodName;
+        }
+
+        @NotNull
+        public String getPresentableName() {
+            return className.isEmpty() ? methodName : StringUtil.getShortName(className, '.') + "." + methodName;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        @NotNull
+        public Collection<FlameNode> getChildren() {
+            return children.values();
+        }
+
+        @NotNull
+        private FlameNode getChild(@NotNull String className, @NotNull String methodName) {
+            return children.computeIfAbsent(className + '#' + methodName, key -> new FlameNode(className, methodName));
+        }
+    }
+
+    private enum EventKind {CPU, ALLOCATION, CLASS_LOAD}
+
+    private final Path recordingFile;
+    private final FlameNode root = new FlameNode("", "all");
+    private final Map<String, Component> components = new LinkedHashMap<>();
+    private long totalAllocatedBytes;
+    private int totalClassesLoaded;
+
+    private StartupProfile(@NotNull Path recordingFile) {
+        this.recordingFile = recordingFile;
+    }
+
+    /**
+     * Reads a recording of {@link StartupRecording}. Must be called in a background task.
+     */
+    @NotNull
+    public static StartupProfile read(@NotNull Project project, @NotNull Path recordingFile) throws IOException {
+        StartupProfile profile = new StartupProfile(recordingFile);
+        StartupComponentClassifier classifier = new StartupComponentClassifier(project);
+        List<RecordedEvent> batch = new ArrayList<>();
+        try (RecordingFile recording = new RecordingFile(recordingFile)) {
+            while (recording.hasMoreEvents()) {
+                ProgressManager.checkCanceled();
+                RecordedEvent event = recording.readEvent();
+                if (kindOf(event) != null && event.getStackTrace() != null) {
+                    batch.add(event);
+                }
+                if (batch.size() == 1000 || !recording.hasMoreEvents()) {
+                    DumbService.getInstance(project).runReadActionInSmartMode(() -> {
+                        for (RecordedEvent recorded : batch) {
+                            profile.add(recorded, classifier);
+                        }
+                    });
+                    batch.clear();
+                }
+            }
+        }
+        return profile;
+    }
+
+    @Nullable
+    private static EventKind kindOf(@NotNull RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case "jdk.ExecutionSample" -> EventKind.CPU;
+            case "jdk.ObjectAllocationSample", "jdk.ObjectAllocationInNewTLAB" -> EventKind.ALLOCATION;
+            case "jdk.ClassLoad" -> EventKind.CLASS_LOAD;
+            default -> null;
+        };
+    }
+
+    private void add(@NotNull RecordedEvent event, @NotNull StartupComponentClassifier classifier) {
+        EventKind kind = Objects.requireNonNull(kindOf(event));
+        RecordedStackTrace stackTrace = Objects.requireNonNull(event.getStackTrace());
+        List<RecordedFrame> frames = new ArrayList<>();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod() != null) {
+                frames.add(frame);
+            }
+        }
+
+        if (kind == EventKind.CPU) {
+            FlameNode node = root;
+            node.samples++;
+            // frames are innermost first
+            for (int i = frames.size() - 1; i >= 0; i--) {
+                node = node.getChild(frames.get(i).getMethod().getType().getName(), frames.get(i).getMethod().getName());
+                node.samples++;
+            }
+        } else if (kind == EventKind.ALLOCATION) {
+            totalAllocatedBytes += getAllocatedBytes(event);
+        } else {
+            totalClassesLoaded++;
+        }
+
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            String methodName = frame.getMethod().getName();
+            StartupComponentKind componentKind = classifier.classify(className, methodName);
+            if (componentKind == null) {
+                continue;
+            }
+            Component component = components.computeIfAbsent(componentKind + ":" + className,
+                    key -> new Component(componentKind, className));
+            switch (kind) {
+                case CPU -> {
+                    component.samples++;
+                    component.methodSamples.merge(methodName, 1L, Long::sum);
+                }
+                case ALLOCATION -> component.allocatedBytes += getAllocatedBytes(event);
+                case CLASS_LOAD -> {
+                    component.classesLoaded++;
+                    component.classLoadingNanos += event.getDuration().toNanos();
+                }
+            }
+            break;
+        }
+    }
+
+    private static long getAllocatedBytes(@NotNull RecordedEvent event) {
+        return event.hasField("weight") ? event.getLong("weight") : event.hasField("tlabSize") ? event.getLong("tlabSize") : 0;
+    }
+
+    @NotNull
+    public Path getRecordingFile() {
+        return recordingFile;
+    }
+
+    @NotNull
+    public FlameNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the components with anything attributed to them, by CPU samples, then allocations.
+     */
+    @NotNull
+    public List<Component> getComponents() {
+        List<Component> result = new ArrayList<>(components.values());
+        result.sort(Comparator.comparingLong(Component::getSamples).thenComparingLong(Component::getAllocatedBytes).reversed());
+        return result;
+    }
+
+    public long getTotalSamples() {
+        return root.samples;
+    }
+
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    public int getTotalClassesLoaded() {
+        return totalClassesLoaded;
+    }
+}
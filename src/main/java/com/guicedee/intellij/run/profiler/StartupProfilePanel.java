@@ -0,0 +1,141 @@
+package com.guicedee.intellij.run.profiler;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.ui.JBSplitter;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.PsiNavigateUtil;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shows a {@link StartupProfile}: a table of the Guice modules, lifecycle hooks and singletons by cost, and the flame graph
+ * of the CPU samples. Double-clicking a row or a frame navigates to its source.
+ */
+final class StartupProfilePanel extends JPanel {
+
+    private static final String[] COLUMNS = {
+            "Component", "Kind", "CPU samples", "CPU time (ms)", "Allocated (KB)", "Classes loaded", "Class loading (ms)"
+    };
+
+    private final Project project;
+
+    StartupProfilePanel(@NotNull Project project, @NotNull StartupProfile profile) {
+        super(new BorderLayout());
+        this.project = project;
+
+        List<StartupProfile.Component> components = profile.getComponents();
+        JBTable table = new JBTable(new ComponentTableModel(components));
+        table.setAutoCreateRowSorter(true);
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int row = table.getSelectedRow();
+                if (e.getClickCount() == 2 && row >= 0) {
+                    StartupProfile.Component component = components.get(table.convertRowIndexToModel(row));
+                    navigate(component.getClassName(), component.getHottestMethod());
+                }
+            }
+        });
+
+        Set<String> componentClasses = new HashSet<>();
+        for (StartupProfile.Component component : components) {
+            componentClasses.add(component.getClassName());
+        }
+        StartupFlameGraph flameGraph = new StartupFlameGraph(profile.getRoot(), componentClasses,
+                node -> navigate(node.getClassName(), node.getMethodName()));
+
+        JBLabel summary = new JBLabel(profile.getTotalSamples() + " CPU samples (~"
+                + profile.getTotalSamples() * StartupRecording.SAMPLE_PERIOD_MILLIS + " ms over all threads), "
+                + StringUtil.formatFileSize(profile.getTotalAllocatedBytes()) + " allocated, "
+                + profile.getTotalClassesLoaded() + " classes loaded. Recording: " + profile.getRecordingFile());
+        summary.setBorder(JBUI.Borders.empty(4, 8));
+
+        JBSplitter splitter = new JBSplitter(true, 0.4f);
+        splitter.setFirstComponent(new JBScrollPane(table));
+        splitter.setSecondComponent(new JBScrollPane(flameGraph));
+        add(summary, BorderLayout.NORTH);
+        add(splitter, BorderLayout.CENTER);
+    }
+
+    private void navigate(@NotNull String className, @NotNull String methodName) {
+        PsiElement target = ReadAction.compute(() -> findTarget(className, methodName));
+        if (target != null) {
+            PsiNavigateUtil.navigate(target);
+        }
+    }
+
+    @Nullable
+    private PsiElement findTarget(@NotNull String className, @NotNull String methodName) {
+        if (className.isEmpty()) {
+            return null;
+        }
+        PsiClass psiClass = StartupComponentClassifier.findClass(JavaPsiFacade.getInstance(project),
+                GlobalSearchScope.allScope(project), className);
+        if (psiClass == null) {
+            return null;
+        }
+        PsiMethod[] methods = "<init>".equals(methodName) ? psiClass.getConstructors() : psiClass.findMethodsByName(methodName, false);
+        return methods.length > 0 ? methods[0] : psiClass;
+    }
+
+    private static final class ComponentTableModel extends AbstractTableModel {
+        private final List<StartupProfile.Component> components;
+
+        private ComponentTableModel(@NotNull List<StartupProfile.Component> components) {
+            this.components = components;
+        }
+
+        @Override
+        public int getRowCount() {
+            return components.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column <= 1 ? String.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            StartupProfile.Component component = components.get(row);
+            return switch (column) {
+                case 0 -> component.getPresentableName();
+                case 1 -> component.getKind().getPresentableName();
+                case 2 -> component.getSamples();
+                case 3 -> component.getSamples() * StartupRecording.SAMPLE_PERIOD_MILLIS;
+                case 4 -> component.getAllocatedBytes() / 1024;
+                case 5 -> (long) component.getClassesLoaded();
+                default -> component.getClassLoadingNanos() / 1_000_000;
+            };
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.guicedee.intellij.run.profiler;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+
+/**
+ * The GuicedEE Startup tool window, with one tab per profiled startup.
+ */
+public class StartupProfilerToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+    public static final String TOOL_WINDOW_ID = "GuicedEE Startup";
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        JBLabel placeholder = new JBLabel("Run a GuicedEE configuration with Profile Startup to see its startup profile",
+                SwingConstants.CENTER);
+        Content content = ContentFactory.getInstance().createContent(placeholder, "", false);
+        content.setCloseable(false);
+        toolWindow.getContentManager().addContent(content);
+    }
+
+    /**
+     * Adds a tab showing {@code profile} and activates the tool window.
+     */
+    public static void show(@NotNull Project project, @NotNull String title, @NotNull StartupProfile profile) {
+        ApplicationManager.getApplication().invokeLater(() -> {
+            ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(TOOL_WINDOW_ID);
+            if (toolWindow == null) {
+                return;
+            }
+            Content content = ContentFactory.getInstance().createContent(new StartupProfilePanel(project, profile), title, false);
+            content.setCloseable(true);
+            toolWindow.getContentManager().addContent(content);
+            toolWindow.getContentManager().setSelectedContent(content);
+            toolWindow.activate(null);
+        }, project.getDisposed());
+    }
+}
@@ -0,0 +1,126 @@
+package com.guicedee.intellij.run.profiler;
+
+import com.guicedee.intellij.run.GuicedEEJcmd;
+import com.intellij.execution.CantRunException;
+import com.intellij.execution.configurations.JavaParameters;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.projectRoots.Sdk;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.lang.JavaVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * A Java Flight Recording of the startup of a Guiced EE application, with CPU samples, class loading and allocation
+ * samples, kept in the IDE system directory.
+ * <p>
+ * The recording is started with the JVM and stopped with {@code jcmd} once the application has started, so the application
+ * keeps running. When that is not possible, it is written when the process exits.
+ */
+public final class StartupRecording {
+
+    public static final String RECORDING_NAME = "guicedee-startup";
+
+    /**
+     * Period of the CPU samples, which is the time a sample stands for.
+     */
+    public static final int SAMPLE_PERIOD_MILLIS = 10;
+
+    private static final int STACK_DEPTH = 256;
+
+    private final Path recordingFile;
+    private final Path settingsFile;
+
+    private StartupRecording(@NotNull Path recordingFile, @NotNull Path settingsFile) {
+        this.recordingFile = recordingFile;
+        this.settingsFile = settingsFile;
+    }
+
+    @NotNull
+    public static StartupRecording create(@NotNull Project project, @NotNull String configurationName) {
+        Path directory = Path.of(PathManager.getSystemPath(), "guicedee-startup", project.getLocationHash());
+        String baseName = FileUtil.sanitizeFileName(configurationName) + "-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        return new StartupRecording(directory.resolve(baseName + ".jfr"), directory.resolve(baseName + ".jfc"));
+    }
+
+    @NotNull
+    public Path getRecordingFile() {
+        return recordingFile;
+    }
+
+    /**
+     * Adds the options starting the recording to {@code params}.
+     */
+    public void addVmOptions(@NotNull JavaParameters params, @Nullable JavaVersion jdkVersion) throws CantRunException {
+        if (jdkVersion == null || jdkVersion.feature < 11) {
+            throw new CantRunException("Profiling the startup needs Java Flight Recorder, available from JDK 11");
+        }
+        try {
+            Files.createDirectories(settingsFile.getParent());
+            Files.writeString(settingsFile, createSettings(jdkVersion), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CantRunException("Cannot write the recording settings " + settingsFile + ": " + e.getMessage());
+        }
+        params.getVMParametersList().add("-XX:FlightRecorderOptions=stackdepth=" + STACK_DEPTH);
+        params.getVMParametersList().add("-XX:StartFlightRecording=name=" + RECORDING_NAME
+                + ",settings=" + settingsFile
+                + ",filename=" + recordingFile
+                + ",dumponexit=true");
+    }
+
+    /**
+     * Stops the recording of a running process with {@code jcmd} of {@code jdk}, which writes it to {@link #getRecordingFile()}.
+     * Must not be called on the event dispatch thread.
+     *
+     * @return an error message, or {@code null} if the recording was written
+     */
+    @Nullable
+    public String stop(@NotNull ProcessHandler handler, @Nullable Sdk jdk) {
+        return GuicedEEJcmd.execute(handler, jdk, "JFR.stop", "name=" + RECORDING_NAME, "filename=" + recordingFile);
+    }
+
+    /**
+     * Samples every thread each {@link #SAMPLE_PERIOD_MILLIS} ms and records every class load. Allocations are sampled with
+     * {@code jdk.ObjectAllocationSample} from JDK 16, and recorded per TLAB before.
+     */
+    @NotNull
+    private static String createSettings(@NotNull JavaVersion jdkVersion) {
+        String allocationEvent = jdkVersion.feature >= 16
+                ? """
+                  <event name="jdk.ObjectAllocationSample">
+                    <setting name="enabled">true</setting>
+                    <setting name="stackTrace">true</setting>
+                    <setting name="throttle">1000/s</setting>
+                  </event>
+                """
+                : """
+                  <event name="jdk.ObjectAllocationInNewTLAB">
+                    <setting name="enabled">true</setting>
+                    <setting name="stackTrace">true</setting>
+                  </event>
+                """;
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <configuration version="2.0" label="GuicedEE Startup" provider="GuicedEE">
+                  <event name="jdk.ExecutionSample">
+                    <setting name="enabled">true</setting>
+                    <setting name="period">%d ms</setting>
+                  </event>
+                  <event name="jdk.ClassLoad">
+                    <setting name="enabled">true</setting>
+                    <setting name="stackTrace">true</setting>
+                    <setting name="threshold">0 ms</setting>
+                  </event>
+                %s</configuration>
+                """.formatted(SAMPLE_PERIOD_MILLIS, allocationEvent);
+    }
+}